@@ -0,0 +1,42 @@
+package com.nghood.christianity.benchmark;
+
+import com.nghood.christianity.model.BibleChapter;
+import com.nghood.christianity.service.BibleDataService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chapter and verse lookups against the loaded corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BibleDataServiceBenchmark {
+
+    private BibleDataService bibleDataService;
+
+    @Setup
+    public void setUp() {
+        bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+    }
+
+    @Benchmark
+    public BibleChapter getChapter() {
+        return bibleDataService.getChapter("John", 3);
+    }
+
+    @Benchmark
+    public int getChapterVerses() {
+        return bibleDataService.getChapter("Genesis", 1).getVerses().size();
+    }
+
+    @Benchmark
+    public String getVerse() {
+        return bibleDataService.getVerse("John", 3, 16);
+    }
+}
@@ -0,0 +1,64 @@
+package com.nghood.christianity.benchmark;
+
+import com.nghood.christianity.model.BibleVerse;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.service.BibleDataService;
+import com.nghood.christianity.service.BibleGameService;
+import com.nghood.christianity.service.GameSessionStore;
+import com.nghood.christianity.service.ScriptureReferenceService;
+import com.nghood.christianity.service.SimilarVerseService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random verse draws over 1, 10 and all 66 selected books, and verse expansion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BibleGameServiceBenchmark {
+
+    private BibleGameService bibleGameService;
+
+    @State(Scope.Benchmark)
+    public static class Selection {
+
+        @Param({"1", "10", "66"})
+        public int selectedBookCount;
+
+        private Set<String> books;
+
+        @Setup
+        public void setUp() {
+            // Spread the selection over the canon instead of taking the first N books
+            books = new HashSet<>();
+            for (int i = 0; i < selectedBookCount; i++) {
+                books.add(CanonicalBook.ofOrdinal(i * CanonicalBook.count() / selectedBookCount).getDisplayName());
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        BibleDataService bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        bibleGameService = new BibleGameService(bibleDataService, new GameSessionStore(100_000, 30),
+                new SimilarVerseService(bibleDataService, new ScriptureReferenceService(bibleDataService)));
+    }
+
+    @Benchmark
+    public BibleVerse getRandomVerse(Selection selection) {
+        return bibleGameService.getRandomVerse(selection.books);
+    }
+
+    @Benchmark
+    public BibleVerse expandVerse() {
+        return bibleGameService.expandVerse("John", 3, 15, 17);
+    }
+}
@@ -0,0 +1,35 @@
+package com.nghood.christianity.benchmark;
+
+import com.nghood.christianity.model.BibleBook;
+import com.nghood.christianity.service.BibleDataService;
+import com.nghood.christianity.service.BibleReadingPlanService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the interleaved OT/NT book order for the reading plan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BibleReadingPlanServiceBenchmark {
+
+    private BibleReadingPlanService bibleReadingPlanService;
+
+    @Setup
+    public void setUp() {
+        BibleDataService bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        bibleReadingPlanService = new BibleReadingPlanService(bibleDataService);
+    }
+
+    @Benchmark
+    public List<BibleBook> getOrderedBibleBooks() {
+        return bibleReadingPlanService.getOrderedBibleBooks();
+    }
+}
@@ -0,0 +1,99 @@
+package com.nghood.christianity.config;
+
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.service.BibleDataService;
+import com.nghood.christianity.service.BibleGameService;
+import com.nghood.christianity.service.BibleResponseCache;
+import com.nghood.christianity.service.TranslationRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports corpus, game, response-cache and translation statistics to Micrometer.
+ *
+ * The services keep their own primitive counters; this binder only reads them at scrape time, so the hot
+ * paths never touch the registry. Tags are bounded: book names come from the fixed 66-book canon.
+ */
+@Component
+@RequiredArgsConstructor
+public class BibleMetrics implements MeterBinder {
+
+    private final BibleDataService bibleDataService;
+    private final BibleGameService bibleGameService;
+    private final BibleResponseCache bibleResponseCache;
+    private final TranslationRegistry translationRegistry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bible.corpus.books", bibleDataService, service -> service.getAvailableBooks().size())
+                .description("Books loaded into the corpus")
+                .register(registry);
+        Gauge.builder("bible.corpus.verses", bibleDataService, service -> service.getCorpus().verseCount())
+                .description("Verses loaded into the corpus")
+                .register(registry);
+        Gauge.builder("bible.corpus.retained", bibleDataService, service -> service.getCorpus().estimatedRetainedBytes())
+                .description("Estimated heap retained by the corpus")
+                .baseUnit("bytes")
+                .register(registry);
+        TimeGauge.builder("bible.corpus.load.time", bibleDataService, TimeUnit.MILLISECONDS,
+                        BibleDataService::getLoadTimeMillis)
+                .description("Time the last corpus load took")
+                .register(registry);
+
+        for (CanonicalBook book : CanonicalBook.values()) {
+            FunctionCounter.builder("bible.game.draws", bibleGameService, service -> service.getDrawCount(book))
+                    .description("Random verses drawn per book")
+                    .tag("book", book.getDisplayName())
+                    .tag("testament", book.isOldTestament() ? "old" : "new")
+                    .register(registry);
+        }
+
+        Gauge.builder("bible.game.sessions", bibleGameService, service -> service.getSessionStats().getSessions())
+                .description("Open verse game sessions")
+                .register(registry);
+        FunctionCounter.builder("bible.game.session.removals", bibleGameService,
+                        service -> service.getSessionStats().getEvictions())
+                .description("Game sessions dropped from the store")
+                .tag("reason", "capacity")
+                .register(registry);
+        FunctionCounter.builder("bible.game.session.removals", bibleGameService,
+                        service -> service.getSessionStats().getExpirations())
+                .description("Game sessions dropped from the store")
+                .tag("reason", "expired")
+                .register(registry);
+
+        FunctionCounter.builder("bible.response.cache.requests", bibleResponseCache, cache -> cache.getStats().getHits())
+                .description("Response cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("bible.response.cache.requests", bibleResponseCache, cache -> cache.getStats().getMisses())
+                .description("Response cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("bible.response.cache.evictions", bibleResponseCache, cache -> cache.getStats().getEvictions())
+                .description("Response cache entries evicted to stay within the memory budget")
+                .register(registry);
+        Gauge.builder("bible.response.cache.size", bibleResponseCache, cache -> cache.getStats().getBytes())
+                .description("Bytes held by the response cache")
+                .baseUnit("bytes")
+                .register(registry);
+
+        Gauge.builder("bible.translations.resident", translationRegistry, TranslationRegistry::getResidentBytes)
+                .description("Estimated heap retained by the loaded non-default translations")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("bible.translations.loads", translationRegistry, TranslationRegistry::getLoadCount)
+                .description("Translations loaded on first use")
+                .register(registry);
+        FunctionCounter.builder("bible.translations.evictions", translationRegistry, TranslationRegistry::getEvictionCount)
+                .description("Translations dropped to stay within the memory budget")
+                .register(registry);
+    }
+}
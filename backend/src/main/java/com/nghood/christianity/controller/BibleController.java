@@ -0,0 +1,178 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.BibleBookInfo;
+import com.nghood.christianity.model.BibleChapter;
+import com.nghood.christianity.model.BibleVerse;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.ResponseCacheStats;
+import com.nghood.christianity.model.TypeaheadSuggestion;
+import com.nghood.christianity.service.BibleDataService;
+import com.nghood.christianity.service.BibleResponseCache;
+import com.nghood.christianity.service.TypeaheadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only access to the loaded Bible text. Responses are served from {@link BibleResponseCache} as
+ * pre-encoded (optionally gzipped) JSON with strong ETags, so browsers and nginx can cache them.
+ */
+@RestController
+@RequestMapping("/api/bible")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class BibleController {
+
+    private final BibleDataService bibleDataService;
+    private final BibleResponseCache bibleResponseCache;
+    private final TypeaheadService typeaheadService;
+
+    /**
+     * All loaded books in canonical order with their chapter numbers and verse counts
+     */
+    @GetMapping("/books")
+    public ResponseEntity<byte[]> getBooks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            BibleCorpus corpus = bibleDataService.getCorpus();
+            BibleResponseCache.CachedResponse cached = bibleResponseCache.get(corpus, "books", () -> {
+                List<BibleBookInfo> books = new ArrayList<>();
+                for (String book : bibleDataService.getAvailableBooks()) {
+                    books.add(toBookInfo(corpus, book));
+                }
+                return books;
+            });
+            return bibleResponseCache.toResponse(cached, ifNoneMatch, acceptEncoding);
+        } catch (Exception e) {
+            log.error("Error getting books", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/books/{book}")
+    public ResponseEntity<byte[]> getBook(@PathVariable String book,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            BibleCorpus corpus = bibleDataService.getCorpus();
+            if (!bibleDataService.hasBook(book)) {
+                return ResponseEntity.notFound().build();
+            }
+            BibleResponseCache.CachedResponse cached = bibleResponseCache.get(corpus, "book:" + book,
+                    () -> toBookInfo(corpus, book));
+            return bibleResponseCache.toResponse(cached, ifNoneMatch, acceptEncoding);
+        } catch (Exception e) {
+            log.error("Error getting book {}", book, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/books/{book}/chapters/{chapter}")
+    public ResponseEntity<byte[]> getChapter(@PathVariable String book,
+                                             @PathVariable int chapter,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            BibleCorpus corpus = bibleDataService.getCorpus();
+            BibleChapter bibleChapter = bibleDataService.getChapter(book, chapter);
+            if (bibleChapter == null) {
+                return ResponseEntity.notFound().build();
+            }
+            typeaheadService.recordChapterRead(book);
+            BibleResponseCache.CachedResponse cached = bibleResponseCache.get(corpus,
+                    "chapter:" + book + ":" + chapter, () -> bibleChapter);
+            return bibleResponseCache.toResponse(cached, ifNoneMatch, acceptEncoding);
+        } catch (Exception e) {
+            log.error("Error getting chapter {} {}", book, chapter, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/books/{book}/chapters/{chapter}/verses/{verse}")
+    public ResponseEntity<byte[]> getVerse(@PathVariable String book,
+                                           @PathVariable int chapter,
+                                           @PathVariable int verse,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            BibleCorpus corpus = bibleDataService.getCorpus();
+            BibleChapter bibleChapter = bibleDataService.getChapter(book, chapter);
+            if (bibleChapter == null || !bibleChapter.hasVerse(verse)) {
+                return ResponseEntity.notFound().build();
+            }
+            BibleResponseCache.CachedResponse cached = bibleResponseCache.get(corpus,
+                    "verse:" + book + ":" + chapter + ":" + verse, () -> {
+                        BibleVerse bibleVerse = new BibleVerse(bibleChapter.getVerse(verse), book, chapter, verse);
+                        bibleVerse.setTotalVersesInChapter(bibleChapter.getVerseCount());
+                        bibleVerse.setCanExpandMore(bibleChapter.getVerseCount() > 1);
+                        return bibleVerse;
+                    });
+            return bibleResponseCache.toResponse(cached, ifNoneMatch, acceptEncoding);
+        } catch (Exception e) {
+            log.error("Error getting verse {} {}:{}", book, chapter, verse, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * The paragraph around a verse, with {@code context} more paragraphs before and after it
+     */
+    @GetMapping("/books/{book}/chapters/{chapter}/verses/{verse}/passage")
+    public ResponseEntity<byte[]> getPassage(@PathVariable String book,
+                                             @PathVariable int chapter,
+                                             @PathVariable int verse,
+                                             @RequestParam(defaultValue = "0") int context,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            BibleCorpus corpus = bibleDataService.getCorpus();
+            if (corpus.verseOrdinal(bibleDataService.getBookOrdinal(book), chapter, verse) < 0) {
+                return ResponseEntity.notFound().build();
+            }
+            // Keyed on the request so a hit skips building the passage; an invalid context throws on the miss
+            BibleResponseCache.CachedResponse cached = bibleResponseCache.get(corpus,
+                    "passage:" + book + ":" + chapter + ":" + verse + ":" + context,
+                    () -> bibleDataService.getPassage(book, chapter, verse, context));
+            return bibleResponseCache.toResponse(cached, ifNoneMatch, acceptEncoding);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error getting passage {} {}:{}", book, chapter, verse, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Completions for a partial book name or reference such as "1 jo" or "ps 11", most likely first
+     */
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<TypeaheadSuggestion>> getTypeahead(@RequestParam(defaultValue = "") String q) {
+        try {
+            return ResponseEntity.ok(typeaheadService.suggest(q));
+        } catch (Exception e) {
+            log.error("Error getting typeahead suggestions for {}", q, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Entry count, byte usage and hit/miss/eviction counters of the response cache
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<ResponseCacheStats> getCacheStats() {
+        return ResponseEntity.ok(bibleResponseCache.getStats());
+    }
+
+    private BibleBookInfo toBookInfo(BibleCorpus corpus, String book) {
+        int bookOrdinal = bibleDataService.getBookOrdinal(book);
+        return new BibleBookInfo(book, CanonicalBook.ofOrdinal(bookOrdinal).isOldTestament(),
+                bibleDataService.getChaptersForBook(book), corpus.bookVerseCount(bookOrdinal));
+    }
+}
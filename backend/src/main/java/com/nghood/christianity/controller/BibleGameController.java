@@ -1,6 +1,11 @@
 package com.nghood.christianity.controller;
 
 import com.nghood.christianity.model.BibleVerse;
+import com.nghood.christianity.model.BibleVerseRange;
+import com.nghood.christianity.model.GameGuessResult;
+import com.nghood.christianity.model.GameSessionStats;
+import com.nghood.christianity.model.ParallelRound;
+import com.nghood.christianity.model.SamplingMode;
 import com.nghood.christianity.service.BibleGameService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -22,25 +28,28 @@ public class BibleGameController {
 
     /**
      * Get a random verse from selected books
-     * Uses Book -> Chapter -> Verse algorithm for equal book representation
+     * Uses Book -> Chapter -> Verse algorithm for equal book representation by default;
+     * mode=verse or mode=word weights the draw by verse or word count instead.
+     * With session=true the verse opens a server-side game session whose id is returned with it
      */
     @GetMapping("/random-verse")
-    public ResponseEntity<BibleVerse> getRandomVerse(@RequestParam String books) {
+    public ResponseEntity<BibleVerse> getRandomVerse(@RequestParam String books,
+                                                     @RequestParam(required = false) String mode,
+                                                     @RequestParam(defaultValue = "false") boolean session) {
         try {
-            // Parse comma-separated book names
-            Set<String> selectedBooks = Arrays.stream(books.split(","))
-                    .map(String::trim)
-                    .filter(book -> !book.isEmpty())
-                    .collect(Collectors.toSet());
+            Set<String> selectedBooks = parseBooks(books);
 
             if (selectedBooks.isEmpty()) {
                 return ResponseEntity.badRequest().build();
             }
 
-            BibleVerse randomVerse = bibleGameService.getRandomVerse(selectedBooks);
+            SamplingMode samplingMode = SamplingMode.fromParam(mode);
+            BibleVerse randomVerse = session
+                    ? bibleGameService.startSession(selectedBooks, samplingMode)
+                    : bibleGameService.getRandomVerse(selectedBooks, samplingMode);
             
-            log.info("Generated random verse: {} for books: {}", 
-                    randomVerse.getFormattedReference(), selectedBooks);
+            log.debug("Generated random verse: {} for books: {}", 
+                    randomVerse.getReference(), selectedBooks);
             
             return ResponseEntity.ok(randomVerse);
             
@@ -53,6 +62,62 @@ public class BibleGameController {
         }
     }
 
+    /**
+     * Get several distinct random verses from selected books in one call, e.g. a whole game.
+     * An optional seed makes the batch reproducible for the same books, mode and count.
+     */
+    @GetMapping("/random-verses")
+    public ResponseEntity<List<BibleVerse>> getRandomVerses(@RequestParam String books,
+                                                            @RequestParam(defaultValue = "10") int count,
+                                                            @RequestParam(required = false) String mode,
+                                                            @RequestParam(required = false) Long seed) {
+        try {
+            Set<String> selectedBooks = parseBooks(books);
+
+            if (selectedBooks.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            List<BibleVerse> randomVerses = bibleGameService.getRandomVerses(
+                    selectedBooks, count, SamplingMode.fromParam(mode), seed);
+
+            log.debug("Generated {} random verses for books: {}", randomVerses.size(), selectedBooks);
+
+            return ResponseEntity.ok(randomVerses);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid request for random verses: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error generating random verses", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * A "which passage parallels this?" round from the selected books
+     */
+    @GetMapping("/parallel-round")
+    public ResponseEntity<ParallelRound> getParallelRound(@RequestParam String books,
+                                                          @RequestParam(required = false) String mode) {
+        try {
+            Set<String> selectedBooks = parseBooks(books);
+
+            if (selectedBooks.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            return ResponseEntity.ok(bibleGameService.getParallelRound(selectedBooks, SamplingMode.fromParam(mode)));
+
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("Invalid request for parallel round: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error generating parallel round", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * Expand the current verse range by adding one more verse from the same chapter
      */
@@ -66,7 +131,7 @@ public class BibleGameController {
         try {
             BibleVerse expandedVerse = bibleGameService.expandVerse(book, chapter, fromVerse, toVerse);
             
-            log.info("Expanded verse range for {} {}:{}-{} to include verse {}", 
+            log.debug("Expanded verse range for {} {}:{}-{} to include verse {}", 
                     book, chapter, fromVerse, toVerse, expandedVerse.getVerseNumber());
             
             return ResponseEntity.ok(expandedVerse);
@@ -82,4 +147,112 @@ public class BibleGameController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * Expand the current verse range to the paragraph around it, or by one more paragraph
+     */
+    @GetMapping("/expand-paragraph")
+    public ResponseEntity<BibleVerseRange> expandToParagraph(
+            @RequestParam String book,
+            @RequestParam int chapter,
+            @RequestParam int fromVerse,
+            @RequestParam int toVerse) {
+
+        try {
+            return ResponseEntity.ok(bibleGameService.expandToParagraph(book, chapter, fromVerse, toVerse));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid request for paragraph expansion: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("Cannot expand verse range: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error expanding verse range to paragraph", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Get a whole verse range of a chapter in one call, with flags telling whether it can grow further
+     */
+    @GetMapping("/verse-range")
+    public ResponseEntity<BibleVerseRange> getVerseRange(
+            @RequestParam String book,
+            @RequestParam int chapter,
+            @RequestParam int fromVerse,
+            @RequestParam int toVerse) {
+
+        try {
+            BibleVerseRange range = bibleGameService.getVerseRange(book, chapter, fromVerse, toVerse);
+
+            log.debug("Fetched verse range {}", range.getReference());
+
+            return ResponseEntity.ok(range);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid request for verse range: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error fetching verse range", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Reveal one more verse of a game session's chapter
+     */
+    @PostMapping("/sessions/{sessionId}/expand")
+    public ResponseEntity<BibleVerse> expandSession(@PathVariable String sessionId) {
+        try {
+            BibleVerse expandedVerse = bibleGameService.expandSession(sessionId);
+            if (expandedVerse == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(expandedVerse);
+        } catch (IllegalStateException e) {
+            log.warn("Cannot expand game session: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error expanding game session", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Guess the book and optionally the chapter of a game session's verse; scored once per session
+     */
+    @PostMapping("/sessions/{sessionId}/guess")
+    public ResponseEntity<GameGuessResult> guessSession(@PathVariable String sessionId,
+                                                        @RequestParam String book,
+                                                        @RequestParam(required = false) Integer chapter) {
+        try {
+            GameGuessResult result = bibleGameService.guessSession(sessionId, book, chapter);
+            if (result == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(result);
+        } catch (IllegalStateException e) {
+            log.warn("Cannot score game session: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error scoring game session", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Size, capacity and eviction counters of the game session store
+     */
+    @GetMapping("/session-stats")
+    public ResponseEntity<GameSessionStats> getSessionStats() {
+        return ResponseEntity.ok(bibleGameService.getSessionStats());
+    }
+
+    // Parse comma-separated book names
+    private Set<String> parseBooks(String books) {
+        return Arrays.stream(books.split(","))
+                .map(String::trim)
+                .filter(book -> !book.isEmpty())
+                .collect(Collectors.toSet());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.model.QuizAnswer;
+import com.nghood.christianity.model.QuizAnswerResult;
+import com.nghood.christianity.model.QuizQuestion;
+import com.nghood.christianity.model.QuizSession;
+import com.nghood.christianity.service.BibleQuizService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/bible-quiz")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class BibleQuizController {
+
+    private final BibleQuizService bibleQuizService;
+
+    /**
+     * Start a quiz over the questions about any of {@code books} (all when omitted), optionally of one type
+     */
+    @PostMapping("/sessions")
+    public ResponseEntity<QuizSession> startSession(@RequestParam(required = false) List<String> books,
+                                                    @RequestParam(required = false) String type,
+                                                    @RequestParam(defaultValue = "0") int count) {
+        try {
+            return ResponseEntity.ok(bibleQuizService.startSession(books, type, count));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid quiz selection: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error starting quiz session", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/sessions/{sessionId}")
+    public ResponseEntity<QuizSession> getSession(@PathVariable String sessionId) {
+        QuizSession session = bibleQuizService.getSession(sessionId);
+        if (session == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(session);
+    }
+
+    /**
+     * The next question of a session; 204 once every question has been drawn
+     */
+    @PostMapping("/sessions/{sessionId}/next")
+    public ResponseEntity<QuizQuestion> nextQuestion(@PathVariable String sessionId) {
+        try {
+            QuizQuestion question = bibleQuizService.nextQuestion(sessionId);
+            if (question == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(question);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("Error drawing quiz question", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @PostMapping("/sessions/{sessionId}/answers")
+    public ResponseEntity<QuizAnswerResult> answer(@PathVariable String sessionId, @RequestBody QuizAnswer answer) {
+        try {
+            QuizAnswerResult result = bibleQuizService.answer(sessionId, answer);
+            if (result == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid quiz answer: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error grading quiz answer", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -1,32 +1,90 @@
 package com.nghood.christianity.controller;
 
-import com.nghood.christianity.model.BibleBook;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.model.ReadingDay;
+import com.nghood.christianity.model.ReadingPlan;
 import com.nghood.christianity.service.BibleReadingPlanService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/bible-reading-plan")
 public class BibleReadingPlanController {
 
+    // Seed of the returned plan; pass it back as ?seed= to get the same plan again
+    static final String SEED_HEADER = "X-Reading-Plan-Seed";
+    // Summed word-count difference between each NT book and its paired OT books
+    static final String IMBALANCE_HEADER = "X-Reading-Plan-Imbalance";
 
     private final BibleReadingPlanService bibleReadingPlanService;
+    private final ObjectMapper objectMapper;
 
-    public BibleReadingPlanController(BibleReadingPlanService bibleReadingPlanService) {
+    public BibleReadingPlanController(BibleReadingPlanService bibleReadingPlanService, ObjectMapper objectMapper) {
         this.bibleReadingPlanService = bibleReadingPlanService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public ResponseEntity<List<String>> getBibleReadingPlan() {
-        List<BibleBook> orderedBooks = bibleReadingPlanService.getOrderedBibleBooks();
-        List<String> bookNames = orderedBooks.stream()
-                .map(BibleBook::getName)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(bookNames);
+    public ResponseEntity<List<String>> getBibleReadingPlan(@RequestParam(required = false) Long seed) {
+        ReadingPlan plan = getPlan(seed);
+        return ResponseEntity.ok()
+                .header(SEED_HEADER, Long.toString(plan.getSeed()))
+                .header(IMBALANCE_HEADER, Long.toString(plan.getTotalImbalance()))
+                .body(plan.getBooks());
     }
-}
\ No newline at end of file
+
+    /**
+     * The plan with its NT/OT pairs and their word counts
+     */
+    @GetMapping("/details")
+    public ResponseEntity<ReadingPlan> getReadingPlanDetails(@RequestParam(required = false) Long seed) {
+        ReadingPlan plan = getPlan(seed);
+        return ResponseEntity.ok()
+                .header(SEED_HEADER, Long.toString(plan.getSeed()))
+                .body(plan);
+    }
+
+    /**
+     * Day-by-day schedule for a plan, streamed as a JSON array one day at a time
+     */
+    @GetMapping("/schedule")
+    public ResponseEntity<StreamingResponseBody> getSchedule(@RequestParam(required = false) Long seed,
+                                                             @RequestParam(defaultValue = "365") int days) {
+        ReadingPlan plan;
+        Iterator<ReadingDay> schedule;
+        try {
+            plan = getPlan(seed);
+            schedule = bibleReadingPlanService.getSchedule(plan, days);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                while (schedule.hasNext()) {
+                    objectMapper.writeValue(generator, schedule.next());
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(SEED_HEADER, Long.toString(plan.getSeed()))
+                .body(body);
+    }
+
+    // Only client-supplied seeds go through the plan cache; an absent seed gets a fresh, uncached plan
+    private ReadingPlan getPlan(Long seed) {
+        return seed != null ? bibleReadingPlanService.getReadingPlan(seed) : bibleReadingPlanService.newReadingPlan();
+    }
+}
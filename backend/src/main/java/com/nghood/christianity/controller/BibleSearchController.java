@@ -0,0 +1,55 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.model.BibleSearchResult;
+import com.nghood.christianity.service.BibleSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/bible")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class BibleSearchController {
+
+    private final BibleSearchService bibleSearchService;
+
+    /**
+     * Full-text search over verse text
+     * Words are ANDed; supports OR, -exclusion and "quoted phrases"; optional book list and testament (ot/nt) filters
+     */
+    @GetMapping("/search")
+    public ResponseEntity<BibleSearchResult> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String books,
+            @RequestParam(required = false) String testament,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        try {
+            Set<String> selectedBooks = books == null ? Set.of() : Arrays.stream(books.split(","))
+                    .map(String::trim)
+                    .filter(book -> !book.isEmpty())
+                    .collect(Collectors.toSet());
+
+            BibleSearchResult result = bibleSearchService.search(q, selectedBooks, testament, page, size);
+
+            log.debug("Search '{}' returned {} hits", q, result.getTotalHits());
+
+            return ResponseEntity.ok(result);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error searching verses", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
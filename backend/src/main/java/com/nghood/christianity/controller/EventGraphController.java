@@ -0,0 +1,87 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.model.EventGraphCoverage;
+import com.nghood.christianity.model.EventGraphNode;
+import com.nghood.christianity.service.EventGraphService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * The Bible event graph, addressed by event id ("root:storyline", "era:patriarchs")
+ */
+@RestController
+@RequestMapping("/api/event-graph")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class EventGraphController {
+
+    private final EventGraphService eventGraphService;
+
+    @GetMapping("/roots")
+    public ResponseEntity<List<EventGraphNode>> getRoots() {
+        List<EventGraphNode> roots = eventGraphService.getRoots();
+        if (roots == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(roots);
+    }
+
+    /**
+     * An event with up to {@code depth} levels of descendants and at most {@code limit} nodes
+     */
+    @GetMapping("/events/{id}")
+    public ResponseEntity<EventGraphNode> getSubtree(@PathVariable String id,
+                                                     @RequestParam(defaultValue = "" + EventGraphService.DEFAULT_SUBTREE_DEPTH) int depth,
+                                                     @RequestParam(defaultValue = "" + EventGraphService.MAX_SUBTREE_NODES) int limit) {
+        try {
+            EventGraphNode subtree = eventGraphService.getSubtree(id, depth, limit);
+            if (subtree == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(subtree);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error getting event subtree {}", id, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * The path from the root to an event
+     */
+    @GetMapping("/events/{id}/breadcrumbs")
+    public ResponseEntity<List<EventGraphNode>> getBreadcrumbs(@PathVariable String id) {
+        List<EventGraphNode> breadcrumbs = eventGraphService.getBreadcrumbs(id);
+        if (breadcrumbs == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(breadcrumbs);
+    }
+
+    /**
+     * Events covering a reference such as "Gen 22" or "Exod 14:21-31", optionally only under one event
+     */
+    @GetMapping("/verses")
+    public ResponseEntity<EventGraphCoverage> getCoveringEvents(@RequestParam String reference,
+                                                                @RequestParam(required = false) String within) {
+        try {
+            EventGraphCoverage coverage = eventGraphService.getCoveringEvents(reference, within);
+            if (coverage == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(coverage);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid reference '{}': {}", reference, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error getting events for {}", reference, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.model.GameResult;
+import com.nghood.christianity.model.Leaderboard;
+import com.nghood.christianity.model.LeaderboardEntry;
+import com.nghood.christianity.model.LeaderboardScope;
+import com.nghood.christianity.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * Record a finished verse game; returns the player's new global rank and total score
+     */
+    @PostMapping("/results")
+    public ResponseEntity<LeaderboardEntry> recordResult(@RequestBody GameResult result) {
+        try {
+            return ResponseEntity.ok(leaderboardService.recordResult(result));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid game result: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error recording game result", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Top players for scope global (default), book (requires book), week or month
+     */
+    @GetMapping
+    public ResponseEntity<Leaderboard> getLeaderboard(@RequestParam(required = false) String scope,
+                                                      @RequestParam(required = false) String book,
+                                                      @RequestParam(defaultValue = "0") int offset,
+                                                      @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(leaderboardService.getLeaderboard(LeaderboardScope.fromParam(scope), book, offset, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid leaderboard request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error getting leaderboard", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<LeaderboardEntry> getRanking(@PathVariable String userId,
+                                                       @RequestParam(required = false) String scope,
+                                                       @RequestParam(required = false) String book) {
+        try {
+            return ResponseEntity.ok(leaderboardService.getRanking(userId, LeaderboardScope.fromParam(scope), book));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid ranking request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error getting ranking for {}", userId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.model.NumerologyAggregate;
+import com.nghood.christianity.model.NumerologyMetric;
+import com.nghood.christianity.model.NumerologySearchResult;
+import com.nghood.christianity.service.NumerologyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/numerology")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class NumerologyController {
+
+    private final NumerologyService numerologyService;
+
+    /**
+     * Metric totals and findings of a reference such as "John 21" or "Rev 13:18"
+     */
+    @GetMapping("/aggregate")
+    public ResponseEntity<NumerologyAggregate> getAggregate(@RequestParam String reference) {
+        try {
+            return ResponseEntity.ok(numerologyService.getAggregate(reference));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid numerology reference '{}': {}", reference, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error computing numerology for {}", reference, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Metric totals and findings of a word or phrase
+     */
+    @GetMapping("/text")
+    public ResponseEntity<NumerologyAggregate> getTextAggregate(@RequestParam String text) {
+        try {
+            return ResponseEntity.ok(numerologyService.getTextAggregate(text));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error computing numerology for text", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Runs of consecutive verses whose metric total is divisible by {@code divisor} or equals {@code target}
+     */
+    @GetMapping("/windows")
+    public ResponseEntity<NumerologySearchResult> searchWindows(@RequestParam(required = false) String metric,
+                                                                @RequestParam(defaultValue = "1") int window,
+                                                                @RequestParam(required = false) Long divisor,
+                                                                @RequestParam(required = false) Long target,
+                                                                @RequestParam(required = false) String scope,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        try {
+            NumerologySearchResult result = numerologyService.searchWindows(NumerologyMetric.fromParam(metric),
+                    window, divisor, target, scope, limit);
+
+            log.debug("Numerology search {} window {} found {} matches", result.getMetric(), window,
+                    result.getTotalMatches());
+
+            return ResponseEntity.ok(result);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid numerology search: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error searching numerology windows", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.service.BibleResponseCache;
+import com.nghood.christianity.service.BibleResponseCache.CachedResponse;
+import com.nghood.christianity.service.OsisChapterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Pre-rendered chapters of the OSIS edition, addressed by OSIS book id ("Gen", "1John")
+ */
+@RestController
+@RequestMapping("/api/bible/osis")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class OsisChapterController {
+
+    private final OsisChapterService osisChapterService;
+    private final BibleResponseCache bibleResponseCache;
+
+    @GetMapping("/books")
+    public ResponseEntity<byte[]> getBooks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CachedResponse books = osisChapterService.getBooks();
+        if (books == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return bibleResponseCache.toResponse(books, ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping("/{book}/{chapter}")
+    public ResponseEntity<byte[]> getChapter(@PathVariable String book,
+                                             @PathVariable int chapter,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CachedResponse fragment = osisChapterService.getChapter(book, chapter);
+        if (fragment == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return bibleResponseCache.toResponse(fragment, ifNoneMatch, acceptEncoding);
+    }
+}
@@ -0,0 +1,58 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.model.ReferenceResolution;
+import com.nghood.christianity.model.ScriptureReference;
+import com.nghood.christianity.service.ScriptureReferenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/bible")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class ScriptureReferenceController {
+
+    private final ScriptureReferenceService scriptureReferenceService;
+
+    /**
+     * Resolve a single reference such as "John 3:16", "Hos 12" or "John 3:16-18; Rom 8"
+     */
+    @GetMapping("/references")
+    public ResponseEntity<List<ScriptureReference>> resolve(@RequestParam String q) {
+        try {
+            return ResponseEntity.ok(scriptureReferenceService.resolve(q));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid reference '{}': {}", q, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error resolving reference", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Resolve a batch of reference strings; each entry reports its own error
+     */
+    @PostMapping("/references/resolve")
+    public ResponseEntity<List<ReferenceResolution>> resolveAll(@RequestBody List<String> references) {
+        try {
+            List<ReferenceResolution> resolutions = scriptureReferenceService.resolveAll(references);
+
+            log.debug("Resolved batch of {} references", resolutions.size());
+
+            return ResponseEntity.ok(resolutions);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid reference batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error resolving reference batch", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
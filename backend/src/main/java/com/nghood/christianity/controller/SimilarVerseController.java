@@ -0,0 +1,37 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.model.SimilarVerseResult;
+import com.nghood.christianity.service.SimilarVerseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/similar-verses")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class SimilarVerseController {
+
+    private final SimilarVerseService similarVerseService;
+
+    /**
+     * Verses elsewhere in the Bible whose wording is close to a passage, e.g. reference=2 Kings 18:13
+     */
+    @GetMapping
+    public ResponseEntity<SimilarVerseResult> getSimilarVerses(@RequestParam String reference,
+                                                               @RequestParam(defaultValue = "10") int limit,
+                                                               @RequestParam(defaultValue = "" + SimilarVerseService.DEFAULT_MIN_SIMILARITY) double minSimilarity,
+                                                               @RequestParam(defaultValue = "false") boolean sameChapter) {
+        try {
+            return ResponseEntity.ok(similarVerseService.getSimilarVerses(reference, limit, minSimilarity, sameChapter));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid similar verse request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error finding verses similar to {}", reference, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
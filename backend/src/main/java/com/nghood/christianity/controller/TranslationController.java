@@ -0,0 +1,46 @@
+package com.nghood.christianity.controller;
+
+import com.nghood.christianity.model.ParallelVerse;
+import com.nghood.christianity.model.TranslationInfo;
+import com.nghood.christianity.service.TranslationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/translations")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost", "https://christianity.nghood.com"})
+public class TranslationController {
+
+    private final TranslationRegistry translationRegistry;
+
+    /**
+     * The available translations and which of them are loaded
+     */
+    @GetMapping
+    public ResponseEntity<List<TranslationInfo>> getTranslations() {
+        return ResponseEntity.ok(translationRegistry.getTranslations());
+    }
+
+    /**
+     * A reference such as "John 3:16-18" side by side in several translations, e.g. translations=web,kjv
+     */
+    @GetMapping("/parallel")
+    public ResponseEntity<List<ParallelVerse>> getParallelVerses(@RequestParam String reference,
+                                                                 @RequestParam List<String> translations) {
+        try {
+            return ResponseEntity.ok(translationRegistry.getParallelVerses(reference, translations));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid parallel verse request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error getting parallel verses for {}", reference, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
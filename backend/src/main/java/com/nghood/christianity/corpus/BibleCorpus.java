@@ -0,0 +1,527 @@
+package com.nghood.christianity.corpus;
+
+import com.nghood.christianity.model.CanonicalBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Read-only, array-backed store for the loaded Bible text.
+ *
+ * Books are addressed by {@link CanonicalBook} ordinal, chapters by a dense chapter index and verses by a
+ * dense verse ordinal in canonical order. All verse text lives in one UTF-8 buffer addressed through an
+ * offset array. Chapter and verse numbers are resolved through slot tables (number - first number -> index,
+ * -1 for gaps), so every (book, chapter, verse) lookup is O(1) and never boxes.
+ *
+ * Text structure is kept alongside: paragraphs (prose paragraphs and poetry stanzas) as ranges of verse
+ * ordinals, and the start of every further part of a verse whose text is split across paragraphs or lines.
+ */
+public final class BibleCorpus {
+
+    private static final int ARRAY_HEADER_BYTES = 16;
+    static final int INDEX_ARRAY_COUNT = 16;
+
+    // Per book (length books + 1): range of chapter indices and of chapter slots
+    private final int[] bookChapterStart;
+    private final int[] bookSlotStart;
+    private final int[] bookFirstChapter;
+    // Chapter slot -> chapter index, or -1 when the book has no such chapter
+    private final int[] chapterSlots;
+
+    // Per chapter (length chapters + 1 for the start arrays)
+    private final int[] chapterBook;
+    private final int[] chapterNumber;
+    private final int[] chapterVerseStart;
+    private final int[] chapterSlotStart;
+    private final int[] chapterFirstVerse;
+    // Verse slot -> verse ordinal, or -1 when the chapter has no such verse
+    private final int[] verseSlots;
+
+    // Per verse ordinal
+    private final int[] verseChapter;
+    private final int[] verseNumber;
+    private final int[] textOffset;
+    // UTF-8 text of all verses; a heap buffer when built from JSON, a mapped file region when read from a snapshot
+    private final ByteBuffer text;
+
+    // Per paragraph (length paragraphs + 1): first verse ordinal; 1 for poetry stanzas, 0 for prose
+    private final int[] paragraphStart;
+    private final int[] paragraphPoetry;
+    // Text offsets where the second and later parts of multi-part verses begin, ascending
+    private final int[] partStart;
+
+    private BibleCorpus(int[] bookChapterStart, int[] bookSlotStart, int[] bookFirstChapter, int[] chapterSlots,
+                        int[] chapterBook, int[] chapterNumber, int[] chapterVerseStart, int[] chapterSlotStart,
+                        int[] chapterFirstVerse, int[] verseSlots, int[] verseChapter, int[] verseNumber,
+                        int[] textOffset, int[] paragraphStart, int[] paragraphPoetry, int[] partStart,
+                        ByteBuffer text) {
+        this.bookChapterStart = bookChapterStart;
+        this.bookSlotStart = bookSlotStart;
+        this.bookFirstChapter = bookFirstChapter;
+        this.chapterSlots = chapterSlots;
+        this.chapterBook = chapterBook;
+        this.chapterNumber = chapterNumber;
+        this.chapterVerseStart = chapterVerseStart;
+        this.chapterSlotStart = chapterSlotStart;
+        this.chapterFirstVerse = chapterFirstVerse;
+        this.verseSlots = verseSlots;
+        this.verseChapter = verseChapter;
+        this.verseNumber = verseNumber;
+        this.textOffset = textOffset;
+        this.paragraphStart = paragraphStart;
+        this.paragraphPoetry = paragraphPoetry;
+        this.partStart = partStart;
+        this.text = text;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Reassemble a corpus from its index arrays, in the order returned by {@link #indexArrays()}.
+     */
+    static BibleCorpus fromIndex(int[][] index, ByteBuffer text) {
+        if (index.length != INDEX_ARRAY_COUNT) {
+            throw new IllegalArgumentException("Expected " + INDEX_ARRAY_COUNT + " index arrays, got " + index.length);
+        }
+        return new BibleCorpus(index[0], index[1], index[2], index[3], index[4], index[5], index[6], index[7],
+                index[8], index[9], index[10], index[11], index[12], index[13], index[14], index[15], text);
+    }
+
+    /**
+     * The index arrays in a fixed order, for {@link CorpusSnapshot}.
+     */
+    int[][] indexArrays() {
+        return new int[][]{bookChapterStart, bookSlotStart, bookFirstChapter, chapterSlots,
+                chapterBook, chapterNumber, chapterVerseStart, chapterSlotStart, chapterFirstVerse,
+                verseSlots, verseChapter, verseNumber, textOffset, paragraphStart, paragraphPoetry, partStart};
+    }
+
+    /**
+     * Read-only view of the UTF-8 text buffer, positioned at 0.
+     */
+    ByteBuffer textBuffer() {
+        return text.asReadOnlyBuffer().position(0);
+    }
+
+    // ---- Books ----
+
+    public int bookCount() {
+        return bookFirstChapter.length;
+    }
+
+    public boolean hasBook(int book) {
+        return book >= 0 && book < bookCount() && bookChapterStart[book + 1] > bookChapterStart[book];
+    }
+
+    public int chapterCount(int book) {
+        return bookChapterStart[book + 1] - bookChapterStart[book];
+    }
+
+    /**
+     * Chapter index of the first chapter of the book; chapters of a book occupy a contiguous index range.
+     */
+    public int firstChapterIndex(int book) {
+        return bookChapterStart[book];
+    }
+
+    /**
+     * Ordinal of the first verse of the book; verses of a book occupy a contiguous ordinal range.
+     */
+    public int firstBookVerseOrdinal(int book) {
+        return chapterVerseStart[bookChapterStart[book]];
+    }
+
+    /**
+     * Exclusive end of the book's verse ordinal range.
+     */
+    public int endBookVerseOrdinal(int book) {
+        return chapterVerseStart[bookChapterStart[book + 1]];
+    }
+
+    public int bookVerseCount(int book) {
+        return endBookVerseOrdinal(book) - firstBookVerseOrdinal(book);
+    }
+
+    // ---- Chapters ----
+
+    public int totalChapterCount() {
+        return chapterNumber.length;
+    }
+
+    /**
+     * Resolve a chapter number to its chapter index, or -1 if the book has no such chapter.
+     */
+    public int chapterIndex(int book, int chapter) {
+        if (book < 0 || book >= bookCount()) {
+            return -1;
+        }
+        int slot = chapter - bookFirstChapter[book];
+        int slotStart = bookSlotStart[book];
+        if (slot < 0 || slot >= bookSlotStart[book + 1] - slotStart) {
+            return -1;
+        }
+        return chapterSlots[slotStart + slot];
+    }
+
+    public int chapterBook(int chapterIndex) {
+        return chapterBook[chapterIndex];
+    }
+
+    public int chapterNumber(int chapterIndex) {
+        return chapterNumber[chapterIndex];
+    }
+
+    public int chapterVerseCount(int chapterIndex) {
+        return chapterVerseStart[chapterIndex + 1] - chapterVerseStart[chapterIndex];
+    }
+
+    /**
+     * Ordinal of the first verse in the chapter; verses of a chapter occupy a contiguous ordinal range.
+     */
+    public int firstVerseOrdinal(int chapterIndex) {
+        return chapterVerseStart[chapterIndex];
+    }
+
+    /**
+     * Exclusive end of the chapter's verse ordinal range.
+     */
+    public int endVerseOrdinal(int chapterIndex) {
+        return chapterVerseStart[chapterIndex + 1];
+    }
+
+    /**
+     * Resolve a verse number within a chapter to its verse ordinal, or -1 if the chapter has no such verse.
+     */
+    public int verseOrdinalInChapter(int chapterIndex, int verse) {
+        int slot = verse - chapterFirstVerse[chapterIndex];
+        int slotStart = chapterSlotStart[chapterIndex];
+        if (slot < 0 || slot >= chapterSlotStart[chapterIndex + 1] - slotStart) {
+            return -1;
+        }
+        return verseSlots[slotStart + slot];
+    }
+
+    /**
+     * Ordinal of the first verse in the chapter numbered at least {@code verse}, or the chapter's end ordinal
+     * if there is none.
+     */
+    public int ceilingVerseOrdinal(int chapterIndex, int verse) {
+        int start = chapterVerseStart[chapterIndex];
+        int end = chapterVerseStart[chapterIndex + 1];
+        int found = Arrays.binarySearch(verseNumber, start, end, verse);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    // ---- Verses ----
+
+    public int verseCount() {
+        return verseNumber.length;
+    }
+
+    /**
+     * Resolve (book, chapter, verse) to a verse ordinal, or -1 if it does not exist.
+     */
+    public int verseOrdinal(int book, int chapter, int verse) {
+        int chapterIndex = chapterIndex(book, chapter);
+        return chapterIndex < 0 ? -1 : verseOrdinalInChapter(chapterIndex, verse);
+    }
+
+    public int verseChapterIndex(int ordinal) {
+        return verseChapter[ordinal];
+    }
+
+    public int verseNumber(int ordinal) {
+        return verseNumber[ordinal];
+    }
+
+    public int verseBook(int ordinal) {
+        return chapterBook[verseChapter[ordinal]];
+    }
+
+    public String verseText(int ordinal) {
+        return decode(textOffset[ordinal], textOffset[ordinal + 1]);
+    }
+
+    /**
+     * Number of parts the verse text was split into by paragraph or line breaks; 1 for most verses.
+     */
+    public int versePartCount(int ordinal) {
+        return 1 + firstPartAtOrAfter(textOffset[ordinal + 1]) - firstPartAtOrAfter(textOffset[ordinal] + 1);
+    }
+
+    /**
+     * Text of one part of the verse, without the space that joins it to the next part in {@link #verseText}.
+     */
+    public String versePart(int ordinal, int part) {
+        int firstPart = firstPartAtOrAfter(textOffset[ordinal] + 1);
+        int parts = 1 + firstPartAtOrAfter(textOffset[ordinal + 1]) - firstPart;
+        if (part < 0 || part >= parts) {
+            throw new IndexOutOfBoundsException("Part " + part + " of " + parts);
+        }
+        int start = part == 0 ? textOffset[ordinal] : partStart[firstPart + part - 1];
+        int end = part == parts - 1 ? textOffset[ordinal + 1] : partStart[firstPart + part] - 1;
+        return decode(start, end);
+    }
+
+    private int firstPartAtOrAfter(int offset) {
+        int found = Arrays.binarySearch(partStart, offset);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    private String decode(int start, int end) {
+        int length = end - start;
+        if (text.hasArray()) {
+            return new String(text.array(), text.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        text.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ---- Paragraphs ----
+
+    public int paragraphCount() {
+        return paragraphPoetry.length;
+    }
+
+    /**
+     * Paragraph containing the verse. A verse split across paragraphs belongs to the one it starts in.
+     */
+    public int paragraphIndex(int ordinal) {
+        int found = Arrays.binarySearch(paragraphStart, 0, paragraphPoetry.length, ordinal);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    public int paragraphFirstVerseOrdinal(int paragraph) {
+        return paragraphStart[paragraph];
+    }
+
+    /**
+     * Exclusive end of the paragraph's verse ordinal range.
+     */
+    public int paragraphEndVerseOrdinal(int paragraph) {
+        return paragraphStart[paragraph + 1];
+    }
+
+    /**
+     * True for a poetry stanza, whose verse parts are lines.
+     */
+    public boolean isPoetry(int paragraph) {
+        return paragraphPoetry[paragraph] != 0;
+    }
+
+    /**
+     * Number of whitespace-separated words in the verse, counted on the UTF-8 bytes without decoding.
+     */
+    public int verseWordCount(int ordinal) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = textOffset[ordinal]; i < textOffset[ordinal + 1]; i++) {
+            byte b = text.get(i);
+            boolean whitespace = b == ' ' || b == '\n' || b == '\t' || b == '\r';
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return words;
+    }
+
+    /**
+     * Length of the verse text in UTF-8 bytes.
+     */
+    public int verseTextLength(int ordinal) {
+        return textOffset[ordinal + 1] - textOffset[ordinal];
+    }
+
+    /**
+     * True when the verse text lives outside the heap (memory-mapped snapshot).
+     */
+    public boolean isTextMapped() {
+        return text.isDirect();
+    }
+
+    /**
+     * Approximate heap retained by the store's arrays, for load-time reporting. Mapped text is not counted.
+     */
+    public long estimatedRetainedBytes() {
+        long bytes = text.isDirect() ? 0 : text.capacity() + ARRAY_HEADER_BYTES;
+        for (int[] array : indexArrays()) {
+            bytes += (long) array.length * Integer.BYTES + ARRAY_HEADER_BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Collects verses book by book and packs them into the array layout. Verses may be added in any order;
+     * adding a (book, chapter, verse) again appends another part to its text. Verses not marked as the start
+     * of a paragraph continue the previous one, except that every book starts a new paragraph.
+     */
+    public static final class Builder {
+
+        private static final int CONTINUES = 0;
+        private static final int PROSE = 1;
+        private static final int POETRY = 2;
+
+        private final List<TreeMap<Integer, TreeMap<Integer, VerseParts>>> books = new ArrayList<>();
+
+        private Builder() {
+            for (int i = 0; i < CanonicalBook.count(); i++) {
+                books.add(new TreeMap<>());
+            }
+        }
+
+        public Builder addVerse(CanonicalBook book, int chapter, int verse, String text) {
+            parts(book, chapter, verse).texts.add(text);
+            return this;
+        }
+
+        /**
+         * Mark the verse as the first of a prose paragraph or poetry stanza.
+         */
+        public Builder startParagraph(CanonicalBook book, int chapter, int verse, boolean poetry) {
+            parts(book, chapter, verse).paragraph = poetry ? POETRY : PROSE;
+            return this;
+        }
+
+        private VerseParts parts(CanonicalBook book, int chapter, int verse) {
+            return books.get(book.ordinal())
+                    .computeIfAbsent(chapter, k -> new TreeMap<>())
+                    .computeIfAbsent(verse, k -> new VerseParts());
+        }
+
+        public boolean hasBook(CanonicalBook book) {
+            return !books.get(book.ordinal()).isEmpty();
+        }
+
+        public BibleCorpus build() {
+            int bookCount = books.size();
+            int chapters = 0;
+            int chapterSlotCount = 0;
+            int verses = 0;
+            int verseSlotCount = 0;
+            for (TreeMap<Integer, TreeMap<Integer, VerseParts>> book : books) {
+                if (book.isEmpty()) {
+                    continue;
+                }
+                chapters += book.size();
+                chapterSlotCount += book.lastKey() - book.firstKey() + 1;
+                for (TreeMap<Integer, VerseParts> chapter : book.values()) {
+                    verses += chapter.size();
+                    verseSlotCount += chapter.lastKey() - chapter.firstKey() + 1;
+                }
+            }
+
+            int[] bookChapterStart = new int[bookCount + 1];
+            int[] bookSlotStart = new int[bookCount + 1];
+            int[] bookFirstChapter = new int[bookCount];
+            int[] chapterSlots = new int[chapterSlotCount];
+            int[] chapterBook = new int[chapters];
+            int[] chapterNumber = new int[chapters];
+            int[] chapterVerseStart = new int[chapters + 1];
+            int[] chapterSlotStart = new int[chapters + 1];
+            int[] chapterFirstVerse = new int[chapters];
+            int[] verseSlots = new int[verseSlotCount];
+            int[] verseChapter = new int[verses];
+            int[] verseNumber = new int[verses];
+            int[] textOffset = new int[verses + 1];
+            Arrays.fill(chapterSlots, -1);
+            Arrays.fill(verseSlots, -1);
+            int[] paragraphStart = new int[verses + 1];
+            int[] paragraphPoetry = new int[verses];
+            int paragraphs = 0;
+            int[] partStart = new int[16];
+            int parts = 0;
+
+            List<byte[]> encoded = new ArrayList<>(verses);
+            int chapterIndex = 0;
+            int ordinal = 0;
+            int chapterSlot = 0;
+            int verseSlot = 0;
+            int textLength = 0;
+            for (int b = 0; b < bookCount; b++) {
+                TreeMap<Integer, TreeMap<Integer, VerseParts>> book = books.get(b);
+                bookChapterStart[b] = chapterIndex;
+                bookSlotStart[b] = chapterSlot;
+                if (book.isEmpty()) {
+                    continue;
+                }
+                bookFirstChapter[b] = book.firstKey();
+                int bookStart = ordinal;
+                for (Map.Entry<Integer, TreeMap<Integer, VerseParts>> chapterEntry : book.entrySet()) {
+                    TreeMap<Integer, VerseParts> chapter = chapterEntry.getValue();
+                    chapterSlots[chapterSlot + chapterEntry.getKey() - book.firstKey()] = chapterIndex;
+                    chapterBook[chapterIndex] = b;
+                    chapterNumber[chapterIndex] = chapterEntry.getKey();
+                    chapterVerseStart[chapterIndex] = ordinal;
+                    chapterSlotStart[chapterIndex] = verseSlot;
+                    chapterFirstVerse[chapterIndex] = chapter.firstKey();
+                    for (Map.Entry<Integer, VerseParts> verseEntry : chapter.entrySet()) {
+                        VerseParts verse = verseEntry.getValue();
+                        verseSlots[verseSlot + verseEntry.getKey() - chapter.firstKey()] = ordinal;
+                        verseChapter[ordinal] = chapterIndex;
+                        verseNumber[ordinal] = verseEntry.getKey();
+                        if (verse.paragraph != CONTINUES || ordinal == bookStart) {
+                            paragraphStart[paragraphs] = ordinal;
+                            paragraphPoetry[paragraphs] = verse.paragraph == POETRY ? 1 : 0;
+                            paragraphs++;
+                        }
+
+                        // Parts are joined by one space; each later part's offset is recorded
+                        textOffset[ordinal] = textLength;
+                        for (int part = 0; part < verse.texts.size(); part++) {
+                            if (part > 0) {
+                                encoded.add(PART_SEPARATOR);
+                                textLength += PART_SEPARATOR.length;
+                                if (parts == partStart.length) {
+                                    partStart = Arrays.copyOf(partStart, parts * 2);
+                                }
+                                partStart[parts++] = textLength;
+                            }
+                            byte[] bytes = verse.texts.get(part).getBytes(StandardCharsets.UTF_8);
+                            encoded.add(bytes);
+                            textLength += bytes.length;
+                        }
+                        ordinal++;
+                    }
+                    verseSlot += chapter.lastKey() - chapter.firstKey() + 1;
+                    chapterIndex++;
+                }
+                chapterSlot += book.lastKey() - book.firstKey() + 1;
+            }
+            bookChapterStart[bookCount] = chapterIndex;
+            bookSlotStart[bookCount] = chapterSlot;
+            chapterVerseStart[chapters] = ordinal;
+            chapterSlotStart[chapters] = verseSlot;
+            textOffset[verses] = textLength;
+            paragraphStart[paragraphs] = ordinal;
+
+            byte[] text = new byte[textLength];
+            int position = 0;
+            for (byte[] bytes : encoded) {
+                System.arraycopy(bytes, 0, text, position, bytes.length);
+                position += bytes.length;
+            }
+
+            return new BibleCorpus(bookChapterStart, bookSlotStart, bookFirstChapter, chapterSlots,
+                    chapterBook, chapterNumber, chapterVerseStart, chapterSlotStart, chapterFirstVerse,
+                    verseSlots, verseChapter, verseNumber, textOffset,
+                    Arrays.copyOf(paragraphStart, paragraphs + 1), Arrays.copyOf(paragraphPoetry, paragraphs),
+                    Arrays.copyOf(partStart, parts), ByteBuffer.wrap(text));
+        }
+
+        private static final byte[] PART_SEPARATOR = {' '};
+
+        private static final class VerseParts {
+            private final List<String> texts = new ArrayList<>(1);
+            private int paragraph = CONTINUES;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.nghood.christianity.corpus;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Versioned binary image of a {@link BibleCorpus}.
+ *
+ * Layout (big-endian): magic, format version, the corpus index arrays (each as length + ints),
+ * the UTF-8 text blob (length + bytes) and a trailing CRC32 over everything before it.
+ * The snapshot is produced at build time by {@link #main(String[])} and memory-mapped at startup.
+ */
+@Slf4j
+public final class CorpusSnapshot {
+
+    public static final String RESOURCE_PATH = "/data/bible.snapshot";
+
+    static final int MAGIC = 0x4E474243; // "NGBC"
+    static final int FORMAT_VERSION = 2;
+
+    private CorpusSnapshot() {
+    }
+
+    /**
+     * Build-time entry point: parse the JSON sources and write the snapshot to {@code args[0]}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: CorpusSnapshot <output file>");
+        }
+        long startTime = System.currentTimeMillis();
+        BibleCorpus corpus = new JsonCorpusLoader().load();
+        Path target = Path.of(args[0]);
+        write(corpus, target);
+        log.info("Wrote corpus snapshot {} ({} verses, {} bytes) in {}ms",
+                target, corpus.verseCount(), Files.size(target), System.currentTimeMillis() - startTime);
+    }
+
+    public static void write(BibleCorpus corpus, Path target) throws IOException {
+        int[][] index = corpus.indexArrays();
+        ByteBuffer text = corpus.textBuffer();
+
+        int size = 2 * Integer.BYTES;
+        for (int[] array : index) {
+            size += Integer.BYTES + array.length * Integer.BYTES;
+        }
+        size += Integer.BYTES + text.remaining() + Long.BYTES;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+        for (int[] array : index) {
+            buffer.putInt(array.length);
+            buffer.asIntBuffer().put(array);
+            buffer.position(buffer.position() + array.length * Integer.BYTES);
+        }
+        buffer.putInt(text.remaining()).put(text);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putLong(crc.getValue());
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Files.write(target, buffer.array());
+    }
+
+    /**
+     * Memory-map a snapshot file. The index is copied onto the heap; the text stays in the mapping.
+     */
+    public static BibleCorpus map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Load the snapshot bundled on the classpath, or return null if none was built.
+     * Mapped directly when the resource is a plain file, otherwise read onto the heap.
+     */
+    public static BibleCorpus loadResource() throws IOException {
+        URL url = CorpusSnapshot.class.getResource(RESOURCE_PATH);
+        if (url == null) {
+            return null;
+        }
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid snapshot location: " + url, e);
+            }
+        }
+        try (InputStream inputStream = url.openStream()) {
+            return read(ByteBuffer.wrap(inputStream.readAllBytes()));
+        }
+    }
+
+    public static BibleCorpus read(ByteBuffer source) throws IOException {
+        ByteBuffer buffer = source.duplicate().position(0);
+        if (buffer.remaining() < 2 * Integer.BYTES + Long.BYTES) {
+            throw new IOException("Corpus snapshot is truncated");
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a corpus snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported corpus snapshot version " + version + ", expected " + FORMAT_VERSION);
+        }
+
+        int checksumPosition = buffer.limit() - Long.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(checksumPosition));
+        if (crc.getValue() != buffer.getLong(checksumPosition)) {
+            throw new IOException("Corpus snapshot checksum mismatch");
+        }
+
+        int[][] index = new int[BibleCorpus.INDEX_ARRAY_COUNT][];
+        for (int i = 0; i < index.length; i++) {
+            int length = buffer.getInt();
+            if (length < 0 || (long) length * Integer.BYTES > checksumPosition - buffer.position()) {
+                throw new IOException("Corpus snapshot index array " + i + " is corrupt");
+            }
+            IntBuffer ints = buffer.asIntBuffer();
+            index[i] = new int[length];
+            ints.get(index[i]);
+            buffer.position(buffer.position() + length * Integer.BYTES);
+        }
+
+        int textLength = buffer.getInt();
+        if (textLength != checksumPosition - buffer.position()) {
+            throw new IOException("Corpus snapshot text length mismatch");
+        }
+        ByteBuffer text = buffer.slice(buffer.position(), textLength);
+        return BibleCorpus.fromIndex(index, text);
+    }
+}
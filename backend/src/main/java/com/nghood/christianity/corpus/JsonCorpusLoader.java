@@ -0,0 +1,201 @@
+package com.nghood.christianity.corpus;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.nghood.christianity.model.CanonicalBook;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds a {@link BibleCorpus} from the per-book WEB JSON files under {@code /data/bible/} on the classpath,
+ * or from files of the same format in a directory, where missing books are simply left out.
+ *
+ * Books are parsed in parallel on a bounded pool with Jackson's streaming parser, which only materializes
+ * the text of {@code paragraph text} and {@code line text} records, and are then added to the corpus in
+ * canonical order. Records with the same verse number (sectionNumber 2, 3, ...) become parts of one verse,
+ * and {@code paragraph start}/{@code stanza start} markers become paragraph starts.
+ */
+@Slf4j
+public class JsonCorpusLoader {
+
+    private static final String PARAGRAPH_TEXT = "paragraph text";
+    private static final String LINE_TEXT = "line text";
+    private static final String PARAGRAPH_START = "paragraph start";
+    private static final String STANZA_START = "stanza start";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final int parallelism;
+    private final Path directory;
+
+    public JsonCorpusLoader() {
+        this(Math.min(Runtime.getRuntime().availableProcessors(), 8));
+    }
+
+    public JsonCorpusLoader(int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * Load from {@code <directory>/<book file name>.json} instead of the classpath; null means the classpath.
+     */
+    public JsonCorpusLoader(int parallelism, Path directory) {
+        this.parallelism = Math.max(1, parallelism);
+        this.directory = directory;
+    }
+
+    public BibleCorpus load() {
+        long startTime = System.currentTimeMillis();
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "corpus-loader-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        BibleCorpus.Builder builder = BibleCorpus.builder();
+        try {
+            List<Future<List<ParsedVerse>>> books = new ArrayList<>(CanonicalBook.count());
+            for (CanonicalBook book : CanonicalBook.values()) {
+                books.add(pool.submit(() -> parseBook(book)));
+            }
+
+            // Assemble in canonical order regardless of which book finished first
+            for (CanonicalBook book : CanonicalBook.values()) {
+                try {
+                    for (ParsedVerse verse : books.get(book.ordinal()).get()) {
+                        builder.addVerse(book, verse.chapter(), verse.verse(), verse.text());
+                        if (verse.paragraph() != null) {
+                            builder.startParagraph(book, verse.chapter(), verse.verse(), verse.paragraph() == Paragraph.STANZA);
+                        }
+                    }
+                } catch (ExecutionException e) {
+                    log.error("Failed to load book: {}", book.getFileName(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading Bible books", e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        BibleCorpus corpus = builder.build();
+        log.info("Parsed Bible JSON with {} threads in {}ms: {} verses",
+                parallelism, System.currentTimeMillis() - startTime, corpus.verseCount());
+        return corpus;
+    }
+
+    private List<ParsedVerse> parseBook(CanonicalBook book) throws IOException {
+        String resourcePath;
+        InputStream source;
+        if (directory != null) {
+            Path file = directory.resolve(book.getFileName() + ".json");
+            if (!Files.isRegularFile(file)) {
+                log.debug("No {} in {}", book.getDisplayName(), directory);
+                return List.of();
+            }
+            resourcePath = file.toString();
+            source = Files.newInputStream(file);
+        } else {
+            resourcePath = "/data/bible/" + book.getFileName() + ".json";
+            source = getClass().getResourceAsStream(resourcePath);
+        }
+
+        try (InputStream inputStream = source) {
+            if (inputStream == null) {
+                throw new IOException("Resource not found: " + resourcePath);
+            }
+
+            List<ParsedVerse> verses = new ArrayList<>();
+            try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected a JSON array in " + resourcePath);
+                }
+                // A paragraph starts at the first verse that begins inside it, not at a continued verse
+                Paragraph pending = null;
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    Item item = parseItem(parser);
+                    if (item.paragraph() != null) {
+                        pending = item.paragraph();
+                    } else if (item.verse() != null) {
+                        ParsedVerse verse = item.verse();
+                        if (pending != null && item.section() <= 1) {
+                            verse = new ParsedVerse(verse.chapter(), verse.verse(), verse.text(), pending);
+                            pending = null;
+                        }
+                        verses.add(verse);
+                    }
+                }
+            }
+
+            log.debug("Loaded {} with {} verse records", book.getDisplayName(), verses.size());
+            return verses;
+        }
+    }
+
+    /**
+     * Read one item object: a verse text record, a paragraph or stanza start, or nothing of interest. The
+     * text is only materialized once the record is known to be verse text (the type comes first in the WEB
+     * files). Blank text records carry no verse and are dropped.
+     */
+    private Item parseItem(JsonParser parser) throws IOException {
+        String type = null;
+        int chapterNumber = 0;
+        int verseNumber = 0;
+        int sectionNumber = 0;
+        String value = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "type" -> type = parser.getText();
+                case "chapterNumber" -> chapterNumber = parser.getIntValue();
+                case "verseNumber" -> verseNumber = parser.getIntValue();
+                case "sectionNumber" -> sectionNumber = parser.getIntValue();
+                case "value" -> {
+                    if (type == null || isVerseText(type)) {
+                        value = parser.getText();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (PARAGRAPH_START.equals(type)) {
+            return new Item(null, 0, Paragraph.PROSE);
+        }
+        if (STANZA_START.equals(type)) {
+            return new Item(null, 0, Paragraph.STANZA);
+        }
+        if (!isVerseText(type) || value == null || value.isBlank()) {
+            return Item.NONE;
+        }
+        return new Item(new ParsedVerse(chapterNumber, verseNumber, value.trim(), null), sectionNumber, null);
+    }
+
+    private static boolean isVerseText(String type) {
+        return PARAGRAPH_TEXT.equals(type) || LINE_TEXT.equals(type);
+    }
+
+    private enum Paragraph { PROSE, STANZA }
+
+    private record ParsedVerse(int chapter, int verse, String text, Paragraph paragraph) {
+    }
+
+    private record Item(ParsedVerse verse, int section, Paragraph paragraph) {
+        static final Item NONE = new Item(null, 0, null);
+    }
+}
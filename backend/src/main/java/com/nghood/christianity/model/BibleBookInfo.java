@@ -0,0 +1,17 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BibleBookInfo {
+    private String name;
+    private boolean oldTestament;
+    private List<Integer> chapters;
+    private int verseCount;
+}
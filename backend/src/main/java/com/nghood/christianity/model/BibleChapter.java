@@ -1,37 +1,60 @@
 package com.nghood.christianity.model;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nghood.christianity.corpus.BibleCorpus;
+import lombok.Getter;
 
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * Lightweight view of one chapter in the {@link BibleCorpus}. Holds no verse data of its own.
+ */
+@Getter
 public class BibleChapter {
-    private String book;
-    private int chapter;
-    private Map<Integer, String> verses; // verseNumber -> text
+    private final String book;
+    private final int chapter;
+    @JsonIgnore
+    private final BibleCorpus corpus;
+    @JsonIgnore
+    private final int chapterIndex;
+
+    public BibleChapter(String book, int chapter, BibleCorpus corpus, int chapterIndex) {
+        this.book = book;
+        this.chapter = chapter;
+        this.corpus = corpus;
+        this.chapterIndex = chapterIndex;
+    }
+
+    /**
+     * Copy of the chapter as verseNumber -> text, in verse order.
+     */
+    public Map<Integer, String> getVerses() {
+        Map<Integer, String> verses = new LinkedHashMap<>();
+        for (int ordinal = corpus.firstVerseOrdinal(chapterIndex); ordinal < corpus.endVerseOrdinal(chapterIndex); ordinal++) {
+            verses.put(corpus.verseNumber(ordinal), corpus.verseText(ordinal));
+        }
+        return verses;
+    }
 
     public int getVerseCount() {
-        return verses.size();
+        return corpus.chapterVerseCount(chapterIndex);
     }
 
     public String getVerse(int verseNumber) {
-        return verses.get(verseNumber);
+        int ordinal = corpus.verseOrdinalInChapter(chapterIndex, verseNumber);
+        return ordinal < 0 ? null : corpus.verseText(ordinal);
     }
 
     public boolean hasVerse(int verseNumber) {
-        return verses.containsKey(verseNumber);
+        return corpus.verseOrdinalInChapter(chapterIndex, verseNumber) >= 0;
     }
 
     public int getFirstVerse() {
-        return verses.keySet().stream().min(Integer::compareTo).orElse(1);
+        return getVerseCount() == 0 ? 1 : corpus.verseNumber(corpus.firstVerseOrdinal(chapterIndex));
     }
 
     public int getLastVerse() {
-        return verses.keySet().stream().max(Integer::compareTo).orElse(1);
+        return getVerseCount() == 0 ? 1 : corpus.verseNumber(corpus.endVerseOrdinal(chapterIndex) - 1);
     }
-}
\ No newline at end of file
+}
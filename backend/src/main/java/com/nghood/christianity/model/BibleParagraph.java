@@ -0,0 +1,18 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A prose paragraph or, when {@code poetry} is set, a stanza whose verse parts are its lines
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BibleParagraph {
+    private boolean poetry;
+    private List<BiblePassageVerse> verses;
+}
@@ -0,0 +1,19 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Whole paragraphs around a verse, in reading order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BiblePassage {
+    private String book;
+    private String reference;
+    private List<BibleParagraph> paragraphs;
+}
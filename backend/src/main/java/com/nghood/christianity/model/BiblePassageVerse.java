@@ -0,0 +1,16 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BiblePassageVerse {
+    private int chapter;
+    private int verse;
+    private List<String> parts; // the verse text split at paragraph and line breaks
+}
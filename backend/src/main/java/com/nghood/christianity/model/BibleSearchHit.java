@@ -0,0 +1,17 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BibleSearchHit {
+    private String book;
+    private int chapter;
+    private int verseNumber;
+    private String reference;
+    private String text;
+    private double score;
+}
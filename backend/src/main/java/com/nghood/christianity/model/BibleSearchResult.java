@@ -0,0 +1,18 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BibleSearchResult {
+    private String query;
+    private int totalHits;
+    private int page;
+    private int size;
+    private List<BibleSearchHit> hits;
+}
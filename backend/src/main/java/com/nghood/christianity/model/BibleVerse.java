@@ -15,6 +15,8 @@ public class BibleVerse {
     private String reference;
     private boolean canExpandMore;
     private int totalVersesInChapter;
+    // Set when the verse opens a server-side game session
+    private String sessionId;
 
     // Constructor for basic verse data
     public BibleVerse(String text, String book, int chapter, int verseNumber) {
@@ -0,0 +1,21 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BibleVerseRange {
+    private String book;
+    private int chapter;
+    private int fromVerse;
+    private int toVerse;
+    private String reference;
+    private int[] verseNumbers;
+    private String[] verses; // text, parallel to verseNumbers
+    private boolean canExpandBefore;
+    private boolean canExpandAfter;
+    private int totalVersesInChapter;
+}
@@ -0,0 +1,133 @@
+package com.nghood.christianity.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The 66 books of the Protestant canon in canonical order.
+ * The enum ordinal is the book ordinal used by the corpus store.
+ */
+public enum CanonicalBook {
+    GENESIS("genesis", "Genesis", true),
+    EXODUS("exodus", "Exodus", true),
+    LEVITICUS("leviticus", "Leviticus", true),
+    NUMBERS("numbers", "Numbers", true),
+    DEUTERONOMY("deuteronomy", "Deuteronomy", true),
+    JOSHUA("joshua", "Joshua", true),
+    JUDGES("judges", "Judges", true),
+    RUTH("ruth", "Ruth", true),
+    FIRST_SAMUEL("1samuel", "1 Samuel", true),
+    SECOND_SAMUEL("2samuel", "2 Samuel", true),
+    FIRST_KINGS("1kings", "1 Kings", true),
+    SECOND_KINGS("2kings", "2 Kings", true),
+    FIRST_CHRONICLES("1chronicles", "1 Chronicles", true),
+    SECOND_CHRONICLES("2chronicles", "2 Chronicles", true),
+    EZRA("ezra", "Ezra", true),
+    NEHEMIAH("nehemiah", "Nehemiah", true),
+    ESTHER("esther", "Esther", true),
+    JOB("job", "Job", true),
+    PSALMS("psalms", "Psalms", true),
+    PROVERBS("proverbs", "Proverbs", true),
+    ECCLESIASTES("ecclesiastes", "Ecclesiastes", true),
+    SONG_OF_SOLOMON("songofsolomon", "Song of Solomon", true),
+    ISAIAH("isaiah", "Isaiah", true),
+    JEREMIAH("jeremiah", "Jeremiah", true),
+    LAMENTATIONS("lamentations", "Lamentations", true),
+    EZEKIEL("ezekiel", "Ezekiel", true),
+    DANIEL("daniel", "Daniel", true),
+    HOSEA("hosea", "Hosea", true),
+    JOEL("joel", "Joel", true),
+    AMOS("amos", "Amos", true),
+    OBADIAH("obadiah", "Obadiah", true),
+    JONAH("jonah", "Jonah", true),
+    MICAH("micah", "Micah", true),
+    NAHUM("nahum", "Nahum", true),
+    HABAKKUK("habakkuk", "Habakkuk", true),
+    ZEPHANIAH("zephaniah", "Zephaniah", true),
+    HAGGAI("haggai", "Haggai", true),
+    ZECHARIAH("zechariah", "Zechariah", true),
+    MALACHI("malachi", "Malachi", true),
+    MATTHEW("matthew", "Matthew", false),
+    MARK("mark", "Mark", false),
+    LUKE("luke", "Luke", false),
+    JOHN("john", "John", false),
+    ACTS("acts", "Acts", false),
+    ROMANS("romans", "Romans", false),
+    FIRST_CORINTHIANS("1corinthians", "1 Corinthians", false),
+    SECOND_CORINTHIANS("2corinthians", "2 Corinthians", false),
+    GALATIANS("galatians", "Galatians", false),
+    EPHESIANS("ephesians", "Ephesians", false),
+    PHILIPPIANS("philippians", "Philippians", false),
+    COLOSSIANS("colossians", "Colossians", false),
+    FIRST_THESSALONIANS("1thessalonians", "1 Thessalonians", false),
+    SECOND_THESSALONIANS("2thessalonians", "2 Thessalonians", false),
+    FIRST_TIMOTHY("1timothy", "1 Timothy", false),
+    SECOND_TIMOTHY("2timothy", "2 Timothy", false),
+    TITUS("titus", "Titus", false),
+    PHILEMON("philemon", "Philemon", false),
+    HEBREWS("hebrews", "Hebrews", false),
+    JAMES("james", "James", false),
+    FIRST_PETER("1peter", "1 Peter", false),
+    SECOND_PETER("2peter", "2 Peter", false),
+    FIRST_JOHN("1john", "1 John", false),
+    SECOND_JOHN("2john", "2 John", false),
+    THIRD_JOHN("3john", "3 John", false),
+    JUDE("jude", "Jude", false),
+    REVELATION("revelation", "Revelation", false);
+
+    private static final CanonicalBook[] VALUES = values();
+    private static final Map<String, CanonicalBook> BY_DISPLAY_NAME = new HashMap<>();
+
+    static {
+        for (CanonicalBook book : VALUES) {
+            BY_DISPLAY_NAME.put(book.displayName, book);
+        }
+    }
+
+    private final String fileName;
+    private final String displayName;
+    private final boolean oldTestament;
+
+    CanonicalBook(String fileName, String displayName, boolean oldTestament) {
+        this.fileName = fileName;
+        this.displayName = displayName;
+        this.oldTestament = oldTestament;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isOldTestament() {
+        return oldTestament;
+    }
+
+    /**
+     * Whether the book has one chapter, so a bare number after its name is a verse ("Jude 5" is Jude 1:5).
+     */
+    public boolean isSingleChapter() {
+        return switch (this) {
+            case OBADIAH, PHILEMON, SECOND_JOHN, THIRD_JOHN, JUDE -> true;
+            default -> false;
+        };
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+
+    public static CanonicalBook ofOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Look up a book by its exact display name (e.g. "1 Samuel"), or null if unknown.
+     */
+    public static CanonicalBook fromDisplayName(String displayName) {
+        return displayName == null ? null : BY_DISPLAY_NAME.get(displayName);
+    }
+}
@@ -0,0 +1,19 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The events whose scripture references overlap a verse range
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventGraphCoverage {
+    private List<ScriptureReference> references;
+    private List<EventGraphNode> events; // in storyline order, without children
+    private boolean truncated;
+}
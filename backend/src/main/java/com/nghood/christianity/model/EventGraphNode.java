@@ -0,0 +1,26 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An event of the event graph; {@code children} holds the part of its subtree included in the response
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventGraphNode {
+    private String id;
+    private String title;
+    private String parentId;
+    private int depth;
+    private Map<String, List<String>> attributes;
+    private int childCount;
+    private int descendantCount;
+    private List<EventGraphNode> children;
+    private boolean truncated; // some children are not included in this response
+}
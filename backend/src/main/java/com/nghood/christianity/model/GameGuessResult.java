@@ -0,0 +1,19 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a guess in a verse game session, revealing where the verse is from
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameGuessResult {
+    private boolean bookCorrect;
+    private boolean chapterCorrect;
+    private int reveals;
+    private int score;
+    private String reference;
+}
@@ -0,0 +1,17 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One finished verse game as submitted by the client; {@code book} is optional and feeds the per-book board
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameResult {
+    private String userId;
+    private int score;
+    private String book;
+}
@@ -0,0 +1,19 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Size and turnover of the verse game session store; evictions are sessions dropped to stay within capacity
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameSessionStats {
+    private int sessions;
+    private int maxSessions;
+    private long created;
+    private long evictions;
+    private long expirations;
+}
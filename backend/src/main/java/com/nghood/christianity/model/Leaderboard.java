@@ -0,0 +1,18 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Leaderboard {
+    private LeaderboardScope scope;
+    private String book;
+    private String period;
+    private int totalPlayers;
+    private List<LeaderboardEntry> entries;
+}
@@ -0,0 +1,28 @@
+package com.nghood.christianity.model;
+
+import java.util.Locale;
+
+/**
+ * Which scores a leaderboard ranks.
+ */
+public enum LeaderboardScope {
+    /** All-time total score. */
+    GLOBAL,
+    /** All-time score from games tagged with one book. */
+    BOOK,
+    /** Score in the current ISO week (UTC). */
+    WEEK,
+    /** Score in the current calendar month (UTC). */
+    MONTH;
+
+    public static LeaderboardScope fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return GLOBAL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown leaderboard scope: " + value);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Metric totals of a verse range or a piece of text, with the findings they produce
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NumerologyAggregate {
+    private List<ScriptureReference> references; // empty for free text
+    private Map<NumerologyMetric, Long> totals;
+    private List<NumerologyFinding> findings;
+}
@@ -0,0 +1,18 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A metric value that equals a "magic" number or is divisible by one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NumerologyFinding {
+    private NumerologyMetric metric;
+    private long value;
+    private boolean exact; // value equals number, otherwise it is a multiple of it
+    private long number;
+}
@@ -0,0 +1,32 @@
+package com.nghood.christianity.model;
+
+import java.util.Locale;
+
+/**
+ * Per-verse numbers the numerology engine can add up over verse ranges.
+ */
+public enum NumerologyMetric {
+    /** Letters A-Z valued 1-26; other characters count nothing. */
+    SIMPLE_GEMATRIA,
+    /** Simple gematria times six (A=6, B=12, ... Z=156). */
+    ENGLISH_GEMATRIA,
+    /** Sum of the character codes of the whole text, spaces and punctuation included. */
+    ASCII,
+    /** Letters A-Z. */
+    LETTERS,
+    /** Words as counted by the corpus. */
+    WORDS,
+    /** One per verse. */
+    VERSES;
+
+    public static NumerologyMetric fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return SIMPLE_GEMATRIA;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown metric: " + value);
+        }
+    }
+}
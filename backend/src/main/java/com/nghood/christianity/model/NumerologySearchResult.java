@@ -0,0 +1,24 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Windows of {@code window} consecutive verses whose metric total is a multiple of {@code divisor} or equals
+ * {@code target}; {@code matches} lists the first ones in canonical order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NumerologySearchResult {
+    private NumerologyMetric metric;
+    private int window;
+    private Long divisor;
+    private Long target;
+    private long windowsSearched;
+    private long totalMatches;
+    private List<NumerologyWindow> matches;
+}
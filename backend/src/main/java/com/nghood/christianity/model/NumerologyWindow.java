@@ -0,0 +1,16 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A run of consecutive verses whose metric total matched a pattern search
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NumerologyWindow {
+    private ScriptureReference reference;
+    private long value;
+}
@@ -0,0 +1,14 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OsisBookInfo {
+    private String osisId;
+    private String name;
+    private int chapterCount;
+}
@@ -0,0 +1,19 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A chapter of the OSIS source pre-rendered as an HTML fragment of {@code bible-verse} elements
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OsisChapterFragment {
+    private String osisId;
+    private String book;
+    private int chapter;
+    private int verseCount;
+    private String html;
+}
@@ -0,0 +1,20 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A "which passage parallels this?" game round: the verse shown, shuffled reference options and the right one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParallelRound {
+    private BibleVerse verse;
+    private List<String> options;
+    private String answer;
+    private double similarity;
+}
@@ -0,0 +1,22 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One verse in several translations, keyed by translation id in the order requested; null where a translation
+ * lacks the verse
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParallelVerse {
+    private String reference;
+    private String book;
+    private int chapter;
+    private int verse;
+    private Map<String, String> texts;
+}
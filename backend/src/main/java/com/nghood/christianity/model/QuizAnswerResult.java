@@ -0,0 +1,18 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizAnswerResult {
+    private int questionId;
+    private boolean correct;
+    private List<String> correctAnswers;
+    private String notes; // HTML from the question bank, may be null
+    private QuizSession session;
+}
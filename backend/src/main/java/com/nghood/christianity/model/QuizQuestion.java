@@ -0,0 +1,21 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A quiz question as shown to the player, without its answer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizQuestion {
+    private int id;
+    private String type; // "single" or "multiple" choice
+    private String question;
+    private List<String> options;
+    private List<String> books;
+}
@@ -0,0 +1,19 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of one player's run through the question bank
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizSession {
+    private String sessionId;
+    private int totalQuestions;
+    private int questionsDrawn;
+    private int questionsAnswered;
+    private int correctAnswers;
+}
@@ -0,0 +1,19 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One day of a reading schedule: consecutive passages in plan order and their total text length
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingDay {
+    private int day;
+    private List<ScriptureReference> passages;
+    private long characters;
+}
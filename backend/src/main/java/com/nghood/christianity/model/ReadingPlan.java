@@ -0,0 +1,17 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingPlan {
+    private long seed;
+    private List<String> books;
+    private List<ReadingPlanPair> pairs;
+    private long totalImbalance;
+}
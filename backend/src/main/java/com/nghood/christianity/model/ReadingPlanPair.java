@@ -0,0 +1,21 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One NT book and the OT books read alongside it, with word counts from the loaded text
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingPlanPair {
+    private String newTestamentBook;
+    private int newTestamentWords;
+    private List<String> oldTestamentBooks;
+    private int oldTestamentWords;
+    private int imbalance;
+}
@@ -0,0 +1,19 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of resolving one reference string; either {@code references} or {@code error} is set
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceResolution {
+    private String input;
+    private List<ScriptureReference> references;
+    private String error;
+}
@@ -0,0 +1,26 @@
+package com.nghood.christianity.model;
+
+import java.util.Locale;
+
+/**
+ * How the Bible verse game weights its random verse draws.
+ */
+public enum SamplingMode {
+    /** Book, then chapter, then verse, each uniformly; small books appear as often as large ones. */
+    BOOK,
+    /** Every verse of the selected books is equally likely. */
+    VERSE,
+    /** Every word of the selected books is equally likely, so longer verses are drawn more often. */
+    WORD;
+
+    public static SamplingMode fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return BOOK;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown sampling mode: " + value);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A resolved passage: an inclusive verse span within one book, possibly crossing chapters
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScriptureReference {
+    private String book;
+    private int startChapter;
+    private int startVerse;
+    private int endChapter;
+    private int endVerse;
+    private String reference;
+    private int verseCount;
+}
@@ -0,0 +1,20 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A verse found similar to a query, with the estimated Jaccard similarity of their word bigrams (0-1)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarVerse {
+    private String reference;
+    private String book;
+    private int chapter;
+    private int verse;
+    private String text;
+    private double similarity;
+}
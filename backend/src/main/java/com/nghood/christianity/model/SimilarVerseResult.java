@@ -0,0 +1,18 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Verses similar to any verse of a passage, best first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarVerseResult {
+    private ScriptureReference reference;
+    private List<SimilarVerse> matches;
+}
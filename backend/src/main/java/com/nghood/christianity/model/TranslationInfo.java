@@ -0,0 +1,19 @@
+package com.nghood.christianity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A Bible translation known to the registry; {@code books} and {@code retainedBytes} are 0 until it is loaded
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationInfo {
+    private String id;
+    private String source;
+    private boolean resident;
+    private int books;
+    private long retainedBytes;
+}
@@ -0,0 +1,28 @@
+package com.nghood.christianity.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Partial updates of the {@code users.data} jsonb document, so changing a few keys does not rewrite the row
+ * through Hibernate.
+ */
+public interface UserDataPatches {
+
+    /**
+     * Merge each JSON object patch into its user's document ({@code data || patch}), creating missing users,
+     * in one JDBC batch.
+     */
+    void mergeData(Map<String, String> jsonPatchesByUser);
+
+    /**
+     * Remove top-level keys from a user's document.
+     */
+    void removeDataKeys(String userId, Collection<String> keys);
+
+    /**
+     * Stream {@code data -> key} as JSON text for every user that has the key, without loading whole documents.
+     */
+    void forEachDataValue(String key, BiConsumer<String, String> consumer);
+}
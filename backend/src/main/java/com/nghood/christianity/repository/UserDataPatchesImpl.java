@@ -0,0 +1,78 @@
+package com.nghood.christianity.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@RequiredArgsConstructor
+class UserDataPatchesImpl implements UserDataPatches {
+
+    private static final String MERGE_SQL = """
+            INSERT INTO users (user_id, data) VALUES (?, CAST(? AS jsonb))
+            ON CONFLICT (user_id) DO UPDATE SET data = COALESCE(users.data, '{}'::jsonb) || EXCLUDED.data
+            """;
+    private static final String REMOVE_KEY_SQL = "UPDATE users SET data = data - ? WHERE user_id = ?";
+    private static final String SELECT_VALUE_SQL =
+            "SELECT user_id, CAST(data -> ? AS text) FROM users WHERE data -> ? IS NOT NULL";
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void mergeData(Map<String, String> jsonPatchesByUser) {
+        if (jsonPatchesByUser.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(jsonPatchesByUser.size());
+        jsonPatchesByUser.forEach((userId, patch) -> rows.add(new Object[]{userId, patch}));
+        jdbcTemplate.batchUpdate(MERGE_SQL, rows);
+    }
+
+    @Override
+    public void removeDataKeys(String userId, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(keys.size());
+        keys.forEach(key -> rows.add(new Object[]{key, userId}));
+        jdbcTemplate.batchUpdate(REMOVE_KEY_SQL, rows);
+    }
+
+    @Override
+    public void forEachDataValue(String key, BiConsumer<String, String> consumer) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            // PgJDBC only honours the fetch size inside a transaction; in autocommit it buffers every row
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+                connection.setReadOnly(true);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_VALUE_SQL)) {
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setString(1, key);
+                statement.setString(2, key);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        consumer.accept(resultSet.getString(1), resultSet.getString(2));
+                    }
+                }
+            } finally {
+                if (autoCommit) {
+                    // Read-only, so ending the transaction with a rollback loses nothing
+                    connection.rollback();
+                    connection.setReadOnly(false);
+                    connection.setAutoCommit(true);
+                }
+            }
+            return null;
+        });
+    }
+}
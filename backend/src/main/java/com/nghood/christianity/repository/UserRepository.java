@@ -5,5 +5,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
-}
\ No newline at end of file
+public interface UserRepository extends JpaRepository<User, String>, UserDataPatches {
+}
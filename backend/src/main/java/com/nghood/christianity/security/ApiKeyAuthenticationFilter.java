@@ -1,5 +1,7 @@
 package com.nghood.christianity.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,19 +9,78 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Admission control for /api/: every request takes a token from its client's bucket, then must carry the
+ * shared API key.
+ *
+ * Clients are identified by IP (from {@code app.rate-limit.client-ip-header} when set by our proxy) and by
+ * whether they presented the right key; callers without it get a much smaller budget, so key guessing and
+ * floods are answered with a cheap 429 before reaching Spring MVC. The key is compared in constant time and is
+ * never logged. Rejections are counted in metrics and summarized in at most one log line per interval.
+ */
 @Component
 public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(ApiKeyAuthenticationFilter.class);
 
-    @Value("${app.api.secret}")
-    private String apiSecret;
+    private static final long LOG_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int MAX_CLIENT_IP_LENGTH = 64;
+
+    private final byte[] apiSecret;
+    private final boolean rateLimitEnabled;
+    private final String clientIpHeader;
+    private final ClientRateLimiter rateLimiter;
+    private final ClientRateLimiter.Limit keyLimit;
+    private final ClientRateLimiter.Limit noKeyLimit;
+
+    private final Counter missingKeyRejections;
+    private final Counter invalidKeyRejections;
+    private final Counter throttledRejections;
+
+    private final LongAdder unauthorizedSinceLog = new LongAdder();
+    private final LongAdder throttledSinceLog = new LongAdder();
+    private final AtomicLong lastLogTime = new AtomicLong();
+
+    public ApiKeyAuthenticationFilter(MeterRegistry meterRegistry,
+                                      @Value("${app.api.secret}") String apiSecret,
+                                      @Value("${app.rate-limit.enabled:true}") boolean rateLimitEnabled,
+                                      @Value("${app.rate-limit.client-ip-header:X-Real-IP}") String clientIpHeader,
+                                      @Value("${app.rate-limit.requests-per-second:20}") double requestsPerSecond,
+                                      @Value("${app.rate-limit.burst:100}") int burst,
+                                      @Value("${app.rate-limit.invalid-key-requests-per-minute:30}") double invalidKeyRequestsPerMinute,
+                                      @Value("${app.rate-limit.invalid-key-burst:10}") int invalidKeyBurst,
+                                      @Value("${app.rate-limit.max-clients:65536}") int maxClients,
+                                      @Value("${app.rate-limit.idle-seconds:600}") long idleSeconds) {
+        this.apiSecret = apiSecret.getBytes(StandardCharsets.UTF_8);
+        this.rateLimitEnabled = rateLimitEnabled;
+        this.clientIpHeader = clientIpHeader;
+        this.rateLimiter = new ClientRateLimiter(maxClients, TimeUnit.SECONDS.toMillis(idleSeconds),
+                System::currentTimeMillis);
+        this.keyLimit = new ClientRateLimiter.Limit(requestsPerSecond, burst);
+        this.noKeyLimit = new ClientRateLimiter.Limit(invalidKeyRequestsPerMinute / 60, invalidKeyBurst);
+        this.missingKeyRejections = rejectionCounter(meterRegistry, "missing");
+        this.invalidKeyRejections = rejectionCounter(meterRegistry, "invalid");
+        this.throttledRejections = rejectionCounter(meterRegistry, "throttled");
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("api.key.rejections")
+                .description("Requests to /api/ rejected by the API key filter")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -27,27 +88,67 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
                                   FilterChain filterChain) throws ServletException, IOException {
 
         String requestUri = request.getRequestURI();
-        
+
         // Only apply API key validation to /api/* endpoints
         if (requestUri.startsWith("/api/")) {
             String apiKey = request.getHeader("X-API-Key");
-            
-            log.debug("API Key validation - Request: {}, Received key: {}, Expected key: {}", 
-                requestUri, apiKey, apiSecret);
-            
-            if (apiKey == null || !apiSecret.equals(apiKey)) {
-                log.warn("Invalid or missing API key for request: {} from IP: {}. Received: '{}', Expected: '{}'", 
-                    requestUri, request.getRemoteAddr(), apiKey, apiSecret);
-                
+            boolean validKey = apiKey != null
+                    && MessageDigest.isEqual(apiSecret, apiKey.getBytes(StandardCharsets.UTF_8));
+
+            String clientIp = clientIp(request);
+            if (rateLimitEnabled) {
+                long waitMillis = validKey
+                        ? rateLimiter.acquire(clientIp, keyLimit)
+                        : rateLimiter.acquire("!" + clientIp, noKeyLimit);
+                if (waitMillis > 0) {
+                    throttledRejections.increment();
+                    throttledSinceLog.increment();
+                    logRejections(clientIp);
+                    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                    response.setHeader(HttpHeaders.RETRY_AFTER,
+                            Long.toString(TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999)));
+                    response.setContentType("application/json");
+                    response.getWriter().write("{\"error\":\"Too many requests\"}");
+                    return;
+                }
+            }
+
+            if (!validKey) {
+                (apiKey == null ? missingKeyRejections : invalidKeyRejections).increment();
+                unauthorizedSinceLog.increment();
+                logRejections(clientIp);
+
                 response.setStatus(HttpStatus.UNAUTHORIZED.value());
                 response.setContentType("application/json");
                 response.getWriter().write("{\"error\":\"Invalid or missing API key\"}");
                 return;
             }
-            
-            log.debug("Valid API key provided for request: {}", requestUri);
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private String clientIp(HttpServletRequest request) {
+        if (clientIpHeader != null && !clientIpHeader.isBlank()) {
+            String forwarded = request.getHeader(clientIpHeader);
+            if (forwarded != null && !forwarded.isBlank()) {
+                String ip = forwarded.trim();
+                return ip.length() > MAX_CLIENT_IP_LENGTH ? ip.substring(0, MAX_CLIENT_IP_LENGTH) : ip;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * One summary line per interval instead of a line per rejected request
+     */
+    private void logRejections(String lastClient) {
+        long now = System.currentTimeMillis();
+        long last = lastLogTime.get();
+        if (now - last < LOG_INTERVAL_MILLIS || !lastLogTime.compareAndSet(last, now)) {
+            return;
+        }
+        log.warn("Rejected {} requests without a valid API key and throttled {} since the last report (latest from {})",
+                unauthorizedSinceLog.sumThenReset(), throttledSinceLog.sumThenReset(), lastClient);
+    }
+}
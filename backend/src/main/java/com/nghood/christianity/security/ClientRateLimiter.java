@@ -0,0 +1,158 @@
+package com.nghood.christianity.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per client in a fixed-size, set-associative table, without locks.
+ *
+ * A client key hashes to one set of {@link #WAYS} slots. A lookup scans only that set; a new client takes an
+ * empty slot, else one idle for longer than the expiry, else the least recently used one, so memory stays
+ * bounded no matter how many addresses call. Slots are replaced with compare-and-set. Each bucket packs its
+ * last refill time and its fixed-point token balance into one {@link AtomicLong}, so taking a token is a
+ * single CAS loop.
+ */
+final class ClientRateLimiter {
+
+    static final int MAX_BURST = 2_000;
+
+    private static final int WAYS = 4;
+    private static final long UNITS_PER_TOKEN = 1_000;
+    private static final int UNIT_BITS = 21; // holds MAX_BURST tokens
+    private static final long UNIT_MASK = (1L << UNIT_BITS) - 1;
+
+    /**
+     * Refill rate and bucket size of one class of clients.
+     */
+    record Limit(double tokensPerSecond, int burst) {
+        Limit {
+            if (tokensPerSecond <= 0 || burst < 1 || burst > MAX_BURST) {
+                throw new IllegalArgumentException("Rate must be positive and burst between 1 and " + MAX_BURST);
+            }
+        }
+
+        private long capacity() {
+            return burst * UNITS_PER_TOKEN;
+        }
+
+        private double unitsPerMilli() {
+            return tokensPerSecond * UNITS_PER_TOKEN / 1_000;
+        }
+    }
+
+    private final AtomicReferenceArray<Bucket> slots;
+    private final int setMask;
+    private final long idleMillis;
+    private final LongSupplier clock;
+    private final long epoch;
+
+    /**
+     * @param maxClients buckets kept at most, rounded up to a power of two
+     * @param idleMillis time after which an unused bucket may be reclaimed for another client
+     * @param clock      current time in milliseconds
+     */
+    ClientRateLimiter(int maxClients, long idleMillis, LongSupplier clock) {
+        int sets = Integer.highestOneBit(Math.max(1, (maxClients + WAYS - 1) / WAYS - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+        this.idleMillis = idleMillis;
+        this.clock = clock;
+        this.epoch = clock.getAsLong();
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Take one token from the client's bucket.
+     *
+     * @return 0 if the request is admitted, otherwise the milliseconds until a token is available
+     */
+    long acquire(String client, Limit limit) {
+        long now = Math.max(0, clock.getAsLong() - epoch);
+        AtomicLong state = bucket(client, limit, now).state;
+        long capacity = limit.capacity();
+        double unitsPerMilli = limit.unitsPerMilli();
+        while (true) {
+            long current = state.get();
+            long last = current >>> UNIT_BITS;
+            long units = current & UNIT_MASK;
+
+            // Advance the refill time only by what was credited, so slow rates still accumulate fractions
+            long elapsed = Math.max(0, now - last);
+            long gained = (long) (elapsed * unitsPerMilli);
+            long refilled;
+            long refillTime;
+            if (units + gained >= capacity) {
+                refilled = capacity;
+                refillTime = now;
+            } else {
+                refilled = units + gained;
+                refillTime = last + (long) (gained / unitsPerMilli);
+            }
+
+            if (refilled < UNITS_PER_TOKEN) {
+                return Math.max(1, (long) Math.ceil((UNITS_PER_TOKEN - refilled) / unitsPerMilli));
+            }
+            if (state.compareAndSet(current, pack(refillTime, refilled - UNITS_PER_TOKEN))) {
+                return 0;
+            }
+        }
+    }
+
+    private Bucket bucket(String client, Limit limit, long now) {
+        int base = (spread(client.hashCode()) & setMask) * WAYS;
+        while (true) {
+            int victim = -1;
+            Bucket victimBucket = null;
+            long victimSeen = Long.MAX_VALUE;
+            for (int way = 0; way < WAYS; way++) {
+                Bucket bucket = slots.get(base + way);
+                if (bucket == null) {
+                    if (victimSeen > Long.MIN_VALUE) {
+                        victim = base + way;
+                        victimBucket = null;
+                        victimSeen = Long.MIN_VALUE;
+                    }
+                    continue;
+                }
+                if (bucket.client.equals(client)) {
+                    return bucket;
+                }
+                long seen = bucket.state.get() >>> UNIT_BITS;
+                // Expired buckets go before live ones; among live ones the least recently refilled goes first
+                long rank = now - seen > idleMillis ? Long.MIN_VALUE + 1 : seen;
+                if (rank < victimSeen) {
+                    victim = base + way;
+                    victimBucket = bucket;
+                    victimSeen = rank;
+                }
+            }
+            Bucket fresh = new Bucket(client, pack(now, limit.capacity()));
+            if (slots.compareAndSet(victim, victimBucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static long pack(long time, long units) {
+        return time << UNIT_BITS | units;
+    }
+
+    private static int spread(int hash) {
+        int mixed = hash * 0x9E3779B1;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    private static final class Bucket {
+        private final String client;
+        private final AtomicLong state;
+
+        private Bucket(String client, long state) {
+            this.client = client;
+            this.state = new AtomicLong(state);
+        }
+    }
+}
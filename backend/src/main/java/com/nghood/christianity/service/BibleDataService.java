@@ -1,207 +1,206 @@
 package com.nghood.christianity.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.corpus.CorpusSnapshot;
+import com.nghood.christianity.corpus.JsonCorpusLoader;
 import com.nghood.christianity.model.BibleChapter;
+import com.nghood.christianity.model.BibleParagraph;
+import com.nghood.christianity.model.BiblePassage;
+import com.nghood.christianity.model.BiblePassageVerse;
+import com.nghood.christianity.model.CanonicalBook;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Slf4j
 public class BibleDataService {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    
-    // Bible data structure: Book -> Chapter -> Verse -> Text
-    private final Map<String, Map<Integer, Map<Integer, String>>> bibleData = new ConcurrentHashMap<>();
-    
-    // List of all available books
-    private final List<String> availableBooks = new ArrayList<>();
+    public static final int MAX_PASSAGE_CONTEXT = 5;
+
+    // Optional snapshot file to memory-map; falls back to the bundled snapshot, then to the JSON sources
+    @Value("${app.corpus.snapshot:}")
+    private String snapshotPath = "";
+
+    // Bible data structure: canonical book -> chapter -> verse, packed into primitive arrays
+    private volatile BibleCorpus corpus = BibleCorpus.builder().build();
+
+    // Display names of the loaded books in canonical order; immutable, replaced on reload
+    private volatile List<String> availableBooks = List.of();
+
+    private volatile long loadTimeMillis;
 
     @PostConstruct
     public void loadBibleData() {
         log.info("Loading World English Bible data into memory...");
         long startTime = System.currentTimeMillis();
-        
-        // Load all Bible books
-        String[] bookFiles = {
-            "genesis", "exodus", "leviticus", "numbers", "deuteronomy",
-            "joshua", "judges", "ruth", "1samuel", "2samuel", "1kings", "2kings",
-            "1chronicles", "2chronicles", "ezra", "nehemiah", "esther", "job",
-            "psalms", "proverbs", "ecclesiastes", "songofsolomon", "isaiah",
-            "jeremiah", "lamentations", "ezekiel", "daniel", "hosea", "joel",
-            "amos", "obadiah", "jonah", "micah", "nahum", "habakkuk", "zephaniah",
-            "haggai", "zechariah", "malachi",
-            "matthew", "mark", "luke", "john", "acts", "romans", "1corinthians",
-            "2corinthians", "galatians", "ephesians", "philippians", "colossians",
-            "1thessalonians", "2thessalonians", "1timothy", "2timothy", "titus",
-            "philemon", "hebrews", "james", "1peter", "2peter", "1john", "2john",
-            "3john", "jude", "revelation"
-        };
-
-        Map<String, String> fileToBookName = createFileToBookNameMapping();
-
-        for (String fileName : bookFiles) {
-            try {
-                loadBook(fileName, fileToBookName.get(fileName));
-            } catch (Exception e) {
-                log.error("Failed to load book: {}", fileName, e);
+
+        String source = "snapshot";
+        BibleCorpus loaded = loadSnapshot();
+        if (loaded == null) {
+            source = "json";
+            loaded = new JsonCorpusLoader().load();
+        }
+        corpus = loaded;
+
+        List<String> books = new ArrayList<>();
+        for (CanonicalBook book : CanonicalBook.values()) {
+            if (corpus.hasBook(book.ordinal())) {
+                books.add(book.getDisplayName());
             }
         }
+        availableBooks = List.copyOf(books);
 
         long endTime = System.currentTimeMillis();
-        log.info("Loaded {} Bible books into memory in {}ms. Total verses: {}",
-                availableBooks.size(), (endTime - startTime), getTotalVerseCount());
-    }
-
-    private Map<String, String> createFileToBookNameMapping() {
-        Map<String, String> mapping = new HashMap<>();
-        mapping.put("genesis", "Genesis");
-        mapping.put("exodus", "Exodus");
-        mapping.put("leviticus", "Leviticus");
-        mapping.put("numbers", "Numbers");
-        mapping.put("deuteronomy", "Deuteronomy");
-        mapping.put("joshua", "Joshua");
-        mapping.put("judges", "Judges");
-        mapping.put("ruth", "Ruth");
-        mapping.put("1samuel", "1 Samuel");
-        mapping.put("2samuel", "2 Samuel");
-        mapping.put("1kings", "1 Kings");
-        mapping.put("2kings", "2 Kings");
-        mapping.put("1chronicles", "1 Chronicles");
-        mapping.put("2chronicles", "2 Chronicles");
-        mapping.put("ezra", "Ezra");
-        mapping.put("nehemiah", "Nehemiah");
-        mapping.put("esther", "Esther");
-        mapping.put("job", "Job");
-        mapping.put("psalms", "Psalms");
-        mapping.put("proverbs", "Proverbs");
-        mapping.put("ecclesiastes", "Ecclesiastes");
-        mapping.put("songofsolomon", "Song of Solomon");
-        mapping.put("isaiah", "Isaiah");
-        mapping.put("jeremiah", "Jeremiah");
-        mapping.put("lamentations", "Lamentations");
-        mapping.put("ezekiel", "Ezekiel");
-        mapping.put("daniel", "Daniel");
-        mapping.put("hosea", "Hosea");
-        mapping.put("joel", "Joel");
-        mapping.put("amos", "Amos");
-        mapping.put("obadiah", "Obadiah");
-        mapping.put("jonah", "Jonah");
-        mapping.put("micah", "Micah");
-        mapping.put("nahum", "Nahum");
-        mapping.put("habakkuk", "Habakkuk");
-        mapping.put("zephaniah", "Zephaniah");
-        mapping.put("haggai", "Haggai");
-        mapping.put("zechariah", "Zechariah");
-        mapping.put("malachi", "Malachi");
-        mapping.put("matthew", "Matthew");
-        mapping.put("mark", "Mark");
-        mapping.put("luke", "Luke");
-        mapping.put("john", "John");
-        mapping.put("acts", "Acts");
-        mapping.put("romans", "Romans");
-        mapping.put("1corinthians", "1 Corinthians");
-        mapping.put("2corinthians", "2 Corinthians");
-        mapping.put("galatians", "Galatians");
-        mapping.put("ephesians", "Ephesians");
-        mapping.put("philippians", "Philippians");
-        mapping.put("colossians", "Colossians");
-        mapping.put("1thessalonians", "1 Thessalonians");
-        mapping.put("2thessalonians", "2 Thessalonians");
-        mapping.put("1timothy", "1 Timothy");
-        mapping.put("2timothy", "2 Timothy");
-        mapping.put("titus", "Titus");
-        mapping.put("philemon", "Philemon");
-        mapping.put("hebrews", "Hebrews");
-        mapping.put("james", "James");
-        mapping.put("1peter", "1 Peter");
-        mapping.put("2peter", "2 Peter");
-        mapping.put("1john", "1 John");
-        mapping.put("2john", "2 John");
-        mapping.put("3john", "3 John");
-        mapping.put("jude", "Jude");
-        mapping.put("revelation", "Revelation");
-        return mapping;
+        loadTimeMillis = endTime - startTime;
+        log.info("Loaded {} Bible books into memory from {} in {}ms. Total verses: {}, estimated retained bytes: {}, text mapped: {}",
+                availableBooks.size(), source, (endTime - startTime), getTotalVerseCount(),
+                corpus.estimatedRetainedBytes(), corpus.isTextMapped());
     }
 
-    private void loadBook(String fileName, String bookName) throws IOException {
-        String resourcePath = "/data/bible/" + fileName + ".json";
-        
-        try (InputStream inputStream = getClass().getResourceAsStream(resourcePath)) {
-            if (inputStream == null) {
-                throw new IOException("Resource not found: " + resourcePath);
-            }
-
-            List<JsonNode> bookData = objectMapper.readValue(inputStream, new TypeReference<List<JsonNode>>() {});
-            
-            Map<Integer, Map<Integer, String>> chapters = new HashMap<>();
-            
-            for (JsonNode item : bookData) {
-                if ("paragraph text".equals(item.get("type").asText())) {
-                    int chapterNumber = item.get("chapterNumber").asInt();
-                    int verseNumber = item.get("verseNumber").asInt();
-                    String text = item.get("value").asText().trim();
-                    
-                    chapters.computeIfAbsent(chapterNumber, k -> new HashMap<>())
-                            .put(verseNumber, text);
+    private BibleCorpus loadSnapshot() {
+        try {
+            if (snapshotPath != null && !snapshotPath.isBlank()) {
+                Path file = Path.of(snapshotPath);
+                if (Files.isRegularFile(file)) {
+                    return CorpusSnapshot.map(file);
                 }
+                log.warn("Configured corpus snapshot {} does not exist", file);
             }
-            
-            if (!chapters.isEmpty()) {
-                bibleData.put(bookName, chapters);
-                availableBooks.add(bookName);
-                log.debug("Loaded {} with {} chapters", bookName, chapters.size());
+            BibleCorpus bundled = CorpusSnapshot.loadResource();
+            if (bundled == null) {
+                log.info("No corpus snapshot found, falling back to JSON");
             }
+            return bundled;
+        } catch (IOException e) {
+            log.warn("Could not read corpus snapshot, falling back to JSON: {}", e.getMessage());
+            return null;
         }
     }
 
+    /**
+     * Display names of the loaded books in canonical order, as an unmodifiable list.
+     */
     public List<String> getAvailableBooks() {
-        return new ArrayList<>(availableBooks);
+        return availableBooks;
+    }
+
+    public BibleCorpus getCorpus() {
+        return corpus;
+    }
+
+    /**
+     * Wall-clock time the last {@link #loadBibleData()} took, in milliseconds.
+     */
+    public long getLoadTimeMillis() {
+        return loadTimeMillis;
+    }
+
+    /**
+     * Canonical ordinal of a loaded book, or -1 if the book is unknown or was not loaded.
+     */
+    public int getBookOrdinal(String book) {
+        CanonicalBook canonicalBook = CanonicalBook.fromDisplayName(book);
+        if (canonicalBook == null || !corpus.hasBook(canonicalBook.ordinal())) {
+            return -1;
+        }
+        return canonicalBook.ordinal();
     }
 
     public BibleChapter getChapter(String book, int chapter) {
-        Map<Integer, Map<Integer, String>> bookData = bibleData.get(book);
-        if (bookData == null) {
+        int bookOrdinal = getBookOrdinal(book);
+        if (bookOrdinal < 0) {
             return null;
         }
-        
-        Map<Integer, String> chapterData = bookData.get(chapter);
-        if (chapterData == null) {
+
+        int chapterIndex = corpus.chapterIndex(bookOrdinal, chapter);
+        if (chapterIndex < 0) {
             return null;
         }
-        
-        return new BibleChapter(book, chapter, chapterData);
+
+        return new BibleChapter(book, chapter, corpus, chapterIndex);
     }
 
     public String getVerse(String book, int chapter, int verse) {
-        BibleChapter chapterData = getChapter(book, chapter);
-        return chapterData != null ? chapterData.getVerse(verse) : null;
+        int ordinal = corpus.verseOrdinal(getBookOrdinal(book), chapter, verse);
+        return ordinal >= 0 ? corpus.verseText(ordinal) : null;
+    }
+
+    /**
+     * The paragraph containing a verse plus up to {@code context} paragraphs on either side within the book,
+     * or null if the verse does not exist.
+     */
+    public BiblePassage getPassage(String book, int chapter, int verse, int context) {
+        if (context < 0 || context > MAX_PASSAGE_CONTEXT) {
+            throw new IllegalArgumentException("Context must be between 0 and " + MAX_PASSAGE_CONTEXT + " paragraphs");
+        }
+        BibleCorpus current = corpus;
+        int bookOrdinal = getBookOrdinal(book);
+        int ordinal = current.verseOrdinal(bookOrdinal, chapter, verse);
+        if (ordinal < 0) {
+            return null;
+        }
+
+        // Paragraphs never span books, so clamping to the book's paragraphs keeps the passage in the book
+        int paragraph = current.paragraphIndex(ordinal);
+        int firstParagraph = current.paragraphIndex(current.firstBookVerseOrdinal(bookOrdinal));
+        int lastParagraph = current.paragraphIndex(current.endBookVerseOrdinal(bookOrdinal) - 1);
+        int from = Math.max(firstParagraph, paragraph - context);
+        int to = Math.min(lastParagraph, paragraph + context);
+
+        List<BibleParagraph> paragraphs = new ArrayList<>(to - from + 1);
+        for (int p = from; p <= to; p++) {
+            List<BiblePassageVerse> verses = new ArrayList<>();
+            for (int o = current.paragraphFirstVerseOrdinal(p); o < current.paragraphEndVerseOrdinal(p); o++) {
+                List<String> parts = new ArrayList<>(current.versePartCount(o));
+                for (int part = 0; part < current.versePartCount(o); part++) {
+                    parts.add(current.versePart(o, part));
+                }
+                verses.add(new BiblePassageVerse(current.chapterNumber(current.verseChapterIndex(o)),
+                        current.verseNumber(o), parts));
+            }
+            paragraphs.add(new BibleParagraph(current.isPoetry(p), verses));
+        }
+
+        BiblePassageVerse first = paragraphs.get(0).getVerses().get(0);
+        List<BiblePassageVerse> lastVerses = paragraphs.get(paragraphs.size() - 1).getVerses();
+        BiblePassageVerse last = lastVerses.get(lastVerses.size() - 1);
+        String reference;
+        if (first.getChapter() != last.getChapter()) {
+            reference = book + " " + first.getChapter() + ":" + first.getVerse() + "-" + last.getChapter() + ":" + last.getVerse();
+        } else if (first.getVerse() != last.getVerse()) {
+            reference = book + " " + first.getChapter() + ":" + first.getVerse() + "-" + last.getVerse();
+        } else {
+            reference = book + " " + first.getChapter() + ":" + first.getVerse();
+        }
+        return new BiblePassage(book, reference, paragraphs);
     }
 
     public List<Integer> getChaptersForBook(String book) {
-        Map<Integer, Map<Integer, String>> bookData = bibleData.get(book);
-        if (bookData == null) {
+        int bookOrdinal = getBookOrdinal(book);
+        if (bookOrdinal < 0) {
             return Collections.emptyList();
         }
-        return new ArrayList<>(bookData.keySet());
+        int firstChapter = corpus.firstChapterIndex(bookOrdinal);
+        int chapterCount = corpus.chapterCount(bookOrdinal);
+        List<Integer> chapters = new ArrayList<>(chapterCount);
+        for (int i = 0; i < chapterCount; i++) {
+            chapters.add(corpus.chapterNumber(firstChapter + i));
+        }
+        return chapters;
     }
 
     public boolean hasBook(String book) {
-        return bibleData.containsKey(book);
+        return getBookOrdinal(book) >= 0;
     }
 
     private long getTotalVerseCount() {
-        return bibleData.values().stream()
-                .flatMap(chapters -> chapters.values().stream())
-                .mapToLong(verses -> verses.size())
-                .sum();
+        return corpus.verseCount();
     }
-}
\ No newline at end of file
+}
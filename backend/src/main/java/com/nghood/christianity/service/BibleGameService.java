@@ -1,68 +1,334 @@
 package com.nghood.christianity.service;
 
-import com.nghood.christianity.model.BibleChapter;
+import com.nghood.christianity.corpus.BibleCorpus;
 import com.nghood.christianity.model.BibleVerse;
+import com.nghood.christianity.model.BibleVerseRange;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.GameGuessResult;
+import com.nghood.christianity.model.GameSessionStats;
+import com.nghood.christianity.model.ParallelRound;
+import com.nghood.christianity.model.SamplingMode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BibleGameService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS_PER_VERSE = 50;
+
+    // Session guesses: points for the right book and for the right chapter, less one per revealed verse
+    private static final int BOOK_POINTS = 10;
+    private static final int CHAPTER_POINTS = 10;
+    private static final int MIN_POINTS = 1;
+
+    // Parallel rounds: verses tried before giving up, how similar the parallel must be, and wrong options shown
+    private static final int MAX_PARALLEL_ATTEMPTS = 200;
+    private static final double PARALLEL_MIN_SIMILARITY = 0.5;
+    private static final int PARALLEL_DISTRACTORS = 3;
+    private static final int MAX_DISTRACTOR_DRAWS = 1000;
+
     private final BibleDataService bibleDataService;
-    private final Random random = new Random();
+    private final GameSessionStore gameSessionStore;
+    private final SimilarVerseService similarVerseService;
+    private volatile VerseSampler verseSampler;
+
+    // Verses handed out per canonical book, exported as game draw metrics
+    private final LongAdder[] drawsPerBook = newDrawCounters();
 
     /**
      * Get a random verse from the selected books using Book -> Chapter -> Verse algorithm
      * This ensures small books appear as often as large books
      */
     public BibleVerse getRandomVerse(Set<String> selectedBooks) {
+        return getRandomVerse(selectedBooks, SamplingMode.BOOK);
+    }
+
+    /**
+     * Get a random verse from the selected books using the given weighting mode
+     */
+    public BibleVerse getRandomVerse(Set<String> selectedBooks, SamplingMode mode) {
+        VerseSampler sampler = getVerseSampler();
+        VerseSampler.Selection selection = sampler.select(resolveBooks(selectedBooks));
+        int ordinal = sampler.draw(selection, mode, ThreadLocalRandom.current());
+
+        BibleVerse verse = toBibleVerse(sampler.getCorpus(), ordinal);
+        recordDraw(sampler.getCorpus(), ordinal);
+        log.debug("Generated random verse: {} {}:{}", verse.getBook(), verse.getChapter(), verse.getVerseNumber());
+        return verse;
+    }
+
+    /**
+     * Draw a random verse like {@link #getRandomVerse(Set, SamplingMode)} and open a game session on it.
+     * The returned verse carries the session id; expansions and the guess then only need that id.
+     */
+    public BibleVerse startSession(Set<String> selectedBooks, SamplingMode mode) {
+        VerseSampler sampler = getVerseSampler();
+        VerseSampler.Selection selection = sampler.select(resolveBooks(selectedBooks));
+        int ordinal = sampler.draw(selection, mode, ThreadLocalRandom.current());
+
+        BibleVerse verse = toBibleVerse(sampler.getCorpus(), ordinal);
+        verse.setSessionId(gameSessionStore.create(sampler.getCorpus(), ordinal));
+        recordDraw(sampler.getCorpus(), ordinal);
+        return verse;
+    }
+
+    /**
+     * Reveal one more verse of a session's chapter, after the shown range first and then before it.
+     * Returns null if the session does not exist or has expired.
+     */
+    public BibleVerse expandSession(String sessionId) {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        GameSessionStore.GameSession session = gameSessionStore.find(sessionId, corpus);
+        if (session == null) {
+            return null;
+        }
+        int ordinal;
+        boolean canExpandMore;
+        synchronized (session) {
+            ordinal = session.expand();
+            canExpandMore = session.canExpand();
+        }
+
+        int chapterIndex = corpus.verseChapterIndex(ordinal);
+        BibleVerse verse = new BibleVerse(corpus.verseText(ordinal),
+                CanonicalBook.ofOrdinal(corpus.chapterBook(chapterIndex)).getDisplayName(),
+                corpus.chapterNumber(chapterIndex), corpus.verseNumber(ordinal));
+        verse.setCanExpandMore(canExpandMore);
+        verse.setTotalVersesInChapter(corpus.chapterVerseCount(chapterIndex));
+        verse.setSessionId(sessionId);
+        return verse;
+    }
+
+    /**
+     * Score a guess of where a session's verse is from and close the session for further play.
+     * Returns null if the session does not exist or has expired.
+     */
+    public GameGuessResult guessSession(String sessionId, String book, Integer chapter) {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        GameSessionStore.GameSession session = gameSessionStore.find(sessionId, corpus);
+        if (session == null) {
+            return null;
+        }
+        int reveals;
+        synchronized (session) {
+            session.markGuessed();
+            reveals = session.getReveals();
+        }
+
+        int ordinal = session.getVerse();
+        int chapterIndex = corpus.verseChapterIndex(ordinal);
+        int answerBook = corpus.chapterBook(chapterIndex);
+        int answerChapter = corpus.chapterNumber(chapterIndex);
+        boolean bookCorrect = book != null && BookNameIndex.getInstance().lookup(book) == answerBook;
+        boolean chapterCorrect = bookCorrect && chapter != null && chapter == answerChapter;
+
+        int score = 0;
+        if (bookCorrect) {
+            score = Math.max(MIN_POINTS, BOOK_POINTS + (chapterCorrect ? CHAPTER_POINTS : 0) - reveals);
+        }
+        String reference = String.format("%s %d:%d", CanonicalBook.ofOrdinal(answerBook).getDisplayName(),
+                answerChapter, corpus.verseNumber(ordinal));
+        return new GameGuessResult(bookCorrect, chapterCorrect, reveals, score, reference);
+    }
+
+    /**
+     * A "which passage parallels this?" round: a verse from the selected books that has a close parallel
+     * elsewhere, the parallel's reference among shuffled references of random verses, and the right answer.
+     */
+    public ParallelRound getParallelRound(Set<String> selectedBooks, SamplingMode mode) {
+        VerseSampler sampler = getVerseSampler();
+        BibleCorpus corpus = sampler.getCorpus();
+        VerseSampler.Selection selection = sampler.select(resolveBooks(selectedBooks));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int attempt = 0; attempt < MAX_PARALLEL_ATTEMPTS; attempt++) {
+            int ordinal = sampler.draw(selection, mode, random);
+            SimilarVerseIndex.Match parallel = similarVerseService.bestParallel(corpus, ordinal, PARALLEL_MIN_SIMILARITY);
+            if (parallel == null) {
+                continue;
+            }
+
+            String answer = reference(corpus, parallel.ordinal());
+            List<String> options = new ArrayList<>(PARALLEL_DISTRACTORS + 1);
+            options.add(answer);
+            int excludedChapter = corpus.verseChapterIndex(ordinal);
+            int answerChapter = corpus.verseChapterIndex(parallel.ordinal());
+            for (int draw = 0; options.size() <= PARALLEL_DISTRACTORS; draw++) {
+                if (draw == MAX_DISTRACTOR_DRAWS) {
+                    throw new IllegalStateException("Not enough verses outside the parallel chapters for distractors");
+                }
+                int distractor = random.nextInt(corpus.verseCount());
+                int chapterIndex = corpus.verseChapterIndex(distractor);
+                String option = reference(corpus, distractor);
+                if (chapterIndex != excludedChapter && chapterIndex != answerChapter && !options.contains(option)) {
+                    options.add(option);
+                }
+            }
+            Collections.shuffle(options, random);
+
+            recordDraw(corpus, ordinal);
+            return new ParallelRound(toBibleVerse(corpus, ordinal), options, answer, parallel.similarity());
+        }
+        throw new IllegalStateException("No verse with a parallel passage found in the selected books");
+    }
+
+    private static String reference(BibleCorpus corpus, int ordinal) {
+        int chapterIndex = corpus.verseChapterIndex(ordinal);
+        return String.format("%s %d:%d", CanonicalBook.ofOrdinal(corpus.chapterBook(chapterIndex)).getDisplayName(),
+                corpus.chapterNumber(chapterIndex), corpus.verseNumber(ordinal));
+    }
+
+    public GameSessionStats getSessionStats() {
+        return gameSessionStore.getStats();
+    }
+
+    /**
+     * Get {@code count} distinct random verses from the selected books in one call, or every verse of the
+     * selection when it has fewer. With a seed the sequence is reproducible for the same books, mode and
+     * count, so a whole game can be prefetched and replayed.
+     */
+    public List<BibleVerse> getRandomVerses(Set<String> selectedBooks, int count, SamplingMode mode, Long seed) {
+        if (count < 1 || count > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Count must be between 1 and " + MAX_BATCH_SIZE);
+        }
+
+        VerseSampler sampler = getVerseSampler();
+        VerseSampler.Selection selection = sampler.select(resolveBooks(selectedBooks));
+        RandomGenerator random = seed != null ? new SplittableRandom(seed) : ThreadLocalRandom.current();
+
+        int target = Math.min(count, selection.verseCount());
+        int maxAttempts = target * MAX_ATTEMPTS_PER_VERSE;
+        BitSet drawn = new BitSet();
+        List<BibleVerse> verses = new ArrayList<>(target);
+        for (int attempt = 0; attempt < maxAttempts && verses.size() < target; attempt++) {
+            int ordinal = sampler.draw(selection, mode, random);
+            if (!drawn.get(ordinal)) {
+                drawn.set(ordinal);
+                verses.add(toBibleVerse(sampler.getCorpus(), ordinal));
+                recordDraw(sampler.getCorpus(), ordinal);
+            }
+        }
+
+        if (verses.size() < target) {
+            // Out of attempts on a skewed selection: finish with undrawn verses so the batch is never short
+            addUndrawnVerses(sampler, selection, drawn, target, random, verses);
+        }
+
+        log.debug("Generated {} random verses for {} requested", verses.size(), count);
+        return verses;
+    }
+
+    private void addUndrawnVerses(VerseSampler sampler, VerseSampler.Selection selection, BitSet drawn, int target,
+                                  RandomGenerator random, List<BibleVerse> verses) {
+        BibleCorpus corpus = sampler.getCorpus();
+        int[] undrawn = new int[selection.verseCount()];
+        int undrawnCount = 0;
+        for (int i = 0; i < selection.bookCount(); i++) {
+            int book = selection.book(i);
+            for (int ordinal = corpus.firstBookVerseOrdinal(book); ordinal < corpus.endBookVerseOrdinal(book); ordinal++) {
+                if (!drawn.get(ordinal)) {
+                    undrawn[undrawnCount++] = ordinal;
+                }
+            }
+        }
+        // Partial Fisher-Yates shuffle: each pick is uniform over the verses not yet taken
+        for (int i = 0; i < undrawnCount && verses.size() < target; i++) {
+            int pick = i + random.nextInt(undrawnCount - i);
+            int ordinal = undrawn[pick];
+            undrawn[pick] = undrawn[i];
+            drawn.set(ordinal);
+            verses.add(toBibleVerse(corpus, ordinal));
+            recordDraw(corpus, ordinal);
+        }
+    }
+
+    /**
+     * Number of verses drawn from the book since startup, by either random-verse endpoint.
+     */
+    public long getDrawCount(CanonicalBook book) {
+        return drawsPerBook[book.ordinal()].sum();
+    }
+
+    private void recordDraw(BibleCorpus corpus, int ordinal) {
+        drawsPerBook[corpus.verseBook(ordinal)].increment();
+    }
+
+    private static LongAdder[] newDrawCounters() {
+        LongAdder[] counters = new LongAdder[CanonicalBook.count()];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private BitSet resolveBooks(Set<String> selectedBooks) {
         if (selectedBooks.isEmpty()) {
             throw new IllegalArgumentException("No books selected");
         }
 
-        // Step 1: Randomly select a book from the selected books
-        List<String> availableBooks = selectedBooks.stream()
-                .filter(bibleDataService::hasBook)
-                .toList();
-        
-        if (availableBooks.isEmpty()) {
-            throw new IllegalArgumentException("None of the selected books are available");
+        BitSet books = new BitSet(CanonicalBook.count());
+        for (String book : selectedBooks) {
+            int ordinal = bibleDataService.getBookOrdinal(book);
+            if (ordinal >= 0) {
+                books.set(ordinal);
+            }
         }
 
-        String randomBook = availableBooks.get(random.nextInt(availableBooks.size()));
-
-        // Step 2: Randomly select a chapter from that book
-        List<Integer> chapters = bibleDataService.getChaptersForBook(randomBook);
-        if (chapters.isEmpty()) {
-            throw new IllegalStateException("No chapters found for book: " + randomBook);
+        if (books.isEmpty()) {
+            throw new IllegalArgumentException("None of the selected books are available");
         }
+        return books;
+    }
 
-        int randomChapter = chapters.get(random.nextInt(chapters.size()));
+    @PostConstruct
+    public void buildVerseSampler() {
+        long startTime = System.currentTimeMillis();
+        getVerseSampler();
+        log.info("Built verse sampler in {}ms", System.currentTimeMillis() - startTime);
+    }
 
-        // Step 3: Randomly select a verse from that chapter
-        BibleChapter chapterData = bibleDataService.getChapter(randomBook, randomChapter);
-        if (chapterData == null || chapterData.getVerseCount() == 0) {
-            throw new IllegalStateException("No verses found for " + randomBook + " " + randomChapter);
+    // Built at startup; rebuilt once, under the lock, if the corpus is ever replaced
+    private VerseSampler getVerseSampler() {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        VerseSampler sampler = verseSampler;
+        if (sampler == null || sampler.getCorpus() != corpus) {
+            synchronized (this) {
+                sampler = verseSampler;
+                if (sampler == null || sampler.getCorpus() != corpus) {
+                    sampler = new VerseSampler(corpus);
+                    verseSampler = sampler;
+                }
+            }
         }
+        return sampler;
+    }
 
-        List<Integer> verseNumbers = chapterData.getVerses().keySet().stream().sorted().toList();
-        int randomVerseNumber = verseNumbers.get(random.nextInt(verseNumbers.size()));
-        String verseText = chapterData.getVerse(randomVerseNumber);
+    private BibleVerse toBibleVerse(BibleCorpus corpus, int ordinal) {
+        int chapterIndex = corpus.verseChapterIndex(ordinal);
+        String book = CanonicalBook.ofOrdinal(corpus.chapterBook(chapterIndex)).getDisplayName();
+        int verseCount = corpus.chapterVerseCount(chapterIndex);
 
-        BibleVerse verse = new BibleVerse(verseText, randomBook, randomChapter, randomVerseNumber);
-        
-        // Set expansion metadata
-        verse.setCanExpandMore(chapterData.getVerseCount() > 1);
-        verse.setTotalVersesInChapter(chapterData.getVerseCount());
+        BibleVerse verse = new BibleVerse(corpus.verseText(ordinal), book,
+                corpus.chapterNumber(chapterIndex), corpus.verseNumber(ordinal));
 
-        log.debug("Generated random verse: {}", verse.getFormattedReference());
+        // Set expansion metadata
+        verse.setCanExpandMore(verseCount > 1);
+        verse.setTotalVersesInChapter(verseCount);
         return verse;
     }
 
@@ -71,43 +337,34 @@ public class BibleGameService {
      * Priority: 1) Try next verse (after toVerse), 2) Try previous verse (before fromVerse)
      */
     public BibleVerse expandVerse(String book, int chapter, int fromVerse, int toVerse) {
-        BibleChapter chapterData = bibleDataService.getChapter(book, chapter);
-        if (chapterData == null) {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        int chapterIndex = corpus.chapterIndex(bibleDataService.getBookOrdinal(book), chapter);
+        if (chapterIndex < 0) {
             throw new IllegalArgumentException("Chapter not found: " + book + " " + chapter);
         }
 
         // Try to expand after the current range first (going forward in the chapter)
-        int nextVerse = toVerse + 1;
-        if (chapterData.hasVerse(nextVerse)) {
-            String verseText = chapterData.getVerse(nextVerse);
-            BibleVerse expandedVerse = new BibleVerse(verseText, book, chapter, nextVerse);
-            
+        int nextOrdinal = corpus.verseOrdinalInChapter(chapterIndex, toVerse + 1);
+        if (nextOrdinal >= 0) {
+            BibleVerse expandedVerse = new BibleVerse(corpus.verseText(nextOrdinal), book, chapter, toVerse + 1);
+
             // Check if more expansion is possible after adding this verse
-            int newFromVerse = fromVerse;
-            int newToVerse = nextVerse;
-            boolean canExpandMore = canExpandRange(book, chapter, newFromVerse, newToVerse);
-            
-            expandedVerse.setCanExpandMore(canExpandMore);
-            expandedVerse.setTotalVersesInChapter(chapterData.getVerseCount());
-            
+            expandedVerse.setCanExpandMore(canExpandRange(corpus, chapterIndex, fromVerse, toVerse + 1));
+            expandedVerse.setTotalVersesInChapter(corpus.chapterVerseCount(chapterIndex));
+
             log.debug("Expanded verse range forward to include: {}", expandedVerse.getFormattedReference());
             return expandedVerse;
         }
 
         // If no next verse, try to expand before the current range (going backward in the chapter)
-        int previousVerse = fromVerse - 1;
-        if (chapterData.hasVerse(previousVerse)) {
-            String verseText = chapterData.getVerse(previousVerse);
-            BibleVerse expandedVerse = new BibleVerse(verseText, book, chapter, previousVerse);
-            
+        int previousOrdinal = corpus.verseOrdinalInChapter(chapterIndex, fromVerse - 1);
+        if (previousOrdinal >= 0) {
+            BibleVerse expandedVerse = new BibleVerse(corpus.verseText(previousOrdinal), book, chapter, fromVerse - 1);
+
             // Check if more expansion is possible after adding this verse
-            int newFromVerse = previousVerse;
-            int newToVerse = toVerse;
-            boolean canExpandMore = canExpandRange(book, chapter, newFromVerse, newToVerse);
-            
-            expandedVerse.setCanExpandMore(canExpandMore);
-            expandedVerse.setTotalVersesInChapter(chapterData.getVerseCount());
-            
+            expandedVerse.setCanExpandMore(canExpandRange(corpus, chapterIndex, fromVerse - 1, toVerse));
+            expandedVerse.setTotalVersesInChapter(corpus.chapterVerseCount(chapterIndex));
+
             log.debug("Expanded verse range backward to include: {}", expandedVerse.getFormattedReference());
             return expandedVerse;
         }
@@ -118,27 +375,101 @@ public class BibleGameService {
     }
 
     /**
-     * Check if a verse range can be expanded (either forward or backward)
+     * Get verses fromVerse..toVerse of a chapter in one call, together with the expansion boundaries.
+     * Verse numbers missing from the chapter inside the range are skipped.
      */
-    public boolean canExpandRange(String book, int chapter, int fromVerse, int toVerse) {
-        BibleChapter chapterData = bibleDataService.getChapter(book, chapter);
-        if (chapterData == null) {
-            return false;
+    public BibleVerseRange getVerseRange(String book, int chapter, int fromVerse, int toVerse) {
+        if (fromVerse > toVerse) {
+            throw new IllegalArgumentException("Invalid verse range: " + fromVerse + "-" + toVerse);
+        }
+
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        int chapterIndex = corpus.chapterIndex(bibleDataService.getBookOrdinal(book), chapter);
+        if (chapterIndex < 0) {
+            throw new IllegalArgumentException("Chapter not found: " + book + " " + chapter);
+        }
+
+        // Verses of a chapter are contiguous ordinals, so the range is a single slice
+        int start = corpus.ceilingVerseOrdinal(chapterIndex, fromVerse);
+        int end = toVerse == Integer.MAX_VALUE
+                ? corpus.endVerseOrdinal(chapterIndex)
+                : corpus.ceilingVerseOrdinal(chapterIndex, toVerse + 1);
+        if (start >= end) {
+            throw new IllegalArgumentException("No verses in " + book + " " + chapter + ":" + fromVerse + "-" + toVerse);
         }
 
-        // Check if we can expand forward (after toVerse)
-        int nextVerse = toVerse + 1;
-        if (chapterData.hasVerse(nextVerse)) {
-            return true;
+        int[] verseNumbers = new int[end - start];
+        String[] verses = new String[end - start];
+        for (int ordinal = start; ordinal < end; ordinal++) {
+            verseNumbers[ordinal - start] = corpus.verseNumber(ordinal);
+            verses[ordinal - start] = corpus.verseText(ordinal);
         }
 
-        // Check if we can expand backward (before fromVerse)
-        int previousVerse = fromVerse - 1;
-        if (chapterData.hasVerse(previousVerse)) {
-            return true;
+        int first = verseNumbers[0];
+        int last = verseNumbers[verseNumbers.length - 1];
+        String reference = first == last
+                ? String.format("%s %d:%d", book, chapter, first)
+                : String.format("%s %d:%d-%d", book, chapter, first, last);
+
+        return new BibleVerseRange(book, chapter, first, last, reference, verseNumbers, verses,
+                corpus.verseOrdinalInChapter(chapterIndex, first - 1) >= 0,
+                corpus.verseOrdinalInChapter(chapterIndex, last + 1) >= 0,
+                corpus.chapterVerseCount(chapterIndex));
+    }
+
+    /**
+     * Grow a verse range of a chapter to whole paragraphs. A range that already covers whole paragraphs
+     * takes in the next paragraph, or the previous one at the end of the chapter.
+     */
+    public BibleVerseRange expandToParagraph(String book, int chapter, int fromVerse, int toVerse) {
+        if (fromVerse > toVerse) {
+            throw new IllegalArgumentException("Invalid verse range: " + fromVerse + "-" + toVerse);
+        }
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        int chapterIndex = corpus.chapterIndex(bibleDataService.getBookOrdinal(book), chapter);
+        if (chapterIndex < 0) {
+            throw new IllegalArgumentException("Chapter not found: " + book + " " + chapter);
         }
 
-        // No expansion possible in either direction
-        return false;
+        int start = corpus.ceilingVerseOrdinal(chapterIndex, fromVerse);
+        int end = corpus.ceilingVerseOrdinal(chapterIndex, toVerse + 1);
+        if (start >= end) {
+            throw new IllegalArgumentException("No verses in " + book + " " + chapter + ":" + fromVerse + "-" + toVerse);
+        }
+
+        // Paragraphs may run across chapters; the range stays inside this chapter
+        int chapterStart = corpus.firstVerseOrdinal(chapterIndex);
+        int chapterEnd = corpus.endVerseOrdinal(chapterIndex);
+        int from = Math.max(chapterStart, corpus.paragraphFirstVerseOrdinal(corpus.paragraphIndex(start)));
+        int to = Math.min(chapterEnd, corpus.paragraphEndVerseOrdinal(corpus.paragraphIndex(end - 1)));
+        if (from == start && to == end) {
+            if (to < chapterEnd) {
+                to = Math.min(chapterEnd, corpus.paragraphEndVerseOrdinal(corpus.paragraphIndex(to)));
+            } else if (from > chapterStart) {
+                from = Math.max(chapterStart, corpus.paragraphFirstVerseOrdinal(corpus.paragraphIndex(from - 1)));
+            } else {
+                throw new IllegalStateException("Cannot expand verse range for " + book + " " + chapter +
+                        " (currently showing verses " + fromVerse + "-" + toVerse + ")");
+            }
+        }
+        return getVerseRange(book, chapter, corpus.verseNumber(from), corpus.verseNumber(to - 1));
+    }
+
+    /**
+     * Check if a verse range can be expanded (either forward or backward)
+     */
+    public boolean canExpandRange(String book, int chapter, int fromVerse, int toVerse) {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        int chapterIndex = corpus.chapterIndex(bibleDataService.getBookOrdinal(book), chapter);
+        if (chapterIndex < 0) {
+            return false;
+        }
+        return canExpandRange(corpus, chapterIndex, fromVerse, toVerse);
+    }
+
+    private boolean canExpandRange(BibleCorpus corpus, int chapterIndex, int fromVerse, int toVerse) {
+        // Check if we can expand forward (after toVerse), then backward (before fromVerse)
+        return corpus.verseOrdinalInChapter(chapterIndex, toVerse + 1) >= 0
+                || corpus.verseOrdinalInChapter(chapterIndex, fromVerse - 1) >= 0;
     }
-}
\ No newline at end of file
+}
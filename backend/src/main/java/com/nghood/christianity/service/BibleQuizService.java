@@ -0,0 +1,435 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.QuizAnswer;
+import com.nghood.christianity.model.QuizAnswerResult;
+import com.nghood.christianity.model.QuizQuestion;
+import com.nghood.christianity.model.QuizSession;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-side quiz over the question bank in {@code /data/bible-quiz.json}.
+ *
+ * The bank is loaded once into indexes of question positions by book and by type; a new session combines them
+ * into its candidate pool without scanning the questions. Each session then draws from the pool in a keyed
+ * pseudo-random order (a Feistel permutation with cycle walking), so it needs only a cursor, a key and one bit
+ * per candidate to remember what it has drawn and answered. Answers are graded here, so the answer key never
+ * reaches the browser. Sessions live in a bounded, access-ordered map and expire after a period of inactivity.
+ */
+@Service
+@Slf4j
+public class BibleQuizService {
+
+    public static final int MAX_BOOK_FILTERS = 66;
+
+    private static final String RESOURCE_PATH = "/data/bible-quiz.json";
+    private static final int FEISTEL_ROUNDS = 4;
+
+    private final ObjectMapper objectMapper;
+    private final int maxSessions;
+    private final long sessionTtlMillis;
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile QuestionBank bank = new QuestionBank(new Question[0]);
+    private final LinkedHashMap<String, Session> sessions;
+
+    public BibleQuizService(ObjectMapper objectMapper,
+                            @Value("${app.quiz.max-sessions:10000}") int maxSessions,
+                            @Value("${app.quiz.session-ttl-minutes:60}") long sessionTtlMinutes) {
+        this.objectMapper = objectMapper;
+        this.maxSessions = maxSessions;
+        this.sessionTtlMillis = TimeUnit.MINUTES.toMillis(sessionTtlMinutes);
+        this.sessions = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+                return size() > BibleQuizService.this.maxSessions;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void loadQuestions() {
+        try (InputStream input = getClass().getResourceAsStream(RESOURCE_PATH)) {
+            if (input == null) {
+                log.warn("No quiz question bank at {}", RESOURCE_PATH);
+                return;
+            }
+            load(input);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Could not load quiz question bank {}", RESOURCE_PATH, e);
+        }
+    }
+
+    /**
+     * Replace the question bank. Sessions started on the previous bank keep drawing from it.
+     */
+    public void load(InputStream input) throws IOException {
+        JsonNode root = objectMapper.readTree(input);
+        JsonNode items = root.path("questions");
+        if (!items.isArray()) {
+            throw new IllegalArgumentException("Question bank must contain a \"questions\" array");
+        }
+        List<Question> questions = new ArrayList<>(items.size());
+        Set<Integer> ids = new HashSet<>();
+        for (JsonNode item : items) {
+            Question question = Question.parse(item);
+            if (!ids.add(question.id())) {
+                throw new IllegalArgumentException("Duplicate quiz question id " + question.id());
+            }
+            questions.add(question);
+        }
+        bank = new QuestionBank(questions.toArray(new Question[0]));
+        log.info("Loaded {} quiz questions", questions.size());
+    }
+
+    public int getQuestionCount() {
+        return bank.questions.length;
+    }
+
+    /**
+     * Start a session over the questions about any of {@code books} (all questions when empty) of the given
+     * {@code type} (any when null), limited to {@code count} questions when positive.
+     */
+    public QuizSession startSession(List<String> books, String type, int count) {
+        if (books != null && books.size() > MAX_BOOK_FILTERS) {
+            throw new IllegalArgumentException("At most " + MAX_BOOK_FILTERS + " books");
+        }
+        QuestionBank current = bank;
+        int[] pool = current.pool(books, type);
+        if (pool.length == 0) {
+            throw new IllegalArgumentException("No quiz questions match the selection");
+        }
+        int total = count > 0 ? Math.min(count, pool.length) : pool.length;
+
+        byte[] idBytes = new byte[16];
+        random.nextBytes(idBytes);
+        Session session = new Session(HexFormat.of().formatHex(idBytes), current, pool, total, random.nextLong(),
+                System.currentTimeMillis());
+        synchronized (sessions) {
+            sessions.put(session.id, session);
+        }
+        return session.summary();
+    }
+
+    /**
+     * Progress of a session, or null if it does not exist or has expired.
+     */
+    public QuizSession getSession(String sessionId) {
+        Session session = find(sessionId);
+        return session == null ? null : session.summary();
+    }
+
+    /**
+     * The next question of a session. Returns null if the session does not exist or has expired; throws
+     * IllegalStateException once all of its questions have been drawn.
+     */
+    public QuizQuestion nextQuestion(String sessionId) {
+        Session session = find(sessionId);
+        if (session == null) {
+            return null;
+        }
+        return session.bank.view(session.next());
+    }
+
+    /**
+     * Grade an answer to a question drawn in this session; each question is graded once. Returns null if the
+     * session does not exist or has expired.
+     */
+    public QuizAnswerResult answer(String sessionId, QuizAnswer answer) {
+        if (answer == null) {
+            throw new IllegalArgumentException("No answer given");
+        }
+        Session session = find(sessionId);
+        if (session == null) {
+            return null;
+        }
+        Session.Graded graded = session.grade(answer);
+        Question question = session.bank.questions[graded.position()];
+        return new QuizAnswerResult(question.id(), graded.correct(), question.answer(), question.notes(),
+                session.summary());
+    }
+
+    public int getSessionCount() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.quiz.sweep-interval-ms:60000}")
+    public void expireSessions() {
+        expireSessions(System.currentTimeMillis());
+    }
+
+    void expireSessions(long now) {
+        int removed = 0;
+        synchronized (sessions) {
+            // Access order: the least recently used sessions come first
+            for (Iterator<Session> it = sessions.values().iterator(); it.hasNext(); ) {
+                if (!it.next().expired(now, sessionTtlMillis)) {
+                    break;
+                }
+                it.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.debug("Expired {} quiz sessions", removed);
+        }
+    }
+
+    private Session find(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (sessions) {
+            Session session = sessions.get(sessionId);
+            if (session == null) {
+                return null;
+            }
+            if (session.expired(now, sessionTtlMillis)) {
+                sessions.remove(sessionId);
+                return null;
+            }
+            session.lastAccess = now;
+            return session;
+        }
+    }
+
+    /**
+     * Keyed bijection on {@code [0, n)}: a balanced Feistel network over the next even power of two, walked
+     * until it lands inside the range.
+     */
+    static int permute(int index, int n, long key) {
+        int halfBits = Math.max(1, (32 - Integer.numberOfLeadingZeros(Math.max(1, n - 1)) + 1) / 2);
+        int halfMask = (1 << halfBits) - 1;
+        int value = index;
+        do {
+            int left = value >>> halfBits;
+            int right = value & halfMask;
+            for (int round = 0; round < FEISTEL_ROUNDS; round++) {
+                int mixed = left ^ (roundFunction(right, round, key) & halfMask);
+                left = right;
+                right = mixed;
+            }
+            value = left << halfBits | right;
+        } while (value >= n);
+        return value;
+    }
+
+    private static int roundFunction(int value, int round, long key) {
+        long x = (value + 1L) * 0x9E3779B97F4A7C15L ^ key ^ (round + 1L) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 31)) * 0x94D049BB133111EBL;
+        return (int) (x ^ (x >>> 29));
+    }
+
+    private record Question(int id, String type, String question, List<String> options, List<String> answer,
+                            int[] books, List<String> bookNames, String notes) {
+
+        static Question parse(JsonNode item) {
+            if (!item.path("id").canConvertToInt() || !item.path("question").isTextual()) {
+                throw new IllegalArgumentException("Quiz question needs an integer id and a question text: " + item);
+            }
+            int id = item.get("id").asInt();
+            String type = item.path("type").asText("single");
+            List<String> options = strings(item.path("options"));
+            List<String> answer = strings(item.path("answer"));
+            if (answer.isEmpty() || !options.containsAll(answer)) {
+                throw new IllegalArgumentException("Quiz question " + id + " must answer with its own options");
+            }
+            List<String> bookNames = new ArrayList<>();
+            int[] books = strings(item.path("books")).stream()
+                    .mapToInt(name -> {
+                        int book = BookNameIndex.getInstance().lookup(name);
+                        if (book < 0) {
+                            throw new IllegalArgumentException("Quiz question " + id + " names unknown book " + name);
+                        }
+                        bookNames.add(CanonicalBook.ofOrdinal(book).getDisplayName());
+                        return book;
+                    })
+                    .toArray();
+            String notes = item.path("notes").isTextual() ? item.get("notes").asText() : null;
+            return new Question(id, type, item.get("question").asText(), options, answer, books,
+                    List.copyOf(bookNames), notes);
+        }
+
+        private static List<String> strings(JsonNode array) {
+            List<String> values = new ArrayList<>();
+            array.forEach(value -> values.add(value.asText()));
+            return List.copyOf(values);
+        }
+    }
+
+    /**
+     * The questions with positions indexed by book ordinal and by type.
+     */
+    private static final class QuestionBank {
+        private final Question[] questions;
+        private final int[][] byBook;
+        private final Map<String, int[]> byType;
+        private final Map<Integer, Integer> positionById;
+
+        private QuestionBank(Question[] questions) {
+            this.questions = questions;
+            List<List<Integer>> books = new ArrayList<>();
+            for (int i = 0; i < CanonicalBook.count(); i++) {
+                books.add(new ArrayList<>());
+            }
+            Map<String, List<Integer>> types = new HashMap<>();
+            positionById = new HashMap<>();
+            for (int position = 0; position < questions.length; position++) {
+                Question question = questions[position];
+                positionById.put(question.id(), position);
+                types.computeIfAbsent(question.type(), type -> new ArrayList<>()).add(position);
+                for (int book : question.books()) {
+                    books.get(book).add(position);
+                }
+            }
+            byBook = books.stream().map(positions -> positions.stream().mapToInt(Integer::intValue).toArray())
+                    .toArray(int[][]::new);
+            byType = new HashMap<>();
+            types.forEach((type, positions) -> byType.put(type, positions.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        /**
+         * Positions of the matching questions in ascending order.
+         */
+        private int[] pool(List<String> bookFilter, String type) {
+            long[] selected = new long[(questions.length + 63) >>> 6];
+            if (bookFilter == null || bookFilter.isEmpty()) {
+                Arrays.fill(selected, -1L);
+            } else {
+                for (String name : bookFilter) {
+                    int book = BookNameIndex.getInstance().lookup(name);
+                    if (book < 0) {
+                        throw new IllegalArgumentException("Unknown book: " + name);
+                    }
+                    for (int position : byBook[book]) {
+                        selected[position >>> 6] |= 1L << position;
+                    }
+                }
+            }
+            if (type != null && !type.isBlank()) {
+                long[] ofType = new long[selected.length];
+                for (int position : byType.getOrDefault(type.trim(), new int[0])) {
+                    ofType[position >>> 6] |= 1L << position;
+                }
+                for (int i = 0; i < selected.length; i++) {
+                    selected[i] &= ofType[i];
+                }
+            }
+            int[] pool = new int[questions.length];
+            int size = 0;
+            for (int position = 0; position < questions.length; position++) {
+                if ((selected[position >>> 6] & 1L << position) != 0) {
+                    pool[size++] = position;
+                }
+            }
+            return Arrays.copyOf(pool, size);
+        }
+
+        private int positionOf(int questionId) {
+            Integer position = positionById.get(questionId);
+            return position == null ? -1 : position;
+        }
+
+        private QuizQuestion view(int position) {
+            Question question = questions[position];
+            return new QuizQuestion(question.id(), question.type(), question.question(), question.options(),
+                    question.bookNames());
+        }
+    }
+
+    /**
+     * One player's pass over a pool: the pool is shared with the bank, everything else is a few words plus two
+     * bits per candidate.
+     */
+    private static final class Session {
+        private final String id;
+        private final QuestionBank bank;
+        private final int[] pool;
+        private final int total;
+        private final long key;
+        private final long[] drawn;
+        private final long[] answered;
+        private int cursor;
+        private int answeredCount;
+        private int correctCount;
+        private volatile long lastAccess;
+
+        private Session(String id, QuestionBank bank, int[] pool, int total, long key, long now) {
+            this.id = id;
+            this.bank = bank;
+            this.pool = pool;
+            this.total = total;
+            this.key = key;
+            this.drawn = new long[(pool.length + 63) >>> 6];
+            this.answered = new long[drawn.length];
+            this.lastAccess = now;
+        }
+
+        private synchronized int next() {
+            if (cursor >= total) {
+                throw new IllegalStateException("All questions of this session have been drawn");
+            }
+            int slot = permute(cursor++, pool.length, key);
+            drawn[slot >>> 6] |= 1L << slot;
+            return pool[slot];
+        }
+
+        private record Graded(int position, boolean correct) {
+        }
+
+        private synchronized Graded grade(QuizAnswer answer) {
+            int position = bank.positionOf(answer.getQuestionId());
+            int slot = position < 0 ? -1 : Arrays.binarySearch(pool, position);
+            if (slot < 0 || (drawn[slot >>> 6] & 1L << slot) == 0) {
+                throw new IllegalArgumentException("Question " + answer.getQuestionId() + " was not drawn in this session");
+            }
+            if ((answered[slot >>> 6] & 1L << slot) != 0) {
+                throw new IllegalArgumentException("Question " + answer.getQuestionId() + " was already answered");
+            }
+            List<String> given = answer.getAnswers() == null ? List.of() : answer.getAnswers();
+            if (given.stream().anyMatch(Objects::isNull)) {
+                throw new IllegalArgumentException("Answers must not be null");
+            }
+            answered[slot >>> 6] |= 1L << slot;
+            answeredCount++;
+            boolean correct = new HashSet<>(given).equals(new HashSet<>(bank.questions[position].answer()));
+            if (correct) {
+                correctCount++;
+            }
+            return new Graded(position, correct);
+        }
+
+        private synchronized QuizSession summary() {
+            return new QuizSession(id, total, cursor, answeredCount, correctCount);
+        }
+
+        private boolean expired(long now, long ttlMillis) {
+            return now - lastAccess > ttlMillis;
+        }
+    }
+}
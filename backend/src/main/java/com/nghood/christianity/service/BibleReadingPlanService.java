@@ -1,39 +1,169 @@
 package com.nghood.christianity.service;
 
+import com.nghood.christianity.corpus.BibleCorpus;
 import com.nghood.christianity.model.BibleBook;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.ReadingDay;
+import com.nghood.christianity.model.ReadingPlan;
+import com.nghood.christianity.model.ReadingPlanPair;
+import com.nghood.christianity.model.ScriptureReference;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+/**
+ * Reading plans that interleave NT books with size-matched OT books.
+ *
+ * A plan is fully determined by its seed (and the configured optimizer step count, never by timing), so the same
+ * seed always yields the same book order and schedule; recent plans for client-supplied seeds are memoized, while
+ * plans from fresh random seeds are built without touching the cache. Word counts come from the loaded text, and the OT/NT pairing is refined
+ * by {@link PairingOptimizer}. Schedules split a plan into daily portions balanced on text length and are
+ * produced lazily, one day at a time.
+ */
 @Service
+@Slf4j
 public class BibleReadingPlanService {
 
-    private static final List<BibleBook> BIBLE_BOOKS = initializeBibleBooks();
+    public static final int MAX_SCHEDULE_DAYS = 3650;
+    // Seeds stay below 2^53 so they survive a round trip through JavaScript numbers
+    private static final long MAX_RANDOM_SEED = 1L << 53;
+    private static final int MAX_CACHED_PLANS = 256;
+    // A day may end at a chapter boundary this far (as a fraction of a day's reading) from its ideal cut
+    private static final double CHAPTER_SNAP_TOLERANCE = 0.25;
 
+    // Annealing steps per walk when refining a plan's pairing; part of what a seed reproduces
+    @Value("${app.reading-plan.optimizer-steps:20000}")
+    private int optimizerSteps = PairingOptimizer.DEFAULT_STEPS_PER_WALK;
+
+    private final BibleDataService bibleDataService;
+
+    // Pending or built plans by seed, so concurrent requests for one seed share a single build
+    private final Map<Long, CompletableFuture<PlanLayout>> planCache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CompletableFuture<PlanLayout>> eldest) {
+            return size() > MAX_CACHED_PLANS;
+        }
+    };
+    private BookWords planCacheWords;
+
+    private volatile BookWords bookWords;
+    private volatile TextLengths textLengths;
+
+    public BibleReadingPlanService(BibleDataService bibleDataService) {
+        this.bibleDataService = bibleDataService;
+    }
+
+    @PostConstruct
+    public void computeWordCounts() {
+        long startTime = System.currentTimeMillis();
+        BookWords words = getBookWords();
+        log.info("Computed word counts for {} books in {}ms", words.books.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * A new plan from a random seed; use {@link #getOrderedBibleBooks(long)} to reproduce a known plan.
+     */
     public List<BibleBook> getOrderedBibleBooks() {
+        return buildPlan(newSeed(), getBookWords()).books();
+    }
+
+    public long newSeed() {
+        return ThreadLocalRandom.current().nextLong(MAX_RANDOM_SEED);
+    }
+
+    public List<BibleBook> getOrderedBibleBooks(long seed) {
+        return getPlanLayout(seed).books();
+    }
+
+    /**
+     * The plan with this seed including its NT/OT pairs and the summed word imbalance of the pairing.
+     */
+    public ReadingPlan getReadingPlan(long seed) {
+        return toReadingPlan(seed, getPlanLayout(seed));
+    }
+
+    /**
+     * A plan from a fresh random seed, returned with that seed. It is not cached, since a random seed is
+     * rarely asked for again and would only push client-supplied seeds out of the cache.
+     */
+    public ReadingPlan newReadingPlan() {
+        long seed = newSeed();
+        return toReadingPlan(seed, buildPlan(seed, getBookWords()));
+    }
+
+    private ReadingPlan toReadingPlan(long seed, PlanLayout layout) {
+        List<String> names = layout.books().stream().map(BibleBook::getName).collect(Collectors.toList());
+        return new ReadingPlan(seed, names, layout.pairs(), layout.totalImbalance());
+    }
+
+    /**
+     * Per-book word counts of the loaded text, in canonical order.
+     */
+    public List<BibleBook> getBibleBooks() {
+        return getBookWords().books;
+    }
+
+    private PlanLayout getPlanLayout(long seed) {
+        BookWords words = getBookWords();
+        CompletableFuture<PlanLayout> pending = new CompletableFuture<>();
+        CompletableFuture<PlanLayout> existing;
+        synchronized (planCache) {
+            if (planCacheWords != words) {
+                planCache.clear();
+                planCacheWords = words;
+            }
+            existing = planCache.putIfAbsent(seed, pending);
+        }
+        if (existing != null) {
+            return existing.join();
+        }
+
+        // Build outside the lock; requests for the same seed wait on this build instead of repeating it
+        try {
+            PlanLayout layout = buildPlan(seed, words);
+            pending.complete(layout);
+            return layout;
+        } catch (RuntimeException e) {
+            synchronized (planCache) {
+                planCache.remove(seed, pending);
+            }
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private PlanLayout buildPlan(long seed, BookWords words) {
+        Random random = new Random(seed);
 
         // Step 1: Get OT books sorted by size, NT books shuffled
-        List<BibleBook> oldTestament = BIBLE_BOOKS.stream()
+        List<BibleBook> oldTestament = words.books.stream()
                 .filter(BibleBook::isOldTestament)
                 .sorted(Comparator.comparingInt(BibleBook::getWordCount))
                 .collect(Collectors.toList());
+        List<BibleBook> otBySize = List.copyOf(oldTestament);
 
-        List<BibleBook> newTestament = BIBLE_BOOKS.stream()
+        List<BibleBook> newTestament = words.books.stream()
                 .filter(book -> !book.isOldTestament())
                 .collect(Collectors.toList());
 
-        Collections.shuffle(newTestament);
+        Collections.shuffle(newTestament, random);
 
         // Calculate median word count of all Bible books
-        List<Integer> allWordCounts = BIBLE_BOOKS.stream()
+        List<Integer> allWordCounts = words.books.stream()
                 .map(BibleBook::getWordCount)
                 .sorted()
                 .toList();
-        int median = allWordCounts.get(allWordCounts.size() / 2);
+        int median = allWordCounts.isEmpty() ? 0 : allWordCounts.get(allWordCounts.size() / 2);
 
         // Identify the 12 largest NT books (they get 2 OT books each)
-        Set<BibleBook> largestNtBooks = BIBLE_BOOKS.stream()
+        Set<BibleBook> largestNtBooks = words.books.stream()
                 .filter(book -> !book.isOldTestament())
                 .sorted(Comparator.comparingInt(BibleBook::getWordCount).reversed())
                 .limit(12)
@@ -45,34 +175,81 @@ public class BibleReadingPlanService {
             ntToOtMapping.put(ntBook, new ArrayList<>());
         }
 
-        // Assign OT books using median-based algorithm
-        assignOtBooksToNtBooks(oldTestament, newTestament, ntToOtMapping, median, largestNtBooks);
+        // Assign OT books using median-based algorithm as the starting point
+        assignOtBooksToNtBooks(oldTestament, newTestament, ntToOtMapping, median, largestNtBooks, random);
 
-        // DEBUG: Calculate and print total imbalance
-        int totalImbalance = 0;
-        for (Map.Entry<BibleBook, List<BibleBook>> entry : ntToOtMapping.entrySet()) {
-            int ntWords = entry.getKey().getWordCount();
-            int otTotal = entry.getValue().stream().mapToInt(BibleBook::getWordCount).sum();
-            totalImbalance += Math.abs(ntWords - otTotal);
+        // Step 3: Refine the pairing to minimize the total NT/OT imbalance
+        if (!newTestament.isEmpty() && !otBySize.isEmpty()) {
+            optimizePairing(otBySize, newTestament, ntToOtMapping, random.nextLong());
         }
 
-
         // Shuffle NT books again before flattening for additional randomness
-        Collections.shuffle(newTestament);
-        
+        Collections.shuffle(newTestament, random);
+
+        List<ReadingPlanPair> pairs = new ArrayList<>(newTestament.size());
+        long totalImbalance = 0;
+        for (BibleBook ntBook : newTestament) {
+            List<BibleBook> otBooks = ntToOtMapping.get(ntBook);
+            int otWords = otBooks.stream().mapToInt(BibleBook::getWordCount).sum();
+            int imbalance = Math.abs(ntBook.getWordCount() - otWords);
+            totalImbalance += imbalance;
+            pairs.add(new ReadingPlanPair(ntBook.getName(), ntBook.getWordCount(),
+                    otBooks.stream().map(BibleBook::getName).toList(), otWords, imbalance));
+        }
+
         // Flatten to final list
-        return flattenToReadingOrder(newTestament, ntToOtMapping);
+        return new PlanLayout(List.copyOf(flattenToReadingOrder(newTestament, ntToOtMapping)),
+                List.copyOf(pairs), totalImbalance);
     }
 
+    private void optimizePairing(List<BibleBook> oldTestament, List<BibleBook> newTestament,
+                                 Map<BibleBook, List<BibleBook>> ntToOtMapping, long seed) {
+        int[] ntWords = newTestament.stream().mapToInt(BibleBook::getWordCount).toArray();
+        int[] otWords = oldTestament.stream().mapToInt(BibleBook::getWordCount).toArray();
+
+        // OT index -> NT index; any OT book the greedy pass left over joins the group furthest below its target
+        Map<BibleBook, Integer> otIndex = new HashMap<>();
+        for (int i = 0; i < oldTestament.size(); i++) {
+            otIndex.put(oldTestament.get(i), i);
+        }
+        int[] assignment = new int[otWords.length];
+        Arrays.fill(assignment, -1);
+        long[] groupWords = new long[ntWords.length];
+        for (int nt = 0; nt < newTestament.size(); nt++) {
+            for (BibleBook otBook : ntToOtMapping.get(newTestament.get(nt))) {
+                assignment[otIndex.get(otBook)] = nt;
+                groupWords[nt] += otBook.getWordCount();
+            }
+        }
+        for (int ot = 0; ot < assignment.length; ot++) {
+            if (assignment[ot] < 0) {
+                int target = 0;
+                for (int nt = 1; nt < ntWords.length; nt++) {
+                    if (ntWords[nt] - groupWords[nt] > ntWords[target] - groupWords[target]) {
+                        target = nt;
+                    }
+                }
+                assignment[ot] = target;
+                groupWords[target] += otWords[ot];
+            }
+        }
+
+        int[] optimized = new PairingOptimizer(ntWords, otWords, optimizerSteps).optimize(assignment, seed);
+
+        // Larger OT book first within each NT book's group, as before
+        ntToOtMapping.values().forEach(List::clear);
+        for (int ot = oldTestament.size() - 1; ot >= 0; ot--) {
+            ntToOtMapping.get(newTestament.get(optimized[ot])).add(oldTestament.get(ot));
+        }
+    }
 
     private void assignOtBooksToNtBooks(List<BibleBook> oldTestament, List<BibleBook> newTestament,
                                         Map<BibleBook, List<BibleBook>> ntToOtMapping, int median,
-                                        Set<BibleBook> largestNtBooks) {
+                                        Set<BibleBook> largestNtBooks, Random random) {
         // OT books are sorted by size (smallest to largest)
         // Use two pointers to assign from start (small) or end (large)
         int startIdx = 0;
         int endIdx = oldTestament.size() - 1;
-        Random random = new Random();
 
         // Process each NT book in shuffled order
         for (BibleBook ntBook : newTestament) {
@@ -126,78 +303,254 @@ public class BibleReadingPlanService {
         return result;
     }
 
-    private static List<BibleBook> initializeBibleBooks() {
-        List<BibleBook> books = new ArrayList<>();
-
-        // Old Testament books with word counts
-        books.add(new BibleBook("Genesis", true, 32046));
-        books.add(new BibleBook("Exodus", true, 25957));
-        books.add(new BibleBook("Leviticus", true, 18852));
-        books.add(new BibleBook("Numbers", true, 25048));
-        books.add(new BibleBook("Deuteronomy", true, 23008));
-        books.add(new BibleBook("Joshua", true, 15671));
-        books.add(new BibleBook("Judges", true, 15385));
-        books.add(new BibleBook("Ruth", true, 2039));
-        books.add(new BibleBook("1 Samuel", true, 20837));
-        books.add(new BibleBook("2 Samuel", true, 17170));
-        books.add(new BibleBook("1 Kings", true, 20361));
-        books.add(new BibleBook("2 Kings", true, 18784));
-        books.add(new BibleBook("1 Chronicles", true, 16664));
-        books.add(new BibleBook("2 Chronicles", true, 21349));
-        books.add(new BibleBook("Ezra", true, 5605));
-        books.add(new BibleBook("Nehemiah", true, 8507));
-        books.add(new BibleBook("Esther", true, 4932));
-        books.add(new BibleBook("Job", true, 12674));
-        books.add(new BibleBook("Psalms", true, 30147));
-        books.add(new BibleBook("Proverbs", true, 9921));
-        books.add(new BibleBook("Ecclesiastes", true, 4537));
-        books.add(new BibleBook("Song of Solomon", true, 2020));
-        books.add(new BibleBook("Isaiah", true, 25608));
-        books.add(new BibleBook("Jeremiah", true, 33002));
-        books.add(new BibleBook("Lamentations", true, 2324));
-        books.add(new BibleBook("Ezekiel", true, 29918));
-        books.add(new BibleBook("Daniel", true, 9001));
-        books.add(new BibleBook("Hosea", true, 3615));
-        books.add(new BibleBook("Joel", true, 1447));
-        books.add(new BibleBook("Amos", true, 3027));
-        books.add(new BibleBook("Obadiah", true, 440));
-        books.add(new BibleBook("Jonah", true, 1082));
-        books.add(new BibleBook("Micah", true, 2118));
-        books.add(new BibleBook("Nahum", true, 855));
-        books.add(new BibleBook("Habakkuk", true, 1011));
-        books.add(new BibleBook("Zephaniah", true, 1141));
-        books.add(new BibleBook("Haggai", true, 926));
-        books.add(new BibleBook("Zechariah", true, 4855));
-        books.add(new BibleBook("Malachi", true, 1320));
-
-        // New Testament books with word counts
-        books.add(new BibleBook("Matthew", false, 18346));
-        books.add(new BibleBook("Mark", false, 11304));
-        books.add(new BibleBook("Luke", false, 19482));
-        books.add(new BibleBook("John", false, 15635));
-        books.add(new BibleBook("Acts", false, 18450));
-        books.add(new BibleBook("Romans", false, 7111));
-        books.add(new BibleBook("1 Corinthians", false, 6830));
-        books.add(new BibleBook("2 Corinthians", false, 4477));
-        books.add(new BibleBook("Galatians", false, 2230));
-        books.add(new BibleBook("Ephesians", false, 2422));
-        books.add(new BibleBook("Philippians", false, 1629));
-        books.add(new BibleBook("Colossians", false, 1582));
-        books.add(new BibleBook("1 Thessalonians", false, 1481));
-        books.add(new BibleBook("2 Thessalonians", false, 823));
-        books.add(new BibleBook("1 Timothy", false, 1591));
-        books.add(new BibleBook("2 Timothy", false, 1238));
-        books.add(new BibleBook("Titus", false, 659));
-        books.add(new BibleBook("Philemon", false, 335));
-        books.add(new BibleBook("Hebrews", false, 4971));
-        books.add(new BibleBook("James", false, 1742));
-        books.add(new BibleBook("1 Peter", false, 1684));
-        books.add(new BibleBook("2 Peter", false, 1099));
-        books.add(new BibleBook("1 John", false, 1950));
-        books.add(new BibleBook("2 John", false, 219));
-        books.add(new BibleBook("3 John", false, 185));
-        books.add(new BibleBook("Jude", false, 451));
-        books.add(new BibleBook("Revelation", false, 9851));
-        return books;
-    }
-}
\ No newline at end of file
+    /**
+     * Day-by-day schedule for the plan with this seed, split into {@code days} portions of roughly equal
+     * text length. Days end on a verse, preferably on a chapter boundary, and may span several books.
+     * Days are computed on demand, so long schedules are never held in memory.
+     */
+    public Iterator<ReadingDay> getSchedule(long seed, int days) {
+        checkScheduleDays(days);
+        return getSchedule(getReadingPlan(seed), days);
+    }
+
+    /**
+     * Day-by-day schedule for an already built plan, such as one from {@link #newReadingPlan()}.
+     */
+    public Iterator<ReadingDay> getSchedule(ReadingPlan plan, int days) {
+        checkScheduleDays(days);
+        TextLengths lengths = getTextLengths();
+        int[] books = plan.getBooks().stream()
+                .map(CanonicalBook::fromDisplayName)
+                .filter(book -> book != null && lengths.corpus.hasBook(book.ordinal()))
+                .mapToInt(CanonicalBook::ordinal)
+                .toArray();
+        ScheduleIterator schedule = new ScheduleIterator(lengths, books, days);
+        if (days > schedule.verseCount) {
+            throw new IllegalArgumentException("Cannot split " + schedule.verseCount + " verses into " + days + " days");
+        }
+        return schedule;
+    }
+
+    private static void checkScheduleDays(int days) {
+        if (days < 1 || days > MAX_SCHEDULE_DAYS) {
+            throw new IllegalArgumentException("Days must be between 1 and " + MAX_SCHEDULE_DAYS);
+        }
+    }
+
+    private TextLengths getTextLengths() {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        TextLengths current = textLengths;
+        if (current == null || current.corpus != corpus) {
+            current = new TextLengths(corpus);
+            textLengths = current;
+        }
+        return current;
+    }
+
+    /**
+     * Prefix sums of verse text length in canonical verse order.
+     */
+    private static final class TextLengths {
+        private final BibleCorpus corpus;
+        private final long[] prefix;
+
+        TextLengths(BibleCorpus corpus) {
+            this.corpus = corpus;
+            this.prefix = new long[corpus.verseCount() + 1];
+            for (int ordinal = 0; ordinal < corpus.verseCount(); ordinal++) {
+                prefix[ordinal + 1] = prefix[ordinal] + corpus.verseTextLength(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Walks the plan's verses as one sequence of positions (book after book in plan order) and cuts it
+     * where the running text length crosses each day's share.
+     */
+    private static final class ScheduleIterator implements Iterator<ReadingDay> {
+        private final BibleCorpus corpus;
+        private final long[] prefix;
+        private final int[] books;
+        private final int[] bookStart;
+        private final long[] bookLengthStart;
+        private final int verseCount;
+        private final long totalLength;
+        private final int days;
+        private int day;
+        private int position;
+
+        ScheduleIterator(TextLengths lengths, int[] books, int days) {
+            this.corpus = lengths.corpus;
+            this.prefix = lengths.prefix;
+            this.books = books;
+            this.days = days;
+            this.bookStart = new int[books.length + 1];
+            this.bookLengthStart = new long[books.length + 1];
+            for (int i = 0; i < books.length; i++) {
+                int first = corpus.firstBookVerseOrdinal(books[i]);
+                int end = corpus.endBookVerseOrdinal(books[i]);
+                bookStart[i + 1] = bookStart[i] + (end - first);
+                bookLengthStart[i + 1] = bookLengthStart[i] + (prefix[end] - prefix[first]);
+            }
+            this.verseCount = bookStart[books.length];
+            this.totalLength = bookLengthStart[books.length];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return day < days;
+        }
+
+        @Override
+        public ReadingDay next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int end = day == days - 1 ? verseCount : cutAfter(day);
+            ReadingDay readingDay = new ReadingDay(day + 1, passages(position, end),
+                    lengthBefore(end) - lengthBefore(position));
+            position = end;
+            day++;
+            return readingDay;
+        }
+
+        private int cutAfter(int day) {
+            // Every remaining day keeps at least one verse
+            int min = position + 1;
+            int max = verseCount - (days - day - 1);
+            double dailyLength = (double) totalLength / days;
+            long target = Math.round(dailyLength * (day + 1));
+
+            int cut = firstPositionReaching(target);
+            if (cut > 0 && target - lengthBefore(cut - 1) < lengthBefore(cut) - target) {
+                cut--;
+            }
+            cut = Math.max(min, Math.min(max, cut));
+
+            // Prefer the nearest chapter boundary around the cut if it is close enough
+            int last = cut - 1;
+            int ordinal = ordinalAt(last);
+            int chapterIndex = corpus.verseChapterIndex(ordinal);
+            int chapterStart = last - (ordinal - corpus.firstVerseOrdinal(chapterIndex));
+            int chapterEnd = last + (corpus.endVerseOrdinal(chapterIndex) - ordinal);
+            if (chapterEnd == cut) {
+                return cut;
+            }
+            long tolerance = Math.round(dailyLength * CHAPTER_SNAP_TOLERANCE);
+            int best = cut;
+            long bestDistance = Long.MAX_VALUE;
+            for (int candidate : new int[]{chapterStart, chapterEnd}) {
+                long distance = Math.abs(lengthBefore(candidate) - target);
+                if (candidate >= min && candidate <= max && distance <= tolerance && distance < bestDistance) {
+                    best = candidate;
+                    bestDistance = distance;
+                }
+            }
+            return best;
+        }
+
+        private int firstPositionReaching(long target) {
+            int low = 0;
+            int high = verseCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (lengthBefore(mid) < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Text length of the plan's verses before {@code position}.
+         */
+        private long lengthBefore(int position) {
+            if (position >= verseCount) {
+                return totalLength;
+            }
+            int book = bookAt(position);
+            int first = corpus.firstBookVerseOrdinal(books[book]);
+            return bookLengthStart[book] + prefix[first + position - bookStart[book]] - prefix[first];
+        }
+
+        private int ordinalAt(int position) {
+            int book = bookAt(position);
+            return corpus.firstBookVerseOrdinal(books[book]) + position - bookStart[book];
+        }
+
+        private int bookAt(int position) {
+            int found = Arrays.binarySearch(bookStart, 0, books.length, position);
+            if (found >= 0) {
+                // Skip books without verses that share the same start position
+                while (found + 1 < books.length && bookStart[found + 1] == position) {
+                    found++;
+                }
+                return found;
+            }
+            return -found - 2;
+        }
+
+        private List<ScriptureReference> passages(int from, int to) {
+            List<ScriptureReference> passages = new ArrayList<>();
+            for (int book = bookAt(from); book < books.length && bookStart[book] < to; book++) {
+                int start = Math.max(from, bookStart[book]);
+                int end = Math.min(to, bookStart[book + 1]);
+                if (start < end) {
+                    passages.add(passage(ordinalAt(start), ordinalAt(end - 1)));
+                }
+            }
+            return passages;
+        }
+
+        private ScriptureReference passage(int firstOrdinal, int lastOrdinal) {
+            return ScriptureReferenceService.describe(corpus, firstOrdinal, lastOrdinal);
+        }
+    }
+
+    private BookWords getBookWords() {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        BookWords current = bookWords;
+        if (current == null || current.corpus != corpus) {
+            current = new BookWords(corpus);
+            bookWords = current;
+        }
+        return current;
+    }
+
+    private record PlanLayout(List<BibleBook> books, List<ReadingPlanPair> pairs, long totalImbalance) {
+    }
+
+    /**
+     * Word count of every loaded book, counted from the corpus text with one task per book.
+     */
+    private static final class BookWords {
+        private final BibleCorpus corpus;
+        private final List<BibleBook> books;
+
+        BookWords(BibleCorpus corpus) {
+            this.corpus = corpus;
+            int[] counts = IntStream.range(0, CanonicalBook.count())
+                    .parallel()
+                    .map(book -> {
+                        if (!corpus.hasBook(book)) {
+                            return -1;
+                        }
+                        int words = 0;
+                        for (int ordinal = corpus.firstBookVerseOrdinal(book); ordinal < corpus.endBookVerseOrdinal(book); ordinal++) {
+                            words += corpus.verseWordCount(ordinal);
+                        }
+                        return words;
+                    })
+                    .toArray();
+            List<BibleBook> loaded = new ArrayList<>();
+            for (CanonicalBook book : CanonicalBook.values()) {
+                if (counts[book.ordinal()] >= 0) {
+                    loaded.add(new BibleBook(book.getDisplayName(), book.isOldTestament(), counts[book.ordinal()]));
+                }
+            }
+            this.books = List.copyOf(loaded);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.model.ResponseCacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Byte-budgeted LRU cache of pre-encoded JSON responses for the read-only Bible endpoints.
+ *
+ * Each entry holds the serialized body, a gzip variant when that is smaller, and a strong ETag derived
+ * from the content. Entries belong to one corpus instance; a reload of the corpus drops them all.
+ */
+@Service
+@Slf4j
+public class BibleResponseCache {
+
+    private static final int MIN_GZIP_BYTES = 256;
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final Duration maxAge;
+
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private Object generation;
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BibleResponseCache(ObjectMapper objectMapper,
+                              @Value("${app.response-cache.max-bytes:16777216}") long maxBytes,
+                              @Value("${app.response-cache.max-age-seconds:86400}") long maxAgeSeconds) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    /**
+     * Cached response for {@code key}, serializing {@code body} on a miss. {@code generation} identifies the
+     * data the body was built from (the corpus instance); a different generation invalidates every entry.
+     */
+    public CachedResponse get(Object generation, String key, Supplier<?> body) {
+        synchronized (entries) {
+            if (this.generation != generation) {
+                entries.clear();
+                bytes = 0;
+                this.generation = generation;
+            }
+            CachedResponse cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        // Serialize outside the lock; two racing misses just build the same bytes twice
+        misses.increment();
+        CachedResponse created = encode(body.get());
+        synchronized (entries) {
+            if (this.generation == generation && created.size() <= maxBytes) {
+                CachedResponse previous = entries.put(key, created);
+                bytes += created.size() - (previous == null ? 0 : previous.size());
+                evictToBudget();
+            }
+        }
+        return created;
+    }
+
+    public ResponseCacheStats getStats() {
+        synchronized (entries) {
+            return new ResponseCacheStats(entries.size(), bytes, maxBytes,
+                    hits.sum(), misses.sum(), evictions.sum());
+        }
+    }
+
+    /**
+     * Build the HTTP response for a cached entry: 304 when {@code If-None-Match} matches, otherwise the
+     * gzip variant when the client accepts it, always with the ETag and long-lived immutable caching.
+     */
+    public ResponseEntity<byte[]> toResponse(CachedResponse cached, String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = cached.gzip() != null && acceptsGzip(acceptEncoding);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(gzip ? cached.gzipEtag() : cached.etag());
+        headers.setCacheControl(CacheControl.maxAge(maxAge).cachePublic().immutable());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        if (matches(ifNoneMatch, cached)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return new ResponseEntity<>(gzip ? cached.gzip() : cached.json(), headers, HttpStatus.OK);
+    }
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().getValue().size();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Encode a body the same way as cached entries without storing it, for payloads that are precomputed
+     * and held by the caller.
+     */
+    public CachedResponse encode(Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        }
+        byte[] gzip = json.length >= MIN_GZIP_BYTES ? gzip(json) : null;
+        if (gzip != null && gzip.length >= json.length) {
+            gzip = null;
+        }
+        String hash = contentHash(json);
+        return new CachedResponse(json, gzip, "\"" + hash + "\"", "\"" + hash + GZIP_ETAG_SUFFIX + "\"");
+    }
+
+    private static boolean matches(String ifNoneMatch, CachedResponse cached) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        // If-None-Match uses weak comparison, so a W/ prefix (e.g. added by a proxy) still matches
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(cached.etag()) || candidate.equals(cached.gzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").equals("q=0");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String contentHash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Pre-encoded response body; {@code gzip} is null when compression would not help.
+     */
+    public record CachedResponse(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+
+        long size() {
+            return json.length + (gzip == null ? 0 : gzip.length) + 128L;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable inverted index over the verses of a {@link BibleCorpus}.
+ *
+ * Each term's postings are stored in one shared byte buffer as varints: for every verse containing the
+ * term, the delta to the previous verse ordinal, the term frequency and the delta-encoded token positions.
+ * Posting lists are decoded per query into primitive arrays; nothing is shared or mutated after build.
+ */
+final class BibleSearchIndex {
+
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+
+    private final BibleCorpus corpus;
+    private final Map<String, Integer> termIds;
+    private final int[] documentFrequency;
+    private final int[] postingStart;
+    private final byte[] postings;
+    private final int[] verseLength;
+    private final double averageVerseLength;
+
+    private BibleSearchIndex(BibleCorpus corpus, Map<String, Integer> termIds, int[] documentFrequency,
+                             int[] postingStart, byte[] postings, int[] verseLength, double averageVerseLength) {
+        this.corpus = corpus;
+        this.termIds = termIds;
+        this.documentFrequency = documentFrequency;
+        this.postingStart = postingStart;
+        this.postings = postings;
+        this.verseLength = verseLength;
+        this.averageVerseLength = averageVerseLength;
+    }
+
+    static BibleSearchIndex build(BibleCorpus corpus) {
+        int verseCount = corpus.verseCount();
+        Map<String, Integer> termIds = new HashMap<>();
+        int[] verseLength = new int[verseCount];
+
+        // Collect (term, verse, position) occurrences in verse order
+        int[] occurrenceTerm = new int[1 << 16];
+        int[] occurrenceVerse = new int[1 << 16];
+        int[] occurrencePosition = new int[1 << 16];
+        int occurrences = 0;
+        long totalLength = 0;
+        for (int ordinal = 0; ordinal < verseCount; ordinal++) {
+            List<String> tokens = VerseTokenizer.tokenize(corpus.verseText(ordinal));
+            verseLength[ordinal] = tokens.size();
+            totalLength += tokens.size();
+            for (int position = 0; position < tokens.size(); position++) {
+                if (occurrences == occurrenceTerm.length) {
+                    int capacity = occurrences * 2;
+                    occurrenceTerm = Arrays.copyOf(occurrenceTerm, capacity);
+                    occurrenceVerse = Arrays.copyOf(occurrenceVerse, capacity);
+                    occurrencePosition = Arrays.copyOf(occurrencePosition, capacity);
+                }
+                Integer termId = termIds.get(tokens.get(position));
+                if (termId == null) {
+                    termId = termIds.size();
+                    termIds.put(tokens.get(position), termId);
+                }
+                occurrenceTerm[occurrences] = termId;
+                occurrenceVerse[occurrences] = ordinal;
+                occurrencePosition[occurrences] = position;
+                occurrences++;
+            }
+        }
+
+        // Stable counting sort by term keeps verse and position order within each term
+        int termCount = termIds.size();
+        int[] termOffset = new int[termCount + 1];
+        for (int i = 0; i < occurrences; i++) {
+            termOffset[occurrenceTerm[i] + 1]++;
+        }
+        for (int t = 0; t < termCount; t++) {
+            termOffset[t + 1] += termOffset[t];
+        }
+        int[] sorted = new int[occurrences];
+        int[] cursor = Arrays.copyOf(termOffset, termCount);
+        for (int i = 0; i < occurrences; i++) {
+            sorted[cursor[occurrenceTerm[i]]++] = i;
+        }
+
+        VarintWriter writer = new VarintWriter(occurrences * 2);
+        int[] documentFrequency = new int[termCount];
+        int[] postingStart = new int[termCount + 1];
+        for (int t = 0; t < termCount; t++) {
+            postingStart[t] = writer.size();
+            int previousVerse = 0;
+            int i = termOffset[t];
+            while (i < termOffset[t + 1]) {
+                int verse = occurrenceVerse[sorted[i]];
+                int end = i;
+                while (end < termOffset[t + 1] && occurrenceVerse[sorted[end]] == verse) {
+                    end++;
+                }
+                writer.write(verse - previousVerse);
+                writer.write(end - i);
+                int previousPosition = 0;
+                for (int j = i; j < end; j++) {
+                    int position = occurrencePosition[sorted[j]];
+                    writer.write(position - previousPosition);
+                    previousPosition = position;
+                }
+                documentFrequency[t]++;
+                previousVerse = verse;
+                i = end;
+            }
+        }
+        postingStart[termCount] = writer.size();
+
+        double averageLength = verseCount == 0 ? 0 : (double) totalLength / verseCount;
+        return new BibleSearchIndex(corpus, Map.copyOf(termIds), documentFrequency, postingStart,
+                writer.toByteArray(), verseLength, averageLength);
+    }
+
+    BibleCorpus getCorpus() {
+        return corpus;
+    }
+
+    int termCount() {
+        return documentFrequency.length;
+    }
+
+    long postingBytes() {
+        return postings.length;
+    }
+
+    /**
+     * Term id for a normalized token, or -1 if the term does not occur in the corpus.
+     */
+    int termId(String term) {
+        Integer id = termIds.get(term);
+        return id == null ? -1 : id;
+    }
+
+    Postings postings(int termId) {
+        int count = documentFrequency[termId];
+        int[] verses = new int[count];
+        int[] frequencies = new int[count];
+        int[] positionStart = new int[count + 1];
+        int[] positions = new int[8];
+        int positionCount = 0;
+
+        int[] cursor = {postingStart[termId]};
+        int verse = 0;
+        for (int i = 0; i < count; i++) {
+            verse += readVarint(cursor);
+            int frequency = readVarint(cursor);
+            verses[i] = verse;
+            frequencies[i] = frequency;
+            positionStart[i] = positionCount;
+            if (positionCount + frequency > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(positions.length * 2, positionCount + frequency));
+            }
+            int position = 0;
+            for (int j = 0; j < frequency; j++) {
+                position += readVarint(cursor);
+                positions[positionCount++] = position;
+            }
+        }
+        positionStart[count] = positionCount;
+        return new Postings(verses, frequencies, positionStart, positions);
+    }
+
+    /**
+     * BM25 contribution of a term occurring {@code frequency} times in the verse.
+     */
+    double score(int termId, int frequency, int ordinal) {
+        double n = documentFrequency[termId];
+        double idf = Math.log(1 + (corpus.verseCount() - n + 0.5) / (n + 0.5));
+        double norm = BM25_K1 * (1 - BM25_B + BM25_B * verseLength[ordinal] / averageVerseLength);
+        return idf * frequency * (BM25_K1 + 1) / (frequency + norm);
+    }
+
+    private int readVarint(int[] cursor) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = postings[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    /**
+     * Decoded posting list of one term: verse ordinals ascending, with frequencies and token positions.
+     */
+    record Postings(int[] verses, int[] frequencies, int[] positionStart, int[] positions) {
+
+        int frequencyIn(int ordinal) {
+            int index = Arrays.binarySearch(verses, ordinal);
+            return index < 0 ? 0 : frequencies[index];
+        }
+
+        boolean hasPosition(int verseIndex, int position) {
+            return Arrays.binarySearch(positions, positionStart[verseIndex], positionStart[verseIndex + 1], position) >= 0;
+        }
+    }
+
+    private static final class VarintWriter {
+        private byte[] buffer;
+        private int size;
+
+        VarintWriter(int capacity) {
+            buffer = new byte[Math.max(16, capacity)];
+        }
+
+        void write(int value) {
+            if (size + 5 > buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            while ((value & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.BibleSearchHit;
+import com.nghood.christianity.model.BibleSearchResult;
+import com.nghood.christianity.model.CanonicalBook;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Full-text search over the loaded verses, backed by an immutable in-memory inverted index.
+ * Supports AND/OR/NOT and phrase queries (see {@link SearchQuery}), BM25 ranking, pagination and
+ * filtering by book set and testament.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BibleSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final BibleDataService bibleDataService;
+    private volatile BibleSearchIndex index;
+
+    @PostConstruct
+    public void buildIndex() {
+        long startTime = System.currentTimeMillis();
+        BibleSearchIndex built = BibleSearchIndex.build(bibleDataService.getCorpus());
+        index = built;
+        log.info("Built search index in {}ms: {} terms, {} posting bytes",
+                System.currentTimeMillis() - startTime, built.termCount(), built.postingBytes());
+    }
+
+    public BibleSearchResult search(String query, Set<String> books, String testament, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        SearchQuery parsed = SearchQuery.parse(query);
+        BibleSearchIndex searchIndex = getIndex();
+        BibleCorpus corpus = searchIndex.getCorpus();
+        boolean[] allowedBooks = resolveBookFilter(books, testament);
+        Map<Integer, BibleSearchIndex.Postings> postingsCache = new HashMap<>();
+
+        int[] matches = NO_MATCHES;
+        for (SearchQuery.Group group : parsed.groups()) {
+            matches = union(matches, evaluateGroup(searchIndex, group, postingsCache));
+        }
+
+        // Filter, then rank by BM25 over the required terms
+        int[] scoringTermIds = parsed.scoringTerms().stream()
+                .mapToInt(searchIndex::termId)
+                .filter(termId -> termId >= 0)
+                .toArray();
+        long[] ranked = new long[matches.length];
+        int hitCount = 0;
+        for (int ordinal : matches) {
+            if (!allowedBooks[corpus.verseBook(ordinal)]) {
+                continue;
+            }
+            double score = 0;
+            for (int termId : scoringTermIds) {
+                int frequency = postings(searchIndex, termId, postingsCache).frequencyIn(ordinal);
+                if (frequency > 0) {
+                    score += searchIndex.score(termId, frequency, ordinal);
+                }
+            }
+            // Positive float bits sort like the floats; ties fall back to canonical order
+            ranked[hitCount++] = ((long) Float.floatToIntBits((float) score) << 32) | (Integer.MAX_VALUE - ordinal);
+        }
+        Arrays.sort(ranked, 0, hitCount);
+
+        List<BibleSearchHit> hits = new ArrayList<>(size);
+        long from = (long) page * size;
+        for (long i = from; i < Math.min(hitCount, from + size); i++) {
+            long key = ranked[hitCount - 1 - (int) i];
+            int ordinal = Integer.MAX_VALUE - (int) key;
+            hits.add(toHit(corpus, ordinal, Float.intBitsToFloat((int) (key >>> 32))));
+        }
+
+        return new BibleSearchResult(query, hitCount, page, size, hits);
+    }
+
+    private int[] evaluateGroup(BibleSearchIndex searchIndex, SearchQuery.Group group,
+                                Map<Integer, BibleSearchIndex.Postings> postingsCache) {
+        int[] result = null;
+        for (String[] clause : group.required()) {
+            int[] verses = evaluateClause(searchIndex, clause, postingsCache);
+            result = result == null ? verses : intersect(result, verses);
+            if (result.length == 0) {
+                return NO_MATCHES;
+            }
+        }
+        for (String[] clause : group.excluded()) {
+            result = subtract(result, evaluateClause(searchIndex, clause, postingsCache));
+        }
+        return result;
+    }
+
+    private int[] evaluateClause(BibleSearchIndex searchIndex, String[] terms,
+                                 Map<Integer, BibleSearchIndex.Postings> postingsCache) {
+        BibleSearchIndex.Postings[] termPostings = new BibleSearchIndex.Postings[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            int termId = searchIndex.termId(terms[i]);
+            if (termId < 0) {
+                return NO_MATCHES;
+            }
+            termPostings[i] = postings(searchIndex, termId, postingsCache);
+        }
+        if (terms.length == 1) {
+            return termPostings[0].verses();
+        }
+
+        // Phrase: verses containing every term, then check for consecutive positions
+        int[] candidates = termPostings[0].verses();
+        for (int i = 1; i < terms.length; i++) {
+            candidates = intersect(candidates, termPostings[i].verses());
+        }
+        int[] matches = new int[candidates.length];
+        int count = 0;
+        for (int ordinal : candidates) {
+            if (containsPhrase(termPostings, ordinal)) {
+                matches[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private boolean containsPhrase(BibleSearchIndex.Postings[] termPostings, int ordinal) {
+        int[] verseIndex = new int[termPostings.length];
+        for (int i = 0; i < termPostings.length; i++) {
+            verseIndex[i] = Arrays.binarySearch(termPostings[i].verses(), ordinal);
+        }
+        BibleSearchIndex.Postings first = termPostings[0];
+        for (int p = first.positionStart()[verseIndex[0]]; p < first.positionStart()[verseIndex[0] + 1]; p++) {
+            int start = first.positions()[p];
+            boolean match = true;
+            for (int i = 1; i < termPostings.length && match; i++) {
+                match = termPostings[i].hasPosition(verseIndex[i], start + i);
+            }
+            if (match) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BibleSearchIndex.Postings postings(BibleSearchIndex searchIndex, int termId,
+                                               Map<Integer, BibleSearchIndex.Postings> postingsCache) {
+        return postingsCache.computeIfAbsent(termId, searchIndex::postings);
+    }
+
+    private boolean[] resolveBookFilter(Set<String> books, String testament) {
+        Boolean oldTestament = parseTestament(testament);
+        boolean[] allowed = new boolean[CanonicalBook.count()];
+        for (CanonicalBook book : CanonicalBook.values()) {
+            boolean inBooks = books == null || books.isEmpty() || books.contains(book.getDisplayName());
+            boolean inTestament = oldTestament == null || book.isOldTestament() == oldTestament;
+            allowed[book.ordinal()] = inBooks && inTestament;
+        }
+        return allowed;
+    }
+
+    private Boolean parseTestament(String testament) {
+        if (testament == null || testament.isBlank()) {
+            return null;
+        }
+        return switch (testament.trim().toLowerCase(Locale.ROOT)) {
+            case "ot", "old" -> true;
+            case "nt", "new" -> false;
+            default -> throw new IllegalArgumentException("Unknown testament: " + testament);
+        };
+    }
+
+    private BibleSearchHit toHit(BibleCorpus corpus, int ordinal, double score) {
+        int chapterIndex = corpus.verseChapterIndex(ordinal);
+        String book = CanonicalBook.ofOrdinal(corpus.chapterBook(chapterIndex)).getDisplayName();
+        int chapter = corpus.chapterNumber(chapterIndex);
+        int verse = corpus.verseNumber(ordinal);
+        return new BibleSearchHit(book, chapter, verse, String.format("%s %d:%d", book, chapter, verse),
+                corpus.verseText(ordinal), score);
+    }
+
+    private BibleSearchIndex getIndex() {
+        BibleSearchIndex current = index;
+        if (current == null || current.getCorpus() != bibleDataService.getCorpus()) {
+            buildIndex();
+            current = index;
+        }
+        return current;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, count = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                result[count++] = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                result[count++] = b[j++];
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] subtract(int[] a, int[] b) {
+        int[] result = new int[a.length];
+        int j = 0, count = 0;
+        for (int value : a) {
+            while (j < b.length && b[j] < value) {
+                j++;
+            }
+            if (j == b.length || b[j] != value) {
+                result[count++] = value;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
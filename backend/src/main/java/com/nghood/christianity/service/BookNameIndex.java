@@ -0,0 +1,193 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.model.CanonicalBook;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix trie over normalized book names and common abbreviations.
+ *
+ * Keys are lower-case letters and digits only ("1 Sam." -> "1sam"). A lookup walks the trie once: an exact
+ * key wins, otherwise a prefix of at least two letters is accepted when every key below it names the same
+ * book. Lookups are O(length of the input) and never backtrack.
+ */
+final class BookNameIndex {
+
+    private static final int ALPHABET = 36; // a-z, 0-9
+    private static final int AMBIGUOUS = -2;
+    private static final int MIN_PREFIX_LETTERS = 2;
+
+    private static final Map<CanonicalBook, List<String>> ABBREVIATIONS = new EnumMap<>(CanonicalBook.class);
+
+    static {
+        ABBREVIATIONS.put(CanonicalBook.GENESIS, List.of("gen", "ge", "gn"));
+        ABBREVIATIONS.put(CanonicalBook.EXODUS, List.of("exod", "exo", "ex"));
+        ABBREVIATIONS.put(CanonicalBook.LEVITICUS, List.of("lev", "le", "lv"));
+        ABBREVIATIONS.put(CanonicalBook.NUMBERS, List.of("num", "nu", "nm", "nb"));
+        ABBREVIATIONS.put(CanonicalBook.DEUTERONOMY, List.of("deut", "de", "dt"));
+        ABBREVIATIONS.put(CanonicalBook.JOSHUA, List.of("josh", "jos", "jsh"));
+        ABBREVIATIONS.put(CanonicalBook.JUDGES, List.of("judg", "jdg", "jg", "jdgs"));
+        ABBREVIATIONS.put(CanonicalBook.RUTH, List.of("rth", "ru"));
+        ABBREVIATIONS.put(CanonicalBook.FIRST_SAMUEL, List.of("1sam", "1sa", "1sm", "1s"));
+        ABBREVIATIONS.put(CanonicalBook.SECOND_SAMUEL, List.of("2sam", "2sa", "2sm", "2s"));
+        ABBREVIATIONS.put(CanonicalBook.FIRST_KINGS, List.of("1kgs", "1ki", "1kin", "1k"));
+        ABBREVIATIONS.put(CanonicalBook.SECOND_KINGS, List.of("2kgs", "2ki", "2kin", "2k"));
+        ABBREVIATIONS.put(CanonicalBook.FIRST_CHRONICLES, List.of("1chron", "1chr", "1ch"));
+        ABBREVIATIONS.put(CanonicalBook.SECOND_CHRONICLES, List.of("2chron", "2chr", "2ch"));
+        ABBREVIATIONS.put(CanonicalBook.EZRA, List.of("ezr"));
+        ABBREVIATIONS.put(CanonicalBook.NEHEMIAH, List.of("neh", "ne"));
+        ABBREVIATIONS.put(CanonicalBook.ESTHER, List.of("esth", "est", "es"));
+        ABBREVIATIONS.put(CanonicalBook.JOB, List.of("jb"));
+        ABBREVIATIONS.put(CanonicalBook.PSALMS, List.of("ps", "psa", "psalm", "pss", "psm"));
+        ABBREVIATIONS.put(CanonicalBook.PROVERBS, List.of("prov", "pro", "prv", "pr"));
+        ABBREVIATIONS.put(CanonicalBook.ECCLESIASTES, List.of("eccl", "eccles", "ecc", "ec", "qoh"));
+        ABBREVIATIONS.put(CanonicalBook.SONG_OF_SOLOMON, List.of("song", "songofsongs", "sos", "so", "sg", "canticles"));
+        ABBREVIATIONS.put(CanonicalBook.ISAIAH, List.of("isa", "is"));
+        ABBREVIATIONS.put(CanonicalBook.JEREMIAH, List.of("jer", "je", "jr"));
+        ABBREVIATIONS.put(CanonicalBook.LAMENTATIONS, List.of("lam", "la"));
+        ABBREVIATIONS.put(CanonicalBook.EZEKIEL, List.of("ezek", "eze", "ezk"));
+        ABBREVIATIONS.put(CanonicalBook.DANIEL, List.of("dan", "da", "dn"));
+        ABBREVIATIONS.put(CanonicalBook.HOSEA, List.of("hos", "ho"));
+        ABBREVIATIONS.put(CanonicalBook.JOEL, List.of("jl"));
+        ABBREVIATIONS.put(CanonicalBook.AMOS, List.of("am"));
+        ABBREVIATIONS.put(CanonicalBook.OBADIAH, List.of("obad", "ob"));
+        ABBREVIATIONS.put(CanonicalBook.JONAH, List.of("jnh", "jon"));
+        ABBREVIATIONS.put(CanonicalBook.MICAH, List.of("mic", "mc"));
+        ABBREVIATIONS.put(CanonicalBook.NAHUM, List.of("nah", "na"));
+        ABBREVIATIONS.put(CanonicalBook.HABAKKUK, List.of("hab", "hb"));
+        ABBREVIATIONS.put(CanonicalBook.ZEPHANIAH, List.of("zeph", "zep", "zp"));
+        ABBREVIATIONS.put(CanonicalBook.HAGGAI, List.of("hag", "hg"));
+        ABBREVIATIONS.put(CanonicalBook.ZECHARIAH, List.of("zech", "zec", "zc"));
+        ABBREVIATIONS.put(CanonicalBook.MALACHI, List.of("mal", "ml"));
+        ABBREVIATIONS.put(CanonicalBook.MATTHEW, List.of("matt", "mt"));
+        ABBREVIATIONS.put(CanonicalBook.MARK, List.of("mrk", "mk", "mr"));
+        ABBREVIATIONS.put(CanonicalBook.LUKE, List.of("luk", "lk"));
+        ABBREVIATIONS.put(CanonicalBook.JOHN, List.of("jn", "jhn"));
+        ABBREVIATIONS.put(CanonicalBook.ACTS, List.of("ac"));
+        ABBREVIATIONS.put(CanonicalBook.ROMANS, List.of("rom", "ro", "rm"));
+        ABBREVIATIONS.put(CanonicalBook.FIRST_CORINTHIANS, List.of("1cor", "1co"));
+        ABBREVIATIONS.put(CanonicalBook.SECOND_CORINTHIANS, List.of("2cor", "2co"));
+        ABBREVIATIONS.put(CanonicalBook.GALATIANS, List.of("gal", "ga"));
+        ABBREVIATIONS.put(CanonicalBook.EPHESIANS, List.of("eph", "ephes"));
+        ABBREVIATIONS.put(CanonicalBook.PHILIPPIANS, List.of("phil", "php", "pp"));
+        ABBREVIATIONS.put(CanonicalBook.COLOSSIANS, List.of("col", "co"));
+        ABBREVIATIONS.put(CanonicalBook.FIRST_THESSALONIANS, List.of("1thess", "1thes", "1th"));
+        ABBREVIATIONS.put(CanonicalBook.SECOND_THESSALONIANS, List.of("2thess", "2thes", "2th"));
+        ABBREVIATIONS.put(CanonicalBook.FIRST_TIMOTHY, List.of("1tim", "1ti"));
+        ABBREVIATIONS.put(CanonicalBook.SECOND_TIMOTHY, List.of("2tim", "2ti"));
+        ABBREVIATIONS.put(CanonicalBook.TITUS, List.of("tit", "ti"));
+        ABBREVIATIONS.put(CanonicalBook.PHILEMON, List.of("philem", "phlm", "phm", "pm"));
+        ABBREVIATIONS.put(CanonicalBook.HEBREWS, List.of("heb"));
+        ABBREVIATIONS.put(CanonicalBook.JAMES, List.of("jas", "jm"));
+        ABBREVIATIONS.put(CanonicalBook.FIRST_PETER, List.of("1pet", "1pe", "1pt", "1p"));
+        ABBREVIATIONS.put(CanonicalBook.SECOND_PETER, List.of("2pet", "2pe", "2pt", "2p"));
+        ABBREVIATIONS.put(CanonicalBook.FIRST_JOHN, List.of("1jn", "1jhn", "1j"));
+        ABBREVIATIONS.put(CanonicalBook.SECOND_JOHN, List.of("2jn", "2jhn", "2j"));
+        ABBREVIATIONS.put(CanonicalBook.THIRD_JOHN, List.of("3jn", "3jhn", "3j"));
+        ABBREVIATIONS.put(CanonicalBook.JUDE, List.of("jud", "jd"));
+        ABBREVIATIONS.put(CanonicalBook.REVELATION, List.of("rev", "re", "rv", "revelations"));
+    }
+
+    private static final BookNameIndex INSTANCE = new BookNameIndex();
+
+    private final Node root = new Node();
+
+    private BookNameIndex() {
+        for (CanonicalBook book : CanonicalBook.values()) {
+            for (String key : keys(book)) {
+                add(key, book.ordinal());
+            }
+        }
+    }
+
+    static BookNameIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Normalized keys a book is known by: its display name, its file name and its abbreviations.
+     */
+    static List<String> keys(CanonicalBook book) {
+        List<String> keys = new ArrayList<>();
+        keys.add(normalize(book.getDisplayName()));
+        keys.add(book.getFileName());
+        keys.addAll(ABBREVIATIONS.getOrDefault(book, List.of()));
+        return keys;
+    }
+
+    /**
+     * Canonical book ordinal for a raw book name or abbreviation, or -1 if unknown or ambiguous.
+     */
+    int lookup(CharSequence rawName) {
+        String key = normalize(rawName);
+        if (key.isEmpty()) {
+            return -1;
+        }
+        Node node = root;
+        int letters = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            node = node.children[slot(c)];
+            if (node == null) {
+                return -1;
+            }
+            if (c >= 'a' && c <= 'z') {
+                letters++;
+            }
+        }
+        if (node.book >= 0) {
+            return node.book;
+        }
+        return letters >= MIN_PREFIX_LETTERS && node.uniqueBook >= 0 ? node.uniqueBook : -1;
+    }
+
+    /**
+     * Lower-case letters and digits only; a leading roman numeral word (I, II, III) becomes 1, 2 or 3.
+     */
+    static String normalize(CharSequence rawName) {
+        StringBuilder key = new StringBuilder(rawName.length());
+        int start = 0;
+        int romanEnd = 0;
+        while (romanEnd < rawName.length() && romanEnd < 3 && Character.toLowerCase(rawName.charAt(romanEnd)) == 'i') {
+            romanEnd++;
+        }
+        if (romanEnd > 0 && romanEnd < rawName.length()
+                && (rawName.charAt(romanEnd) == ' ' || rawName.charAt(romanEnd) == '.')) {
+            key.append((char) ('0' + romanEnd));
+            start = romanEnd;
+        }
+        for (int i = start; i < rawName.length(); i++) {
+            char c = Character.toLowerCase(rawName.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    private void add(String key, int book) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            int slot = slot(key.charAt(i));
+            if (node.children[slot] == null) {
+                node.children[slot] = new Node();
+            }
+            node = node.children[slot];
+            node.uniqueBook = node.uniqueBook == -1 || node.uniqueBook == book ? book : AMBIGUOUS;
+        }
+        node.book = book;
+    }
+
+    private static int slot(char c) {
+        return c >= 'a' && c <= 'z' ? c - 'a' : 26 + (c - '0');
+    }
+
+    private static final class Node {
+        private final Node[] children = new Node[ALPHABET];
+        private int book = -1;
+        private int uniqueBook = -1;
+    }
+}
@@ -0,0 +1,540 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable, validated index of the Bible event graph manifest ({@code docs/bible-data/bible-event-graph.schema.json}).
+ *
+ * Events are numbered in load order and all structure lives in primitive arrays: children in one flat array
+ * sorted by {@code order} (missing orders last, then by title, as on the event graph page), and an Euler tour
+ * that gives every event the interval {@code [enter, exit)} of its subtree in preorder, so "is A an ancestor of
+ * B" and subtree sizes are O(1). The {@code references} attribute of each event is resolved to corpus verse
+ * ordinals and kept as intervals sorted by start with a running maximum of their ends, so the events covering
+ * a verse range are found with one binary search and a backward scan over candidate intervals only.
+ *
+ * The validation rules are those of {@code scripts/validate-bible-event-graph.js}.
+ */
+final class EventGraph {
+
+    static final String ORDER = "order";
+    static final String REFERENCES = "references";
+
+    private static final Set<String> EVENT_KEYS = Set.of("id", "title", "parent_id", "attributes");
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final int MAX_ORDER_DIGITS = 18;
+
+    private final String[] ids;
+    private final String[] titles;
+    private final int[] parents; // -1 for roots
+    private final String[] orders; // null when missing
+    private final List<Map<String, List<String>>> attributes;
+    private final Map<String, Integer> indexById;
+
+    private final int[] roots;
+    private final int[] childStart; // children of event i are children[childStart[i] .. childStart[i + 1])
+    private final int[] children;
+    private final int[] enter;
+    private final int[] exit;
+    private final int[] preorder; // event at each enter position
+    private final int[] depths;
+
+    private final int[] spanFrom; // sorted ascending
+    private final int[] spanTo;
+    private final int[] spanMaxTo; // max of spanTo[0..i]
+    private final int[] spanEvent;
+
+    private EventGraph(Parsed parsed, int[] roots, int[] childStart, int[] children, int[] enter, int[] exit,
+                       int[] depths, Spans spans) {
+        this.ids = parsed.ids;
+        this.titles = parsed.titles;
+        this.parents = parsed.parents;
+        this.orders = parsed.orders;
+        this.attributes = parsed.attributes;
+        this.indexById = parsed.indexById;
+        this.roots = roots;
+        this.childStart = childStart;
+        this.children = children;
+        this.enter = enter;
+        this.exit = exit;
+        this.preorder = new int[enter.length];
+        for (int i = 0; i < enter.length; i++) {
+            this.preorder[enter[i]] = i;
+        }
+        this.depths = depths;
+        this.spanFrom = spans.from;
+        this.spanTo = spans.to;
+        this.spanMaxTo = spans.maxTo;
+        this.spanEvent = spans.event;
+    }
+
+    /**
+     * Validate and index a manifest. {@code resolveReferences} turns one reference string into verse ordinal
+     * spans and throws IllegalArgumentException for references that do not resolve.
+     *
+     * @throws IllegalArgumentException listing the problems when the manifest is invalid
+     */
+    static EventGraph build(JsonNode manifest,
+                            Function<String, List<ScriptureReferenceService.VerseSpan>> resolveReferences) {
+        List<String> errors = new ArrayList<>();
+        Parsed parsed = parse(manifest, errors);
+        if (parsed == null) {
+            throw invalid(errors);
+        }
+        int size = parsed.ids.length;
+
+        // Children grouped by parent (counting sort), then ordered within each group
+        int[] childStart = new int[size + 1];
+        int rootCount = 0;
+        for (int parent : parsed.parents) {
+            if (parent < 0) {
+                rootCount++;
+            } else {
+                childStart[parent + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            childStart[i + 1] += childStart[i];
+        }
+        int[] fill = Arrays.copyOf(childStart, size);
+        int[] children = new int[size - rootCount];
+        int[] roots = new int[rootCount];
+        int rootFill = 0;
+        for (int i = 0; i < size; i++) {
+            int parent = parsed.parents[i];
+            if (parent < 0) {
+                roots[rootFill++] = i;
+            } else {
+                children[fill[parent]++] = i;
+            }
+        }
+        if (rootCount == 0) {
+            errors.add("At least one root event (parent_id: null) is required.");
+        }
+        Comparator<Integer> siblingOrder = siblingOrder(parsed);
+        sortRange(roots, 0, roots.length, siblingOrder);
+        for (int i = 0; i < size; i++) {
+            sortRange(children, childStart[i], childStart[i + 1], siblingOrder);
+            checkUniqueOrders(parsed, children, childStart[i], childStart[i + 1], parsed.ids[i], errors);
+        }
+        checkUniqueOrders(parsed, roots, 0, roots.length, "ROOT", errors);
+
+        // Iterative Euler tour from the roots; events it never reaches sit on a parent cycle
+        int[] enter = new int[size];
+        int[] exit = new int[size];
+        int[] depths = new int[size];
+        Arrays.fill(enter, -1);
+        int[] stack = new int[size];
+        int[] next = new int[size];
+        int clock = 0;
+        for (int root : roots) {
+            int top = 0;
+            stack[0] = root;
+            next[0] = childStart[root];
+            enter[root] = clock++;
+            while (top >= 0) {
+                int event = stack[top];
+                if (next[top] < childStart[event + 1]) {
+                    int child = children[next[top]++];
+                    enter[child] = clock++;
+                    depths[child] = top + 1;
+                    stack[++top] = child;
+                    next[top] = childStart[child];
+                } else {
+                    exit[event] = clock;
+                    top--;
+                }
+            }
+        }
+        for (int i = 0; i < size && clock < size; i++) {
+            if (enter[i] < 0) {
+                errors.add("Cycle detected at event \"" + parsed.ids[i] + "\".");
+            }
+        }
+
+        Spans spans = errors.isEmpty() ? resolveSpans(parsed, resolveReferences, errors) : null;
+        if (!errors.isEmpty()) {
+            throw invalid(errors);
+        }
+        return new EventGraph(parsed, roots, childStart, children, enter, exit, depths, spans);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * Event index for an id, or -1 if unknown.
+     */
+    int indexOf(String id) {
+        Integer index = id == null ? null : indexById.get(id);
+        return index == null ? -1 : index;
+    }
+
+    String id(int event) {
+        return ids[event];
+    }
+
+    String title(int event) {
+        return titles[event];
+    }
+
+    String order(int event) {
+        return orders[event];
+    }
+
+    int parent(int event) {
+        return parents[event];
+    }
+
+    int depth(int event) {
+        return depths[event];
+    }
+
+    Map<String, List<String>> attributes(int event) {
+        return attributes.get(event);
+    }
+
+    int[] roots() {
+        return roots.clone();
+    }
+
+    int childCount(int event) {
+        return childStart[event + 1] - childStart[event];
+    }
+
+    int child(int event, int position) {
+        return children[childStart[event] + position];
+    }
+
+    int descendantCount(int event) {
+        return exit[event] - enter[event] - 1;
+    }
+
+    /**
+     * True if {@code ancestor} is {@code event} or lies on its path to the root.
+     */
+    boolean contains(int ancestor, int event) {
+        return enter[ancestor] <= enter[event] && exit[event] <= exit[ancestor];
+    }
+
+    /**
+     * True if {@code event} comes before {@code other} in storyline (preorder) order.
+     */
+    boolean precedes(int event, int other) {
+        return enter[event] < enter[other];
+    }
+
+    /**
+     * Events from the root down to and including {@code event}.
+     */
+    int[] path(int event) {
+        int[] path = new int[depths[event] + 1];
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = event;
+            event = parents[event];
+        }
+        return path;
+    }
+
+    /**
+     * Events whose references overlap the verse ordinals {@code [from, to)}, in preorder. {@code within} limits
+     * the result to one subtree when it is not negative.
+     */
+    int[] covering(int from, int to, int within) {
+        // Intervals starting before 'to' are a prefix; walk it backwards while any of them can still reach 'from'
+        int low = 0;
+        int high = spanFrom.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (spanFrom[mid] < to) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int[] found = new int[8];
+        int count = 0;
+        for (int i = low - 1; i >= 0 && spanMaxTo[i] > from; i--) {
+            int event = spanEvent[i];
+            if (spanTo[i] > from && (within < 0 || contains(within, event))) {
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, count * 2);
+                }
+                found[count++] = event;
+            }
+        }
+        int[] byEnter = new int[count];
+        for (int i = 0; i < count; i++) {
+            byEnter[i] = enter[found[i]];
+        }
+        Arrays.sort(byEnter);
+        int[] events = new int[count];
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || byEnter[i] != byEnter[i - 1]) {
+                events[distinct++] = byEnter[i];
+            }
+        }
+        for (int i = 0; i < distinct; i++) {
+            events[i] = preorder[events[i]];
+        }
+        return Arrays.copyOf(events, distinct);
+    }
+
+    private static Parsed parse(JsonNode manifest, List<String> errors) {
+        if (manifest == null || !manifest.isObject()) {
+            errors.add("Manifest root must be an object.");
+            return null;
+        }
+        JsonNode events = manifest.get("events");
+        if (events == null || !events.isObject()) {
+            errors.add("Manifest must contain an \"events\" object.");
+            return null;
+        }
+        if (events.isEmpty()) {
+            errors.add("\"events\" must contain at least one entry.");
+            return null;
+        }
+
+        int size = events.size();
+        Parsed parsed = new Parsed(size);
+        String[] parentIds = new String[size];
+        int next = 0;
+        for (Map.Entry<String, JsonNode> entry : events.properties()) {
+            int index = next++;
+            String key = entry.getKey();
+            JsonNode event = entry.getValue();
+            parsed.ids[index] = key;
+            parsed.indexById.put(key, index);
+            if (!event.isObject()) {
+                errors.add("events." + key + " must be an object.");
+                parsed.attributes.add(Map.of());
+                continue;
+            }
+            event.fieldNames().forEachRemaining(field -> {
+                if (!EVENT_KEYS.contains(field)) {
+                    errors.add("events." + key + " contains unexpected property \"" + field + "\".");
+                }
+            });
+
+            JsonNode id = event.get("id");
+            if (!isNonEmptyString(id)) {
+                errors.add("events." + key + ".id must be a non-empty string.");
+            } else if (!id.asText().equals(key)) {
+                errors.add("events." + key + ".id must match its key (expected \"" + key + "\", received \""
+                        + id.asText() + "\").");
+            }
+
+            JsonNode title = event.get("title");
+            if (!isNonEmptyString(title)) {
+                errors.add("events." + key + ".title must be a non-empty string.");
+            } else {
+                parsed.titles[index] = title.asText();
+            }
+
+            JsonNode parentId = event.get("parent_id");
+            if (parentId != null && !parentId.isNull()) {
+                if (!isNonEmptyString(parentId)) {
+                    errors.add("events." + key + ".parent_id must be null or a non-empty string.");
+                } else {
+                    parentIds[index] = parentId.asText();
+                }
+            }
+
+            parsed.attributes.add(parseAttributes(key, event.get("attributes"), errors));
+            List<String> order = parsed.attributes.get(index).get(ORDER);
+            if (order != null) {
+                if (order.size() != 1) {
+                    errors.add("events." + key + ".attributes.order must contain exactly one value.");
+                } else if (!order.get(0).matches("[0-9]{1," + MAX_ORDER_DIGITS + "}")) {
+                    errors.add("events." + key + ".attributes.order must be an integer represented as digits only.");
+                } else {
+                    parsed.orders[index] = order.get(0);
+                }
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (parentIds[i] == null) {
+                parsed.parents[i] = -1;
+                continue;
+            }
+            Integer parent = parsed.indexById.get(parentIds[i]);
+            if (parent == null) {
+                errors.add("events." + parsed.ids[i] + ".parent_id references missing event \"" + parentIds[i] + "\".");
+                parsed.parents[i] = -1;
+            } else {
+                parsed.parents[i] = parent;
+            }
+        }
+        return errors.isEmpty() ? parsed : null;
+    }
+
+    private static Map<String, List<String>> parseAttributes(String key, JsonNode attributes, List<String> errors) {
+        if (attributes == null || !attributes.isObject()) {
+            errors.add("events." + key + ".attributes must be an object.");
+            return Map.of();
+        }
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> attribute : attributes.properties()) {
+            JsonNode array = attribute.getValue();
+            if (!array.isArray() || array.isEmpty()) {
+                errors.add("events." + key + ".attributes[\"" + attribute.getKey() + "\"] must be a non-empty array.");
+                continue;
+            }
+            List<String> items = new ArrayList<>(array.size());
+            for (JsonNode item : array) {
+                if (!isNonEmptyString(item)) {
+                    errors.add("events." + key + ".attributes[\"" + attribute.getKey()
+                            + "\"] must contain only non-empty strings.");
+                    break;
+                }
+                items.add(item.asText());
+            }
+            values.put(attribute.getKey(), List.copyOf(items));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    private static Spans resolveSpans(Parsed parsed,
+                                      Function<String, List<ScriptureReferenceService.VerseSpan>> resolveReferences,
+                                      List<String> errors) {
+        List<int[]> spans = new ArrayList<>();
+        for (int event = 0; event < parsed.ids.length; event++) {
+            List<String> references = parsed.attributes.get(event).get(REFERENCES);
+            if (references == null) {
+                continue;
+            }
+            for (String reference : references) {
+                try {
+                    for (ScriptureReferenceService.VerseSpan span : resolveReferences.apply(reference)) {
+                        spans.add(new int[]{span.fromOrdinal(), span.toOrdinal(), event});
+                    }
+                } catch (IllegalArgumentException e) {
+                    errors.add("events." + parsed.ids[event] + ".attributes.references: \"" + reference + "\": "
+                            + e.getMessage());
+                }
+            }
+        }
+        spans.sort(Comparator.comparingInt(span -> span[0]));
+
+        Spans result = new Spans(spans.size());
+        int maxTo = Integer.MIN_VALUE;
+        for (int i = 0; i < spans.size(); i++) {
+            int[] span = spans.get(i);
+            result.from[i] = span[0];
+            result.to[i] = span[1];
+            result.event[i] = span[2];
+            maxTo = Math.max(maxTo, span[1]);
+            result.maxTo[i] = maxTo;
+        }
+        return result;
+    }
+
+    private static Comparator<Integer> siblingOrder(Parsed parsed) {
+        // Digits only, so a shorter number (after leading zeros) is smaller and equal lengths compare as text
+        Comparator<Integer> byOrder = (a, b) -> {
+            String left = stripLeadingZeros(parsed.orders[a]);
+            String right = stripLeadingZeros(parsed.orders[b]);
+            if (left == null || right == null) {
+                return left == null ? (right == null ? 0 : 1) : -1;
+            }
+            return left.length() != right.length() ? Integer.compare(left.length(), right.length()) : left.compareTo(right);
+        };
+        return byOrder.thenComparing(event -> parsed.titles[event]);
+    }
+
+    private static void checkUniqueOrders(Parsed parsed, int[] events, int from, int to, String parentId,
+                                          List<String> errors) {
+        Map<String, String> seen = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            String order = stripLeadingZeros(parsed.orders[events[i]]);
+            if (order == null) {
+                continue;
+            }
+            String first = seen.putIfAbsent(order, parsed.ids[events[i]]);
+            if (first != null) {
+                errors.add("Duplicate order \"" + parsed.orders[events[i]] + "\" under parent \"" + parentId
+                        + "\" for events \"" + first + "\" and \"" + parsed.ids[events[i]] + "\".");
+            }
+        }
+    }
+
+    private static void sortRange(int[] events, int from, int to, Comparator<Integer> comparator) {
+        if (to - from < 2) {
+            return;
+        }
+        Integer[] boxed = new Integer[to - from];
+        for (int i = from; i < to; i++) {
+            boxed[i - from] = events[i];
+        }
+        Arrays.sort(boxed, comparator);
+        for (int i = from; i < to; i++) {
+            events[i] = boxed[i - from];
+        }
+    }
+
+    private static String stripLeadingZeros(String order) {
+        if (order == null) {
+            return null;
+        }
+        int start = 0;
+        while (start < order.length() - 1 && order.charAt(start) == '0') {
+            start++;
+        }
+        return order.substring(start);
+    }
+
+    private static boolean isNonEmptyString(JsonNode node) {
+        return node != null && node.isTextual() && !node.asText().isBlank();
+    }
+
+    private static IllegalArgumentException invalid(List<String> errors) {
+        List<String> reported = errors.size() > MAX_REPORTED_ERRORS ? errors.subList(0, MAX_REPORTED_ERRORS) : errors;
+        String more = errors.size() > reported.size() ? " (and " + (errors.size() - reported.size()) + " more)" : "";
+        return new IllegalArgumentException("Invalid event graph: " + String.join(" ", reported) + more);
+    }
+
+    private static final class Parsed {
+        private final String[] ids;
+        private final String[] titles;
+        private final int[] parents;
+        private final String[] orders;
+        private final List<Map<String, List<String>>> attributes;
+        private final Map<String, Integer> indexById;
+
+        private Parsed(int size) {
+            ids = new String[size];
+            titles = new String[size];
+            parents = new int[size];
+            orders = new String[size];
+            attributes = new ArrayList<>(size);
+            indexById = new HashMap<>(size * 2);
+        }
+    }
+
+    private static final class Spans {
+        private final int[] from;
+        private final int[] to;
+        private final int[] maxTo;
+        private final int[] event;
+
+        private Spans(int size) {
+            from = new int[size];
+            to = new int[size];
+            maxTo = new int[size];
+            event = new int[size];
+        }
+    }
+}
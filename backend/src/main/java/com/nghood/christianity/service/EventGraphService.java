@@ -0,0 +1,247 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.model.EventGraphCoverage;
+import com.nghood.christianity.model.EventGraphNode;
+import com.nghood.christianity.model.ScriptureReference;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the Bible event graph: subtrees, breadcrumbs and the events that cover a scripture reference.
+ *
+ * The manifest is read and validated once at startup and indexed by {@link EventGraph}: the file at
+ * {@code app.event-graph.path} when set, otherwise the demo manifest bundled on the classpath. An invalid or
+ * missing manifest leaves the service empty and lookups return null. Subtrees are expanded breadth-first and stop at
+ * a depth and node budget, so a request for a large era returns its upper levels with truncated markers
+ * instead of the whole storyline.
+ */
+@Service
+@Slf4j
+public class EventGraphService {
+
+    public static final int DEFAULT_SUBTREE_DEPTH = 2;
+    public static final int MAX_SUBTREE_DEPTH = 16;
+    public static final int MAX_SUBTREE_NODES = 500;
+    public static final int MAX_COVERING_EVENTS = 200;
+
+    private final ObjectMapper objectMapper;
+    private final ScriptureReferenceService scriptureReferenceService;
+
+    public static final String RESOURCE_PATH = "/data/bible-event-graph.demo.json";
+
+    @Value("${app.event-graph.path:}")
+    private String eventGraphPath;
+
+    private volatile EventGraph graph;
+
+    public EventGraphService(ObjectMapper objectMapper, ScriptureReferenceService scriptureReferenceService) {
+        this.objectMapper = objectMapper;
+        this.scriptureReferenceService = scriptureReferenceService;
+    }
+
+    @PostConstruct
+    public void loadGraph() {
+        if (eventGraphPath == null || eventGraphPath.isBlank()) {
+            try (InputStream input = getClass().getResourceAsStream(RESOURCE_PATH)) {
+                if (input == null) {
+                    log.warn("No bundled event graph at {}, event graph endpoints are disabled", RESOURCE_PATH);
+                    return;
+                }
+                load(new BufferedInputStream(input));
+            } catch (IOException | IllegalArgumentException e) {
+                log.error("Could not load bundled event graph {}", RESOURCE_PATH, e);
+            }
+            return;
+        }
+
+        Path file = Path.of(eventGraphPath);
+        if (!Files.isRegularFile(file)) {
+            log.warn("No event graph at {}, event graph endpoints are disabled", file);
+            return;
+        }
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            load(input);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Could not load event graph {}", file, e);
+        }
+    }
+
+    /**
+     * Replace the graph with a validated manifest.
+     *
+     * @throws IllegalArgumentException if the manifest breaks the schema or the authoring rules
+     */
+    public void load(InputStream input) throws IOException {
+        long startTime = System.currentTimeMillis();
+        EventGraph loaded = EventGraph.build(objectMapper.readTree(input), scriptureReferenceService::resolveSpans);
+        graph = loaded;
+        log.info("Loaded event graph with {} events and {} roots in {}ms",
+                loaded.size(), loaded.roots().length, System.currentTimeMillis() - startTime);
+    }
+
+    public boolean isLoaded() {
+        return graph != null;
+    }
+
+    /**
+     * The top-level events without their children, or null when no graph is loaded.
+     */
+    public List<EventGraphNode> getRoots() {
+        EventGraph current = graph;
+        if (current == null) {
+            return null;
+        }
+        List<EventGraphNode> roots = new ArrayList<>();
+        for (int root : current.roots()) {
+            roots.add(toNode(current, root));
+        }
+        return roots;
+    }
+
+    /**
+     * An event with its descendants up to {@code depth} levels below it and at most {@code limit} nodes in
+     * total, or null if the event does not exist. Siblings are included all together or not at all.
+     */
+    public EventGraphNode getSubtree(String id, int depth, int limit) {
+        if (depth < 0 || depth > MAX_SUBTREE_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 0 and " + MAX_SUBTREE_DEPTH);
+        }
+        if (limit < 1 || limit > MAX_SUBTREE_NODES) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUBTREE_NODES);
+        }
+        EventGraph current = graph;
+        int event = current == null ? -1 : current.indexOf(id);
+        if (event < 0) {
+            return null;
+        }
+
+        EventGraphNode root = toNode(current, event);
+        ArrayDeque<EventGraphNode> nodes = new ArrayDeque<>();
+        ArrayDeque<Integer> events = new ArrayDeque<>();
+        nodes.add(root);
+        events.add(event);
+        int included = 1;
+        int maxDepth = current.depth(event) + depth;
+        while (!events.isEmpty()) {
+            EventGraphNode node = nodes.poll();
+            int parent = events.poll();
+            int childCount = current.childCount(parent);
+            if (childCount == 0) {
+                continue;
+            }
+            if (current.depth(parent) >= maxDepth || included + childCount > limit) {
+                node.setTruncated(true);
+                continue;
+            }
+            List<EventGraphNode> children = new ArrayList<>(childCount);
+            for (int i = 0; i < childCount; i++) {
+                int child = current.child(parent, i);
+                EventGraphNode childNode = toNode(current, child);
+                children.add(childNode);
+                nodes.add(childNode);
+                events.add(child);
+            }
+            node.setChildren(children);
+            node.setTruncated(false);
+            included += childCount;
+        }
+        return root;
+    }
+
+    /**
+     * The events from the root down to and including {@code id}, or null if the event does not exist.
+     */
+    public List<EventGraphNode> getBreadcrumbs(String id) {
+        EventGraph current = graph;
+        int event = current == null ? -1 : current.indexOf(id);
+        if (event < 0) {
+            return null;
+        }
+        List<EventGraphNode> breadcrumbs = new ArrayList<>();
+        for (int ancestor : current.path(event)) {
+            breadcrumbs.add(toNode(current, ancestor));
+        }
+        return breadcrumbs;
+    }
+
+    /**
+     * Events whose references overlap any span of {@code reference}, in storyline order, optionally only those
+     * under the event {@code withinId}. Returns null when no graph is loaded or {@code withinId} is unknown.
+     */
+    public EventGraphCoverage getCoveringEvents(String reference, String withinId) {
+        EventGraph current = graph;
+        if (current == null) {
+            return null;
+        }
+        int within = -1;
+        if (withinId != null && !withinId.isBlank()) {
+            within = current.indexOf(withinId);
+            if (within < 0) {
+                return null;
+            }
+        }
+
+        List<ScriptureReferenceService.VerseSpan> spans = scriptureReferenceService.resolveSpans(reference);
+        List<ScriptureReference> references = new ArrayList<>(spans.size());
+        int[] events = new int[0];
+        for (ScriptureReferenceService.VerseSpan span : spans) {
+            references.add(span.reference());
+            events = union(current, events, current.covering(span.fromOrdinal(), span.toOrdinal(), within));
+        }
+
+        int count = Math.min(events.length, MAX_COVERING_EVENTS);
+        List<EventGraphNode> nodes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            nodes.add(toNode(current, events[i]));
+        }
+        return new EventGraphCoverage(references, nodes, events.length > count);
+    }
+
+    /**
+     * Merge two event lists that are each in preorder, dropping duplicates.
+     */
+    private static int[] union(EventGraph graph, int[] left, int[] right) {
+        if (left.length == 0) {
+            return right;
+        }
+        List<Integer> merged = new ArrayList<>(left.length + right.length);
+        int i = 0;
+        int j = 0;
+        while (i < left.length || j < right.length) {
+            int next;
+            if (j == right.length || (i < left.length && precedes(graph, left[i], right[j]))) {
+                next = left[i++];
+            } else {
+                next = right[j++];
+            }
+            if (merged.isEmpty() || merged.get(merged.size() - 1) != next) {
+                merged.add(next);
+            }
+        }
+        return merged.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static boolean precedes(EventGraph graph, int left, int right) {
+        return left == right || graph.precedes(left, right);
+    }
+
+    private static EventGraphNode toNode(EventGraph graph, int event) {
+        int parent = graph.parent(event);
+        int childCount = graph.childCount(event);
+        return new EventGraphNode(graph.id(event), graph.title(event), parent < 0 ? null : graph.id(parent),
+                graph.depth(event), graph.attributes(event), childCount, graph.descendantCount(event), List.of(),
+                childCount > 0);
+    }
+}
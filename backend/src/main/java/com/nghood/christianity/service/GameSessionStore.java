@@ -0,0 +1,243 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.GameSessionStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory store of verse game sessions.
+ *
+ * A session is a handful of ints: the drawn verse, the revealed ordinal range and the chapter bounds it can grow
+ * to, plus the reveal count. The store is split into independently locked stripes, each an access-ordered map
+ * with an equal share of the capacity, so concurrent games rarely contend and the least recently played session
+ * of a full stripe is evicted first. Sessions idle for longer than the TTL are dropped on lookup and by a
+ * periodic sweep. Sessions refer to the corpus they were drawn from and end when it is reloaded.
+ */
+@Service
+@Slf4j
+public class GameSessionStore {
+
+    private static final int STRIPES = 16;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int maxSessions;
+    private final long ttlMillis;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public GameSessionStore(@Value("${app.game.max-sessions:100000}") int maxSessions,
+                            @Value("${app.game.session-ttl-minutes:30}") long ttlMinutes) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("app.game.max-sessions must be positive");
+        }
+        int perStripe = Math.max(1, (maxSessions + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.maxSessions = perStripe * STRIPES;
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+    }
+
+    /**
+     * Open a session on one drawn verse; returns its id.
+     */
+    public String create(BibleCorpus corpus, int ordinal) {
+        int chapterIndex = corpus.verseChapterIndex(ordinal);
+        GameSession session = new GameSession(corpus, ordinal, corpus.firstVerseOrdinal(chapterIndex),
+                corpus.endVerseOrdinal(chapterIndex), System.currentTimeMillis());
+        long key;
+        Stripe stripe;
+        do {
+            key = random.nextLong();
+            stripe = stripeOf(key);
+        } while (!stripe.insert(key, session));
+        created.increment();
+        return HexFormat.of().toHexDigits(key);
+    }
+
+    /**
+     * The live session with this id, or null if it is unknown, has expired or belongs to another corpus.
+     */
+    public GameSession find(String sessionId, BibleCorpus corpus) {
+        long key = parseKey(sessionId);
+        if (key == 0) {
+            return null;
+        }
+        Stripe stripe = stripeOf(key);
+        long now = System.currentTimeMillis();
+        synchronized (stripe) {
+            GameSession session = stripe.get(key);
+            if (session == null) {
+                return null;
+            }
+            if (session.corpus != corpus || now - session.lastAccess > ttlMillis) {
+                stripe.remove(key);
+                expirations.increment();
+                return null;
+            }
+            session.lastAccess = now;
+            return session;
+        }
+    }
+
+    public GameSessionStats getStats() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return new GameSessionStats(size, maxSessions, created.sum(), evictions.sum(), expirations.sum());
+    }
+
+    @Scheduled(fixedDelayString = "${app.game.sweep-interval-ms:60000}")
+    public void expireSessions() {
+        expireSessions(System.currentTimeMillis());
+    }
+
+    void expireSessions(long now) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                // Access order: the least recently played sessions come first
+                for (Iterator<GameSession> it = stripe.values().iterator(); it.hasNext(); ) {
+                    if (now - it.next().lastAccess <= ttlMillis) {
+                        break;
+                    }
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            expirations.add(removed);
+            log.debug("Expired {} game sessions", removed);
+        }
+    }
+
+    private Stripe stripeOf(long key) {
+        return stripes[(int) (key ^ key >>> 32) & (STRIPES - 1)];
+    }
+
+    // Ids are 16 hex digits; 0 is never handed out and marks an invalid id
+    private static long parseKey(String sessionId) {
+        if (sessionId == null || sessionId.length() != 16) {
+            return 0;
+        }
+        try {
+            return Long.parseUnsignedLong(sessionId, 16);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private final class Stripe extends LinkedHashMap<Long, GameSession> {
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            super(Math.min(capacity, 1024), 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        private synchronized boolean insert(long key, GameSession session) {
+            if (key == 0 || containsKey(key)) {
+                return false;
+            }
+            put(key, session);
+            return true;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, GameSession> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            evictions.increment();
+            return true;
+        }
+    }
+
+    /**
+     * Mutable state of one game. Callers synchronize on the session while reading or updating it.
+     */
+    public static final class GameSession {
+        private final BibleCorpus corpus;
+        private final int verse;
+        private final int chapterStart;
+        private final int chapterEnd;
+        private int from;
+        private int to;
+        private int reveals;
+        private boolean guessed;
+        private volatile long lastAccess;
+
+        private GameSession(BibleCorpus corpus, int verse, int chapterStart, int chapterEnd, long now) {
+            this.corpus = corpus;
+            this.verse = verse;
+            this.chapterStart = chapterStart;
+            this.chapterEnd = chapterEnd;
+            this.from = verse;
+            this.to = verse + 1;
+            this.lastAccess = now;
+        }
+
+        public BibleCorpus getCorpus() {
+            return corpus;
+        }
+
+        public int getVerse() {
+            return verse;
+        }
+
+        public int getReveals() {
+            return reveals;
+        }
+
+        public boolean canExpand() {
+            return to < chapterEnd || from > chapterStart;
+        }
+
+        /**
+         * Reveal the verse after the range, or before it at the end of the chapter; returns its ordinal
+         */
+        public int expand() {
+            if (guessed) {
+                throw new IllegalStateException("The verse of this game has already been guessed");
+            }
+            int ordinal;
+            if (to < chapterEnd) {
+                ordinal = to++;
+            } else if (from > chapterStart) {
+                ordinal = --from;
+            } else {
+                throw new IllegalStateException("Cannot expand verse range: the whole chapter is shown");
+            }
+            reveals++;
+            return ordinal;
+        }
+
+        /**
+         * Close the game for guessing; each session takes one guess
+         */
+        public void markGuessed() {
+            if (guessed) {
+                throw new IllegalStateException("The verse of this game has already been guessed");
+            }
+            guessed = true;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.GameResult;
+import com.nghood.christianity.model.Leaderboard;
+import com.nghood.christianity.model.LeaderboardEntry;
+import com.nghood.christianity.model.LeaderboardScope;
+import com.nghood.christianity.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verse game scoring with global, per-book and per-period (ISO week, month) leaderboards.
+ *
+ * Each board is an in-memory order-statistic tree ({@link RankedScores}), rebuilt from the
+ * {@code gameStats} key of every user's data at startup and updated incrementally afterwards. Results are
+ * persisted write-behind through {@link UserStateService}, which batches and coalesces the jsonb patches.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+
+    public static final int MAX_SCORE_PER_GAME = 10_000;
+    public static final int MAX_PAGE_SIZE = 100;
+    static final String STATS_KEY = "gameStats";
+
+    private final UserStateService userStateService;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, PlayerStats> players = new HashMap<>();
+    private final RankedScores global = new RankedScores();
+    private final RankedScores[] byBook = newBookBoards();
+    private PeriodBoard week = new PeriodBoard("");
+    private PeriodBoard month = new PeriodBoard("");
+
+    @PostConstruct
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Map<String, PlayerStats> loaded = new HashMap<>();
+        try {
+            userRepository.forEachDataValue(STATS_KEY, (userId, json) -> {
+                try {
+                    loaded.put(userId, PlayerStats.fromMap(objectMapper.readValue(json, new TypeReference<>() {})));
+                } catch (Exception e) {
+                    log.warn("Skipping unreadable game stats for user {}: {}", userId, e.getMessage());
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("Could not load game stats, starting with empty leaderboards: {}", e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            players.clear();
+            players.putAll(loaded);
+            rebuildBoards(Instant.now());
+        }
+        log.info("Rebuilt leaderboards for {} players in {}ms", loaded.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Record a finished game and return the player's new global standing.
+     */
+    public LeaderboardEntry recordResult(GameResult result) {
+        return recordResult(result, Instant.now());
+    }
+
+    LeaderboardEntry recordResult(GameResult result, Instant now) {
+        String userId = requireUserId(result.getUserId());
+        if (result.getScore() < 0 || result.getScore() > MAX_SCORE_PER_GAME) {
+            throw new IllegalArgumentException("Score must be between 0 and " + MAX_SCORE_PER_GAME);
+        }
+        CanonicalBook book = null;
+        if (result.getBook() != null && !result.getBook().isBlank()) {
+            book = CanonicalBook.fromDisplayName(result.getBook());
+            if (book == null) {
+                throw new IllegalArgumentException("Unknown book: " + result.getBook());
+            }
+        }
+
+        synchronized (this) {
+            rollPeriods(now);
+            PlayerStats stats = players.computeIfAbsent(userId, id -> new PlayerStats());
+            stats.add(result.getScore(), book, week.period, month.period);
+
+            global.put(userId, stats.totalScore);
+            if (book != null) {
+                byBook[book.ordinal()].put(userId, stats.bookScores[book.ordinal()]);
+            }
+            week.scores.put(userId, stats.weekScore);
+            month.scores.put(userId, stats.monthScore);
+
+            // Persisted under the same lock so a user's snapshots reach the state service in order
+            userStateService.put(userId, STATS_KEY, stats.toMap());
+            return new LeaderboardEntry(global.rank(userId), userId, stats.totalScore);
+        }
+    }
+
+    public Leaderboard getLeaderboard(LeaderboardScope scope, String book, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        synchronized (this) {
+            rollPeriods(Instant.now());
+            RankedScores board = board(scope, book);
+            List<LeaderboardEntry> entries = new ArrayList<>(limit);
+            for (RankedScores.Entry entry : board.range(offset, limit)) {
+                entries.add(new LeaderboardEntry(board.countGreaterThan(entry.score()) + 1, entry.userId(), entry.score()));
+            }
+            return new Leaderboard(scope, scope == LeaderboardScope.BOOK ? book : null, period(scope),
+                    board.size(), entries);
+        }
+    }
+
+    /**
+     * The user's rank and score on one board, or rank 0 and score 0 if the user has no score there.
+     */
+    public LeaderboardEntry getRanking(String userId, LeaderboardScope scope, String book) {
+        requireUserId(userId);
+        synchronized (this) {
+            rollPeriods(Instant.now());
+            RankedScores board = board(scope, book);
+            int rank = board.rank(userId);
+            return new LeaderboardEntry(rank, userId, rank == 0 ? 0 : board.score(userId));
+        }
+    }
+
+    private RankedScores board(LeaderboardScope scope, String book) {
+        return switch (scope) {
+            case GLOBAL -> global;
+            case WEEK -> week.scores;
+            case MONTH -> month.scores;
+            case BOOK -> {
+                CanonicalBook canonicalBook = book == null ? null : CanonicalBook.fromDisplayName(book);
+                if (canonicalBook == null) {
+                    throw new IllegalArgumentException("Book leaderboard needs a valid book");
+                }
+                yield byBook[canonicalBook.ordinal()];
+            }
+        };
+    }
+
+    private String period(LeaderboardScope scope) {
+        return switch (scope) {
+            case WEEK -> week.period;
+            case MONTH -> month.period;
+            default -> null;
+        };
+    }
+
+    /**
+     * Start fresh period boards when the week or month has changed since the last call.
+     */
+    private void rollPeriods(Instant now) {
+        String currentWeek = weekKey(now);
+        String currentMonth = monthKey(now);
+        if (!currentWeek.equals(week.period)) {
+            week = new PeriodBoard(currentWeek);
+        }
+        if (!currentMonth.equals(month.period)) {
+            month = new PeriodBoard(currentMonth);
+        }
+    }
+
+    private void rebuildBoards(Instant now) {
+        week = new PeriodBoard(weekKey(now));
+        month = new PeriodBoard(monthKey(now));
+        global.clear();
+        for (RankedScores board : byBook) {
+            board.clear();
+        }
+        players.forEach((userId, stats) -> {
+            global.put(userId, stats.totalScore);
+            for (int book = 0; book < byBook.length; book++) {
+                if (stats.bookScores[book] > 0) {
+                    byBook[book].put(userId, stats.bookScores[book]);
+                }
+            }
+            if (week.period.equals(stats.weekPeriod)) {
+                week.scores.put(userId, stats.weekScore);
+            }
+            if (month.period.equals(stats.monthPeriod)) {
+                month.scores.put(userId, stats.monthScore);
+            }
+        });
+    }
+
+    static String weekKey(Instant now) {
+        LocalDate date = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        return String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+
+    static String monthKey(Instant now) {
+        return YearMonth.from(LocalDate.ofInstant(now, ZoneOffset.UTC)).toString();
+    }
+
+    private static String requireUserId(String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User id must not be empty");
+        }
+        return userId;
+    }
+
+    private static RankedScores[] newBookBoards() {
+        RankedScores[] boards = new RankedScores[CanonicalBook.count()];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = new RankedScores();
+        }
+        return boards;
+    }
+
+    private static final class PeriodBoard {
+        private final String period;
+        private final RankedScores scores = new RankedScores();
+
+        PeriodBoard(String period) {
+            this.period = period;
+        }
+    }
+
+    /**
+     * A player's aggregate results, stored in {@code users.data.gameStats}.
+     */
+    private static final class PlayerStats {
+        private long totalScore;
+        private long games;
+        private final long[] bookScores = new long[CanonicalBook.count()];
+        private String weekPeriod;
+        private long weekScore;
+        private String monthPeriod;
+        private long monthScore;
+
+        void add(int score, CanonicalBook book, String currentWeek, String currentMonth) {
+            totalScore += score;
+            games++;
+            if (book != null) {
+                bookScores[book.ordinal()] += score;
+            }
+            if (!currentWeek.equals(weekPeriod)) {
+                weekPeriod = currentWeek;
+                weekScore = 0;
+            }
+            if (!currentMonth.equals(monthPeriod)) {
+                monthPeriod = currentMonth;
+                monthScore = 0;
+            }
+            weekScore += score;
+            monthScore += score;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Long> books = new LinkedHashMap<>();
+            for (CanonicalBook book : CanonicalBook.values()) {
+                if (bookScores[book.ordinal()] > 0) {
+                    books.put(book.getDisplayName(), bookScores[book.ordinal()]);
+                }
+            }
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("totalScore", totalScore);
+            map.put("games", games);
+            map.put("bookScores", books);
+            map.put("week", Map.of("period", weekPeriod, "score", weekScore));
+            map.put("month", Map.of("period", monthPeriod, "score", monthScore));
+            return map;
+        }
+
+        static PlayerStats fromMap(Map<String, Object> map) {
+            PlayerStats stats = new PlayerStats();
+            stats.totalScore = asLong(map.get("totalScore"));
+            stats.games = asLong(map.get("games"));
+            if (map.get("bookScores") instanceof Map<?, ?> books) {
+                books.forEach((name, score) -> {
+                    CanonicalBook book = CanonicalBook.fromDisplayName(String.valueOf(name));
+                    if (book != null) {
+                        stats.bookScores[book.ordinal()] = asLong(score);
+                    }
+                });
+            }
+            if (map.get("week") instanceof Map<?, ?> week) {
+                stats.weekPeriod = (String) week.get("period");
+                stats.weekScore = asLong(week.get("score"));
+            }
+            if (map.get("month") instanceof Map<?, ?> month) {
+                stats.monthPeriod = (String) month.get("period");
+                stats.monthScore = asLong(month.get("score"));
+            }
+            return stats;
+        }
+
+        private static long asLong(Object value) {
+            return value instanceof Number number ? number.longValue() : 0;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.NumerologyAggregate;
+import com.nghood.christianity.model.NumerologyFinding;
+import com.nghood.christianity.model.NumerologyMetric;
+import com.nghood.christianity.model.NumerologySearchResult;
+import com.nghood.christianity.model.NumerologyWindow;
+import com.nghood.christianity.model.ScriptureReference;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * Live numerology over the loaded text: metric totals of any reference with the "magic number" findings they
+ * produce, and searches for runs of consecutive verses whose totals are divisible by, or equal to, a number.
+ *
+ * Metrics are computed once per corpus by {@link VerseMetrics}; range totals are O(1) and window searches run on
+ * the common fork/join pool. Windows never cross a book boundary.
+ */
+@Service
+@Slf4j
+public class NumerologyService {
+
+    public static final int MAX_TEXT_LENGTH = 1_000;
+    public static final int MAX_WINDOW = 1_000;
+    public static final int MAX_MATCHES = 200;
+
+    private static final long[] MAGIC_NUMBERS = {7, 12, 40, 70, 153, 365, 666, 777, 888, 1000, 144000};
+    private static final long[] DIVISORS = {7, 153, 666, 888};
+    // Small multiples of 7 turn up everywhere and drown out the rest
+    private static final long MIN_MULTIPLE_OF_SEVEN = 50;
+
+    private final BibleDataService bibleDataService;
+    private final ScriptureReferenceService scriptureReferenceService;
+
+    private volatile VerseMetrics verseMetrics;
+
+    public NumerologyService(BibleDataService bibleDataService, ScriptureReferenceService scriptureReferenceService) {
+        this.bibleDataService = bibleDataService;
+        this.scriptureReferenceService = scriptureReferenceService;
+    }
+
+    @PostConstruct
+    public void computeMetrics() {
+        long startTime = System.currentTimeMillis();
+        VerseMetrics metrics = getMetrics();
+        log.info("Computed numerology metrics for {} verses in {}ms",
+                metrics.corpus().verseCount(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Metric totals over all spans of a reference ("John 1", "Gen 1:1; Rev 22:21") and their findings.
+     */
+    public NumerologyAggregate getAggregate(String reference) {
+        VerseMetrics metrics = getMetrics();
+        List<ScriptureReferenceService.VerseSpan> spans = scriptureReferenceService.resolveSpans(reference);
+        Map<NumerologyMetric, Long> totals = new EnumMap<>(NumerologyMetric.class);
+        List<ScriptureReference> references = new ArrayList<>(spans.size());
+        for (ScriptureReferenceService.VerseSpan span : spans) {
+            references.add(span.reference());
+            for (NumerologyMetric metric : NumerologyMetric.values()) {
+                totals.merge(metric, metrics.sum(metric, span.fromOrdinal(), span.toOrdinal()), Long::sum);
+            }
+        }
+        return new NumerologyAggregate(references, totals, findings(totals));
+    }
+
+    /**
+     * Metric totals of a word or phrase ("Jesus Christ") and their findings.
+     */
+    public NumerologyAggregate getTextAggregate(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Text must not be empty");
+        }
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Text is longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+        Map<NumerologyMetric, Long> totals = new EnumMap<>(NumerologyMetric.class);
+        for (NumerologyMetric metric : NumerologyMetric.values()) {
+            if (metric != NumerologyMetric.VERSES) {
+                totals.put(metric, VerseMetrics.measure(metric, text));
+            }
+        }
+        return new NumerologyAggregate(List.of(), totals, findings(totals));
+    }
+
+    /**
+     * Runs of {@code window} consecutive verses within {@code scope} (the whole text when blank) whose metric
+     * total is a positive multiple of {@code divisor} or equals {@code target}; exactly one of the two is given.
+     */
+    public NumerologySearchResult searchWindows(NumerologyMetric metric, int window, Long divisor, Long target,
+                                                String scope, int limit) {
+        if (window < 1 || window > MAX_WINDOW) {
+            throw new IllegalArgumentException("Window must be between 1 and " + MAX_WINDOW + " verses");
+        }
+        if ((divisor == null) == (target == null)) {
+            throw new IllegalArgumentException("Give either a divisor or a target");
+        }
+        if (divisor != null && divisor < 1) {
+            throw new IllegalArgumentException("Divisor must be positive");
+        }
+        if (limit < 0 || limit > MAX_MATCHES) {
+            throw new IllegalArgumentException("Limit must be between 0 and " + MAX_MATCHES);
+        }
+
+        VerseMetrics metrics = getMetrics();
+        BibleCorpus corpus = metrics.corpus();
+        int[][] segments = scope == null || scope.isBlank() ? bookSegments(corpus) : spanSegments(scope);
+        LongPredicate matches = divisor != null
+                ? value -> value > 0 && value % divisor == 0
+                : value -> value == target;
+
+        VerseMetrics.SearchResult result = metrics.search(metric, window, segments[0], segments[1], matches, limit);
+        List<NumerologyWindow> windows = new ArrayList<>(result.firstStarts().length);
+        for (int start : result.firstStarts()) {
+            windows.add(new NumerologyWindow(ScriptureReferenceService.describe(corpus, start, start + window - 1),
+                    metrics.sum(metric, start, start + window)));
+        }
+        return new NumerologySearchResult(metric, window, divisor, target, result.windows(), result.count(), windows);
+    }
+
+    private int[][] bookSegments(BibleCorpus corpus) {
+        List<Integer> books = new ArrayList<>();
+        for (int book = 0; book < CanonicalBook.count(); book++) {
+            if (corpus.hasBook(book)) {
+                books.add(book);
+            }
+        }
+        int[][] segments = new int[2][books.size()];
+        for (int i = 0; i < books.size(); i++) {
+            segments[0][i] = corpus.firstBookVerseOrdinal(books.get(i));
+            segments[1][i] = corpus.endBookVerseOrdinal(books.get(i));
+        }
+        return segments;
+    }
+
+    private int[][] spanSegments(String scope) {
+        List<ScriptureReferenceService.VerseSpan> spans = scriptureReferenceService.resolveSpans(scope);
+        int[][] segments = new int[2][spans.size()];
+        for (int i = 0; i < spans.size(); i++) {
+            segments[0][i] = spans.get(i).fromOrdinal();
+            segments[1][i] = spans.get(i).toOrdinal();
+        }
+        return segments;
+    }
+
+    private static List<NumerologyFinding> findings(Map<NumerologyMetric, Long> totals) {
+        List<NumerologyFinding> findings = new ArrayList<>();
+        totals.forEach((metric, value) -> {
+            for (long magic : MAGIC_NUMBERS) {
+                if (value == magic) {
+                    findings.add(new NumerologyFinding(metric, value, true, magic));
+                }
+            }
+            for (long divisor : DIVISORS) {
+                if (value > 0 && value % divisor == 0 && (divisor != 7 || value >= MIN_MULTIPLE_OF_SEVEN)) {
+                    findings.add(new NumerologyFinding(metric, value, false, divisor));
+                }
+            }
+        });
+        return findings;
+    }
+
+    private VerseMetrics getMetrics() {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        if (corpus == null) {
+            throw new IllegalStateException("Bible data is not loaded");
+        }
+        VerseMetrics current = verseMetrics;
+        if (current == null || current.corpus() != corpus) {
+            current = new VerseMetrics(corpus);
+            verseMetrics = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,294 @@
+package com.nghood.christianity.service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Streams an OSIS document once with StAX and renders every chapter into a compact HTML fragment, handing
+ * each chapter to a consumer as soon as it ends. Memory use is bounded by the largest chapter, not the
+ * document.
+ *
+ * Chapters and verses may be containers ({@code <verse osisID="John.3.16">...</verse>}) or milestones
+ * ({@code sID}/{@code eID} pairs). Verse content keeps its inline OSIS markup (notes, references, divine
+ * names, ...) with the namespace dropped, wrapped in the same {@code bible-verse} markup the Plain Meaning
+ * Bible page builds client-side. Block structure (paragraphs, poetry lines, lists) is flattened to spaces,
+ * markup outside verses (headings, introductions) is not rendered, and inline elements that straddle a
+ * verse boundary are closed at the end of the verse so every fragment is well formed.
+ */
+final class OsisChapterReader {
+
+    /**
+     * One rendered chapter; {@code bookId} and {@code chapter} come from the chapter's osisID ("John.3").
+     */
+    record Chapter(String bookId, int chapter, int verseCount, String html) {
+    }
+
+    private static final XMLInputFactory FACTORY = createFactory();
+    private static final Set<String> BLOCK_ELEMENTS = Set.of(
+            "p", "div", "lg", "l", "list", "item", "table", "row", "cell", "speech", "lb");
+
+    private final Consumer<Chapter> sink;
+    private final Deque<Element> stack = new ArrayDeque<>();
+    private final List<Element> openInVerse = new ArrayList<>();
+    private final StringBuilder html = new StringBuilder(16 * 1024);
+
+    private String chapterId;
+    private int verseCount;
+    private boolean inVerse;
+    private boolean verseHasContent;
+    private boolean pendingSpace;
+
+    private OsisChapterReader(Consumer<Chapter> sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Read the whole document, returning the number of chapters passed to {@code sink}.
+     */
+    static int read(InputStream input, Consumer<Chapter> sink) throws XMLStreamException {
+        OsisChapterReader reader = new OsisChapterReader(sink);
+        XMLStreamReader xml = FACTORY.createXMLStreamReader(input);
+        try {
+            return reader.readAll(xml);
+        } finally {
+            xml.close();
+        }
+    }
+
+    private int readAll(XMLStreamReader xml) throws XMLStreamException {
+        int chapters = 0;
+        while (xml.hasNext()) {
+            switch (xml.next()) {
+                case XMLStreamConstants.START_ELEMENT -> chapters += startElement(xml);
+                case XMLStreamConstants.END_ELEMENT -> chapters += endElement();
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    if (inVerse) {
+                        appendText(xml.getTextCharacters(), xml.getTextStart(), xml.getTextLength());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return chapters;
+    }
+
+    private int startElement(XMLStreamReader xml) {
+        String name = xml.getLocalName();
+        String osisId = xml.getAttributeValue(null, "osisID");
+        String sId = xml.getAttributeValue(null, "sID");
+        String eId = xml.getAttributeValue(null, "eID");
+        int finished = 0;
+
+        if (name.equals("chapter")) {
+            if (eId != null) {
+                finished = endChapter();
+                stack.push(Element.IGNORED);
+            } else if (osisId != null) {
+                finished = endChapter();
+                startChapter(osisId);
+                stack.push(sId != null ? Element.IGNORED : Element.CHAPTER);
+            } else {
+                stack.push(Element.IGNORED);
+            }
+            return finished;
+        }
+        if (name.equals("verse") && chapterId != null) {
+            if (eId != null) {
+                endVerse();
+                stack.push(Element.IGNORED);
+            } else if (osisId != null) {
+                endVerse();
+                startVerse(osisId);
+                stack.push(sId != null ? Element.IGNORED : Element.VERSE);
+            } else {
+                stack.push(Element.IGNORED);
+            }
+            return finished;
+        }
+        if (!inVerse) {
+            stack.push(Element.IGNORED);
+            return finished;
+        }
+        if (BLOCK_ELEMENTS.contains(name)) {
+            pendingSpace = true;
+            stack.push(Element.BLOCK);
+            return finished;
+        }
+
+        Element element = new Element(name, true);
+        flushSpace();
+        html.append('<').append(name);
+        for (int i = 0; i < xml.getAttributeCount(); i++) {
+            String prefix = xml.getAttributePrefix(i);
+            String attribute = xml.getAttributeLocalName(i);
+            // xml:lang becomes lang; attributes from other namespaces are dropped
+            if (prefix != null && !prefix.isEmpty() && !prefix.equals("xml")) {
+                continue;
+            }
+            html.append(' ').append(attribute).append("=\"");
+            escape(xml.getAttributeValue(i), true);
+            html.append('"');
+        }
+        html.append('>');
+        openInVerse.add(element);
+        stack.push(element);
+        return finished;
+    }
+
+    private int endElement() {
+        Element element = stack.pop();
+        if (element == Element.CHAPTER) {
+            return endChapter();
+        }
+        if (element == Element.VERSE) {
+            endVerse();
+        } else if (element == Element.BLOCK) {
+            pendingSpace = true;
+        } else if (element.open) {
+            int index = openInVerse.lastIndexOf(element);
+            for (int i = openInVerse.size() - 1; i >= index; i--) {
+                closeTag(openInVerse.remove(i));
+            }
+        }
+        return 0;
+    }
+
+    private void startChapter(String osisId) {
+        chapterId = firstId(osisId);
+        verseCount = 0;
+        html.setLength(0);
+    }
+
+    private int endChapter() {
+        if (chapterId == null) {
+            return 0;
+        }
+        endVerse();
+        int separator = chapterId.lastIndexOf('.');
+        String id = chapterId;
+        chapterId = null;
+        if (separator <= 0 || verseCount == 0) {
+            return 0;
+        }
+        int chapter;
+        try {
+            chapter = Integer.parseInt(id.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+        sink.accept(new Chapter(id.substring(0, separator), chapter, verseCount, html.toString()));
+        return 1;
+    }
+
+    private void startVerse(String osisId) {
+        String id = firstId(osisId);
+        String number = id.substring(id.lastIndexOf('.') + 1).replaceFirst("^0+(?=.)", "");
+        html.append("<div class=\"bible-verse\" data-osis-id=\"");
+        escape(id, true);
+        html.append("\"><span class=\"bible-verse-number\">");
+        escape(number, false);
+        html.append("</span><span class=\"bible-verse-text\">");
+        inVerse = true;
+        verseHasContent = false;
+        pendingSpace = false;
+        verseCount++;
+    }
+
+    private void endVerse() {
+        if (!inVerse) {
+            return;
+        }
+        for (int i = openInVerse.size() - 1; i >= 0; i--) {
+            closeTag(openInVerse.get(i));
+        }
+        openInVerse.clear();
+        html.append("</span></div>");
+        inVerse = false;
+    }
+
+    private void closeTag(Element element) {
+        element.open = false;
+        html.append("</").append(element.name).append('>');
+    }
+
+    /**
+     * Append text with runs of whitespace collapsed to one space and none at the start of the verse.
+     */
+    private void appendText(char[] text, int start, int length) {
+        for (int i = start; i < start + length; i++) {
+            char c = text[i];
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            flushSpace();
+            switch (c) {
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                case '&' -> html.append("&amp;");
+                default -> html.append(c);
+            }
+        }
+    }
+
+    private void flushSpace() {
+        if (pendingSpace && verseHasContent) {
+            html.append(' ');
+        }
+        pendingSpace = false;
+        verseHasContent = true;
+    }
+
+    private void escape(String value, boolean attribute) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                case '&' -> html.append("&amp;");
+                case '"' -> html.append(attribute ? "&quot;" : "\"");
+                default -> html.append(c);
+            }
+        }
+    }
+
+    private static String firstId(String osisId) {
+        String trimmed = osisId.trim();
+        int space = trimmed.indexOf(' ');
+        return space < 0 ? trimmed : trimmed.substring(0, space);
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static final class Element {
+        static final Element CHAPTER = new Element("chapter", false);
+        static final Element VERSE = new Element("verse", false);
+        static final Element BLOCK = new Element("", false);
+        static final Element IGNORED = new Element("", false);
+
+        private final String name;
+        // True while the element's start tag has been written to the current verse and not yet closed
+        private boolean open;
+
+        Element(String name, boolean open) {
+            this.name = name;
+            this.open = open;
+        }
+    }
+}
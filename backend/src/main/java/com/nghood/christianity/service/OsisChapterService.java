@@ -0,0 +1,112 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.OsisBookInfo;
+import com.nghood.christianity.model.OsisChapterFragment;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-chapter payloads of the OSIS edition used by the Plain Meaning Bible page.
+ *
+ * The OSIS file is streamed once at startup by {@link OsisChapterReader}; every chapter is kept only as its
+ * pre-encoded JSON and gzip bodies with ETags, so a chapter view downloads a few kilobytes instead of the
+ * whole document. Without an OSIS file the service stays empty and lookups return null.
+ */
+@Service
+@Slf4j
+public class OsisChapterService {
+
+    private final BibleResponseCache bibleResponseCache;
+
+    @Value("${app.osis.path:./data/web.xml}")
+    private String osisPath = "./data/web.xml";
+
+    private volatile Payloads payloads = new Payloads(Map.of(), null);
+
+    public OsisChapterService(BibleResponseCache bibleResponseCache) {
+        this.bibleResponseCache = bibleResponseCache;
+    }
+
+    @PostConstruct
+    public void loadChapters() {
+        Path file = Path.of(osisPath);
+        if (!Files.isRegularFile(file)) {
+            log.info("No OSIS file at {}, chapter fragments are disabled", file);
+            return;
+        }
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            load(input);
+        } catch (IOException | XMLStreamException e) {
+            log.error("Could not read OSIS file {}", file, e);
+        }
+    }
+
+    /**
+     * Replace the chapter payloads with those rendered from an OSIS document.
+     */
+    public void load(InputStream input) throws XMLStreamException {
+        long startTime = System.currentTimeMillis();
+        Map<String, BibleResponseCache.CachedResponse> chapters = new HashMap<>();
+        Map<String, OsisBookInfo> books = new LinkedHashMap<>();
+        long[] bytes = new long[2];
+
+        OsisChapterReader.read(input, chapter -> {
+            String osisId = chapter.bookId() + "." + chapter.chapter();
+            OsisBookInfo book = books.computeIfAbsent(chapter.bookId(),
+                    id -> new OsisBookInfo(id, displayName(id), 0));
+            book.setChapterCount(Math.max(book.getChapterCount(), chapter.chapter()));
+
+            BibleResponseCache.CachedResponse payload = bibleResponseCache.encode(new OsisChapterFragment(
+                    osisId, book.getName(), chapter.chapter(), chapter.verseCount(), chapter.html()));
+            chapters.put(osisId, payload);
+            bytes[0] += payload.json().length;
+            bytes[1] += payload.gzip() == null ? payload.json().length : payload.gzip().length;
+        });
+
+        payloads = new Payloads(Map.copyOf(chapters), bibleResponseCache.encode(new ArrayList<>(books.values())));
+        log.info("Rendered {} OSIS chapters of {} books in {}ms: {} JSON bytes, {} gzip bytes",
+                chapters.size(), books.size(), System.currentTimeMillis() - startTime, bytes[0], bytes[1]);
+    }
+
+    /**
+     * Pre-encoded list of books with their chapter counts, or null when no OSIS file is loaded.
+     */
+    public BibleResponseCache.CachedResponse getBooks() {
+        return payloads.books();
+    }
+
+    /**
+     * Pre-encoded chapter fragment for an OSIS book id ("John", "1Sam") and chapter number, or null.
+     */
+    public BibleResponseCache.CachedResponse getChapter(String bookId, int chapter) {
+        return payloads.chapters().get(bookId + "." + chapter);
+    }
+
+    public int getChapterCount() {
+        return payloads.chapters().size();
+    }
+
+    private static String displayName(String osisBookId) {
+        int book = BookNameIndex.getInstance().lookup(osisBookId);
+        return book < 0 ? osisBookId : CanonicalBook.ofOrdinal(book).getDisplayName();
+    }
+
+    private record Payloads(Map<String, BibleResponseCache.CachedResponse> chapters,
+                            BibleResponseCache.CachedResponse books) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.nghood.christianity.service;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Improves an assignment of OT books to NT books so the OT word total of each NT book's group is as close
+ * as possible to the NT book's own word count, minimizing the summed absolute imbalance.
+ *
+ * Moves swap two OT books between groups, so group sizes never change. Several simulated-annealing walks
+ * with seeds split from the caller's seed run in parallel, each for a fixed number of steps, followed by
+ * a steepest-descent pass; the best walk wins (lowest walk index on ties). The work is bounded by the step
+ * count rather than by time, so given the same seed and step count the result is the same on any number of
+ * cores and under any load.
+ */
+final class PairingOptimizer {
+
+    static final int WALKS = 4;
+    static final int DEFAULT_STEPS_PER_WALK = 20_000;
+    private static final double FINAL_TEMPERATURE_RATIO = 1e-4;
+
+    private final int[] ntWords;
+    private final int[] otWords;
+    private final int stepsPerWalk;
+
+    PairingOptimizer(int[] ntWords, int[] otWords, int stepsPerWalk) {
+        if (stepsPerWalk < 0) {
+            throw new IllegalArgumentException("Steps per walk must not be negative");
+        }
+        this.ntWords = ntWords;
+        this.otWords = otWords;
+        this.stepsPerWalk = stepsPerWalk;
+    }
+
+    /**
+     * Best assignment found starting from {@code initial} (OT index -> NT index), returned as a new array.
+     */
+    int[] optimize(int[] initial, long seed) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        long[] walkSeeds = new long[WALKS];
+        for (int i = 0; i < WALKS; i++) {
+            walkSeeds[i] = seeds.nextLong();
+        }
+
+        int[][] results = IntStream.range(0, WALKS)
+                .parallel()
+                .mapToObj(walk -> anneal(initial.clone(), new SplittableRandom(walkSeeds[walk])))
+                .toArray(int[][]::new);
+
+        int[] best = initial.clone();
+        long bestCost = imbalance(best);
+        for (int[] result : results) {
+            long cost = imbalance(result);
+            if (cost < bestCost) {
+                best = result;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Sum over NT books of |NT words - OT words assigned to it|.
+     */
+    long imbalance(int[] assignment) {
+        long[] sums = groupSums(assignment);
+        long total = 0;
+        for (int nt = 0; nt < ntWords.length; nt++) {
+            total += Math.abs(ntWords[nt] - sums[nt]);
+        }
+        return total;
+    }
+
+    private int[] anneal(int[] assignment, SplittableRandom random) {
+        long[] sums = groupSums(assignment);
+        long cost = imbalance(assignment);
+        int[] best = assignment.clone();
+        long bestCost = cost;
+
+        double startTemperature = Math.max(1, (double) cost / ntWords.length);
+        double cooling = Math.pow(FINAL_TEMPERATURE_RATIO, 1.0 / Math.max(1, stepsPerWalk));
+        double temperature = startTemperature;
+        for (int step = 0; step < stepsPerWalk; step++, temperature *= cooling) {
+            int a = random.nextInt(assignment.length);
+            int b = random.nextInt(assignment.length);
+            int groupA = assignment[a];
+            int groupB = assignment[b];
+            if (groupA == groupB) {
+                continue;
+            }
+            long delta = swapDelta(sums, groupA, groupB, otWords[b] - otWords[a]);
+            if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                applySwap(assignment, sums, a, b);
+                cost += delta;
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    System.arraycopy(assignment, 0, best, 0, assignment.length);
+                }
+            }
+        }
+        descend(best);
+        return best;
+    }
+
+    /**
+     * Apply the best improving swap until none is left.
+     */
+    private void descend(int[] assignment) {
+        long[] sums = groupSums(assignment);
+        while (true) {
+            long bestDelta = 0;
+            int bestA = -1;
+            int bestB = -1;
+            for (int a = 0; a < assignment.length; a++) {
+                for (int b = a + 1; b < assignment.length; b++) {
+                    if (assignment[a] == assignment[b]) {
+                        continue;
+                    }
+                    long delta = swapDelta(sums, assignment[a], assignment[b], otWords[b] - otWords[a]);
+                    if (delta < bestDelta) {
+                        bestDelta = delta;
+                        bestA = a;
+                        bestB = b;
+                    }
+                }
+            }
+            if (bestA < 0) {
+                return;
+            }
+            applySwap(assignment, sums, bestA, bestB);
+        }
+    }
+
+    /**
+     * Cost change when group A gains {@code shift} words and group B loses them.
+     */
+    private long swapDelta(long[] sums, int groupA, int groupB, long shift) {
+        long before = Math.abs(ntWords[groupA] - sums[groupA]) + Math.abs(ntWords[groupB] - sums[groupB]);
+        long after = Math.abs(ntWords[groupA] - (sums[groupA] + shift)) + Math.abs(ntWords[groupB] - (sums[groupB] - shift));
+        return after - before;
+    }
+
+    private void applySwap(int[] assignment, long[] sums, int a, int b) {
+        int groupA = assignment[a];
+        int groupB = assignment[b];
+        long shift = otWords[b] - otWords[a];
+        sums[groupA] += shift;
+        sums[groupB] -= shift;
+        assignment[a] = groupB;
+        assignment[b] = groupA;
+    }
+
+    private long[] groupSums(int[] assignment) {
+        long[] sums = new long[ntWords.length];
+        for (int ot = 0; ot < assignment.length; ot++) {
+            sums[assignment[ot]] += otWords[ot];
+        }
+        return sums;
+    }
+}
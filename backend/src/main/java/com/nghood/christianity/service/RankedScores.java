@@ -0,0 +1,191 @@
+package com.nghood.christianity.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Order-statistic set of (user, score) pairs: a treap ordered by score descending, then user id, with
+ * subtree sizes. Updates, rank lookups and the k-th entry are O(log n); top-K is O(log n + k).
+ *
+ * Ranks use competition ranking: users with equal scores share a rank (1, 2, 2, 4). Not thread-safe.
+ */
+final class RankedScores {
+
+    record Entry(String userId, long score) {
+    }
+
+    private final Map<String, Long> scores = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom(0x5EED);
+    private Node root;
+
+    int size() {
+        return scores.size();
+    }
+
+    /**
+     * Score of the user, or -1 if the user is not on the board.
+     */
+    long score(String userId) {
+        Long score = scores.get(userId);
+        return score == null ? -1 : score;
+    }
+
+    void put(String userId, long score) {
+        Long previous = scores.put(userId, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            root = remove(root, previous, userId);
+        }
+        root = insert(root, new Node(userId, score, random.nextInt()));
+    }
+
+    void clear() {
+        scores.clear();
+        root = null;
+    }
+
+    /**
+     * 1-based competition rank of the user, or 0 if the user is not on the board.
+     */
+    int rank(String userId) {
+        Long score = scores.get(userId);
+        return score == null ? 0 : countGreaterThan(score) + 1;
+    }
+
+    /**
+     * Number of users with a strictly higher score.
+     */
+    int countGreaterThan(long score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.score > score) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Up to {@code limit} entries starting at 0-based position {@code offset}, highest score first.
+     */
+    List<Entry> range(int offset, int limit) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        collect(root, offset, limit, entries);
+        return entries;
+    }
+
+    private void collect(Node node, int skip, int limit, List<Entry> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (skip < leftSize) {
+            collect(node.left, skip, limit, out);
+        }
+        if (out.size() < limit && skip <= leftSize) {
+            out.add(new Entry(node.userId, node.score));
+        }
+        if (out.size() < limit) {
+            collect(node.right, Math.max(0, skip - leftSize - 1), limit, out);
+        }
+    }
+
+    // ---- Treap ----
+
+    private static final class Node {
+        private final String userId;
+        private final long score;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        Node(String userId, long score, int priority) {
+            this.userId = userId;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+
+    private static int compare(long scoreA, String userA, long scoreB, String userB) {
+        int byScore = Long.compare(scoreB, scoreA);
+        return byScore != 0 ? byScore : userA.compareTo(userB);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.score, inserted.userId, node.score, node.userId) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        return update(node);
+    }
+
+    private static Node remove(Node node, long score, String userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, userId, node.score, node.userId);
+        if (cmp < 0) {
+            node.left = remove(node.left, score, userId);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, score, userId);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = remove(node.right, score, userId);
+            } else {
+                node = rotateLeft(node);
+                node.left = remove(node.left, score, userId);
+            }
+        }
+        return update(node);
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = update(node);
+        return update(left);
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = update(node);
+        return update(right);
+    }
+}
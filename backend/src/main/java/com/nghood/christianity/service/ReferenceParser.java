@@ -0,0 +1,257 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.model.CanonicalBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written, single-pass parser for scripture references such as {@code John 3:16}, {@code Hos 12},
+ * {@code Gen 1:1-2:3}, {@code Rom 8-9} and lists like {@code John 3:16-18, 20; 4:1; Rom 8}.
+ *
+ * Rules: {@code ;} starts a new reference and may omit the book to reuse the previous one; {@code ,} continues
+ * with verses of the same chapter after a verse reference, or with chapters after a chapter reference.
+ * In a single-chapter book (Obadiah, Philemon, 2 John, 3 John, Jude) a number without {@code :} is a verse.
+ * The parser uses bounded lookahead only, so it runs in linear time on any input.
+ */
+final class ReferenceParser {
+
+    static final int MAX_INPUT_LENGTH = 500;
+    static final int MAX_REFERENCES = 50;
+    private static final int MAX_NUMBER = 9_999;
+
+    /**
+     * A parsed but not yet validated reference. Chapter 0 means the whole book; verse 0 means the start or
+     * end of the chapter.
+     */
+    record ParsedReference(int book, int startChapter, int startVerse, int endChapter, int endVerse) {
+    }
+
+    private final BookNameIndex bookNames;
+    private final String input;
+    private int pos;
+
+    private ReferenceParser(BookNameIndex bookNames, String input) {
+        this.bookNames = bookNames;
+        this.input = input;
+    }
+
+    static List<ParsedReference> parse(String input) {
+        if (input == null || input.isBlank()) {
+            throw new IllegalArgumentException("Reference must not be empty");
+        }
+        if (input.length() > MAX_INPUT_LENGTH) {
+            throw new IllegalArgumentException("Reference is longer than " + MAX_INPUT_LENGTH + " characters");
+        }
+        return new ReferenceParser(BookNameIndex.getInstance(), input).parseAll();
+    }
+
+    private List<ParsedReference> parseAll() {
+        List<ParsedReference> references = new ArrayList<>();
+        int book = -1;
+        while (true) {
+            skipWhitespace();
+            if (atEnd()) {
+                break;
+            }
+            if (startsBook()) {
+                book = parseBook();
+            } else if (book < 0) {
+                throw error("Missing book name");
+            }
+
+            skipWhitespace();
+            if (atEnd() || peek() == ';') {
+                add(references, new ParsedReference(book, 0, 0, 0, 0));
+            } else {
+                parseChapterList(references, book);
+            }
+
+            skipWhitespace();
+            if (atEnd()) {
+                break;
+            }
+            expect(';');
+        }
+        if (references.isEmpty()) {
+            throw error("No reference found");
+        }
+        return references;
+    }
+
+    private void parseChapterList(List<ParsedReference> references, int book) {
+        int chapter = -1;
+        boolean verseContext = false;
+        if (CanonicalBook.ofOrdinal(book).isSingleChapter() && !nextNumberIsChapter()) {
+            // "Jude 5" and "Obad 3-4" are verses of the only chapter
+            chapter = 1;
+            verseContext = true;
+        }
+        while (true) {
+            skipWhitespace();
+            int number = parseNumber();
+            skipWhitespace();
+            if (verseContext) {
+                // Continuation of a verse list in the same chapter: "16, 18-20"
+                int endVerse = number;
+                if (consume('-')) {
+                    skipWhitespace();
+                    endVerse = parseNumber();
+                }
+                add(references, new ParsedReference(book, chapter, number, chapter, endVerse));
+            } else {
+                chapter = number;
+                if (consume(':') || consume('.')) {
+                    skipWhitespace();
+                    int verse = parseNumber();
+                    int endChapter = chapter;
+                    int endVerse = verse;
+                    skipWhitespace();
+                    if (consume('-')) {
+                        skipWhitespace();
+                        int end = parseNumber();
+                        skipWhitespace();
+                        if (consume(':') || consume('.')) {
+                            skipWhitespace();
+                            endChapter = end;
+                            endVerse = parseNumber();
+                        } else {
+                            endVerse = end;
+                        }
+                    }
+                    add(references, new ParsedReference(book, chapter, verse, endChapter, endVerse));
+                    chapter = endChapter;
+                    verseContext = true;
+                } else {
+                    int endChapter = chapter;
+                    int endVerse = 0;
+                    if (consume('-')) {
+                        skipWhitespace();
+                        endChapter = parseNumber();
+                        skipWhitespace();
+                        if (consume(':') || consume('.')) {
+                            skipWhitespace();
+                            endVerse = parseNumber();
+                        }
+                    }
+                    add(references, new ParsedReference(book, chapter, 0, endChapter, endVerse));
+                    verseContext = false;
+                }
+            }
+
+            skipWhitespace();
+            if (!consume(',')) {
+                return;
+            }
+            // After a comma, "N:" starts a new chapter even inside a verse list
+            verseContext = verseContext && !nextNumberIsChapter();
+        }
+    }
+
+    private boolean nextNumberIsChapter() {
+        int i = pos;
+        while (i < input.length() && Character.isWhitespace(input.charAt(i))) {
+            i++;
+        }
+        while (i < input.length() && Character.isDigit(input.charAt(i))) {
+            i++;
+        }
+        while (i < input.length() && Character.isWhitespace(input.charAt(i))) {
+            i++;
+        }
+        return i < input.length() && (input.charAt(i) == ':' || input.charAt(i) == '.');
+    }
+
+    /**
+     * A book starts with a letter, or with a digit followed (after optional spaces) by a letter ("1 John").
+     */
+    private boolean startsBook() {
+        char c = peek();
+        if (Character.isLetter(c)) {
+            return true;
+        }
+        if (!Character.isDigit(c)) {
+            return false;
+        }
+        int i = pos + 1;
+        while (i < input.length() && (input.charAt(i) == ' ' || input.charAt(i) == '.')) {
+            i++;
+        }
+        return i < input.length() && Character.isLetter(input.charAt(i));
+    }
+
+    private int parseBook() {
+        int start = pos;
+        if (Character.isDigit(peek())) {
+            pos++;
+        }
+        while (!atEnd() && (Character.isLetter(peek()) || peek() == ' ' || peek() == '.')) {
+            // A '.' directly before a digit is a chapter/verse separator, not an abbreviation dot
+            if (peek() == '.' && pos + 1 < input.length() && Character.isDigit(input.charAt(pos + 1))) {
+                break;
+            }
+            pos++;
+        }
+        String name = input.substring(start, pos).trim();
+        int book = bookNames.lookup(name);
+        if (book < 0) {
+            throw new IllegalArgumentException("Unknown book: " + name);
+        }
+        return book;
+    }
+
+    private int parseNumber() {
+        int start = pos;
+        int value = 0;
+        while (!atEnd() && Character.isDigit(peek())) {
+            value = value * 10 + (peek() - '0');
+            if (value > MAX_NUMBER) {
+                throw error("Number too large");
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw error("Expected a number");
+        }
+        return value;
+    }
+
+    private void add(List<ParsedReference> references, ParsedReference reference) {
+        if (references.size() == MAX_REFERENCES) {
+            throw new IllegalArgumentException("More than " + MAX_REFERENCES + " references");
+        }
+        references.add(reference);
+    }
+
+    private void expect(char c) {
+        if (!consume(c)) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private boolean consume(char c) {
+        if (!atEnd() && peek() == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (!atEnd() && Character.isWhitespace(peek())) {
+            pos++;
+        }
+    }
+
+    private char peek() {
+        return input.charAt(pos);
+    }
+
+    private boolean atEnd() {
+        return pos >= input.length();
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+}
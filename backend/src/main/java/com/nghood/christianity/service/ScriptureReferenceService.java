@@ -0,0 +1,189 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.ReferenceResolution;
+import com.nghood.christianity.model.ScriptureReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves free-form references ("Hos 12", "1 Jn 4:8", "John 3:16-18; Rom 8") against the loaded corpus.
+ * Parsing is done by {@link ReferenceParser}; this service checks every span against the chapter/verse
+ * structure and renders canonical reference strings.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScriptureReferenceService {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * A resolved span as corpus verse ordinals, end exclusive; only valid for the corpus it was resolved against.
+     */
+    record VerseSpan(ScriptureReference reference, int fromOrdinal, int toOrdinal) {
+    }
+
+    private final BibleDataService bibleDataService;
+
+    /**
+     * Resolve one reference string; throws IllegalArgumentException if it does not parse or does not exist.
+     */
+    public List<ScriptureReference> resolve(String input) {
+        List<VerseSpan> spans = resolveSpans(input);
+        List<ScriptureReference> references = new ArrayList<>(spans.size());
+        for (VerseSpan span : spans) {
+            references.add(span.reference());
+        }
+        return references;
+    }
+
+    /**
+     * Like {@link #resolve(String)}, keeping the verse ordinals each span covers in the current corpus.
+     */
+    List<VerseSpan> resolveSpans(String input) {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        if (corpus == null) {
+            throw new IllegalStateException("Bible data is not loaded");
+        }
+        List<ReferenceParser.ParsedReference> parsed = ReferenceParser.parse(input);
+        List<VerseSpan> spans = new ArrayList<>(parsed.size());
+        for (ReferenceParser.ParsedReference reference : parsed) {
+            spans.add(resolve(corpus, reference));
+        }
+        return spans;
+    }
+
+    /**
+     * Resolve many reference strings independently; a bad entry reports its error without failing the batch.
+     */
+    public List<ReferenceResolution> resolveAll(List<String> inputs) {
+        if (inputs == null || inputs.isEmpty()) {
+            throw new IllegalArgumentException("No references given");
+        }
+        if (inputs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " references per request");
+        }
+        List<ReferenceResolution> resolutions = new ArrayList<>(inputs.size());
+        for (String input : inputs) {
+            try {
+                resolutions.add(new ReferenceResolution(input, resolve(input), null));
+            } catch (IllegalArgumentException e) {
+                resolutions.add(new ReferenceResolution(input, List.of(), e.getMessage()));
+            }
+        }
+        return resolutions;
+    }
+
+    /**
+     * The reference for the verses {@code firstOrdinal..lastOrdinal} (inclusive, one book), naming whole
+     * chapters without verse numbers.
+     */
+    static ScriptureReference describe(BibleCorpus corpus, int firstOrdinal, int lastOrdinal) {
+        String book = CanonicalBook.ofOrdinal(corpus.verseBook(firstOrdinal)).getDisplayName();
+        int startChapterIndex = corpus.verseChapterIndex(firstOrdinal);
+        int endChapterIndex = corpus.verseChapterIndex(lastOrdinal);
+        int startChapter = corpus.chapterNumber(startChapterIndex);
+        int endChapter = corpus.chapterNumber(endChapterIndex);
+        int startVerse = corpus.verseNumber(firstOrdinal);
+        int endVerse = corpus.verseNumber(lastOrdinal);
+
+        boolean wholeChapters = firstOrdinal == corpus.firstVerseOrdinal(startChapterIndex)
+                && lastOrdinal == corpus.endVerseOrdinal(endChapterIndex) - 1;
+        String reference;
+        if (wholeChapters) {
+            reference = startChapter == endChapter
+                    ? book + " " + startChapter
+                    : book + " " + startChapter + "-" + endChapter;
+        } else if (startChapter != endChapter) {
+            reference = book + " " + startChapter + ":" + startVerse + "-" + endChapter + ":" + endVerse;
+        } else if (startVerse != endVerse) {
+            reference = book + " " + startChapter + ":" + startVerse + "-" + endVerse;
+        } else {
+            reference = book + " " + startChapter + ":" + startVerse;
+        }
+        return new ScriptureReference(book, startChapter, startVerse, endChapter, endVerse, reference,
+                lastOrdinal - firstOrdinal + 1);
+    }
+
+    private VerseSpan resolve(BibleCorpus corpus, ReferenceParser.ParsedReference parsed) {
+        int book = parsed.book();
+        String bookName = CanonicalBook.ofOrdinal(book).getDisplayName();
+        if (!corpus.hasBook(book)) {
+            throw new IllegalArgumentException("Book not loaded: " + bookName);
+        }
+
+        boolean wholeBook = parsed.startChapter() == 0;
+        boolean versesGiven = parsed.startVerse() > 0 || parsed.endVerse() > 0;
+        int startChapterIndex;
+        int endChapterIndex;
+        if (wholeBook) {
+            startChapterIndex = corpus.firstChapterIndex(book);
+            endChapterIndex = startChapterIndex + corpus.chapterCount(book) - 1;
+        } else {
+            startChapterIndex = requireChapter(corpus, book, bookName, parsed.startChapter());
+            endChapterIndex = requireChapter(corpus, book, bookName, parsed.endChapter());
+        }
+        if (endChapterIndex < startChapterIndex) {
+            throw new IllegalArgumentException("Range ends before it starts: " + bookName + " "
+                    + parsed.startChapter() + "-" + parsed.endChapter());
+        }
+
+        int startVerse = parsed.startVerse() > 0
+                ? requireVerse(corpus, bookName, startChapterIndex, parsed.startVerse())
+                : corpus.verseNumber(corpus.firstVerseOrdinal(startChapterIndex));
+        int endVerse = parsed.endVerse() > 0
+                ? requireVerse(corpus, bookName, endChapterIndex, parsed.endVerse())
+                : corpus.verseNumber(corpus.endVerseOrdinal(endChapterIndex) - 1);
+        if (startChapterIndex == endChapterIndex && endVerse < startVerse) {
+            throw new IllegalArgumentException("Range ends before it starts: " + bookName + " "
+                    + corpus.chapterNumber(startChapterIndex) + ":" + startVerse + "-" + endVerse);
+        }
+
+        // Verse numbers may have gaps in the loaded text, so count what the span actually covers
+        int fromOrdinal = corpus.ceilingVerseOrdinal(startChapterIndex, startVerse);
+        int toOrdinal = corpus.ceilingVerseOrdinal(endChapterIndex, endVerse + 1);
+        int startChapter = corpus.chapterNumber(startChapterIndex);
+        int endChapter = corpus.chapterNumber(endChapterIndex);
+
+        String reference;
+        if (wholeBook) {
+            reference = bookName;
+        } else if (!versesGiven) {
+            reference = startChapter == endChapter
+                    ? bookName + " " + startChapter
+                    : bookName + " " + startChapter + "-" + endChapter;
+        } else if (startChapter != endChapter) {
+            reference = bookName + " " + startChapter + ":" + startVerse + "-" + endChapter + ":" + endVerse;
+        } else if (startVerse != endVerse) {
+            reference = bookName + " " + startChapter + ":" + startVerse + "-" + endVerse;
+        } else {
+            reference = bookName + " " + startChapter + ":" + startVerse;
+        }
+        return new VerseSpan(new ScriptureReference(bookName, startChapter, startVerse, endChapter, endVerse,
+                reference, toOrdinal - fromOrdinal), fromOrdinal, toOrdinal);
+    }
+
+    private int requireChapter(BibleCorpus corpus, int book, String bookName, int chapter) {
+        int chapterIndex = corpus.chapterIndex(book, chapter);
+        if (chapterIndex < 0) {
+            throw new IllegalArgumentException("Chapter not found: " + bookName + " " + chapter);
+        }
+        return chapterIndex;
+    }
+
+    private int requireVerse(BibleCorpus corpus, String bookName, int chapterIndex, int verse) {
+        int firstVerse = corpus.verseNumber(corpus.firstVerseOrdinal(chapterIndex));
+        int lastVerse = corpus.verseNumber(corpus.endVerseOrdinal(chapterIndex) - 1);
+        if (verse < firstVerse || verse > lastVerse) {
+            throw new IllegalArgumentException("Verse not found: " + bookName + " "
+                    + corpus.chapterNumber(chapterIndex) + ":" + verse);
+        }
+        return verse;
+    }
+}
@@ -0,0 +1,109 @@
+package com.nghood.christianity.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parsed full-text query: a disjunction of groups, each group a conjunction of required clauses minus
+ * excluded clauses. A clause is a single term or a phrase (consecutive terms).
+ *
+ * Syntax: words are ANDed, {@code OR} (upper case) separates groups, {@code -word} excludes and
+ * {@code "quoted words"} is a phrase. The parser is a single left-to-right scan with bounded output.
+ */
+record SearchQuery(List<Group> groups) {
+
+    static final int MAX_QUERY_LENGTH = 256;
+    static final int MAX_CLAUSES = 16;
+
+    record Group(List<String[]> required, List<String[]> excluded) {
+    }
+
+    static SearchQuery parse(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Query is longer than " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        List<Group> groups = new ArrayList<>();
+        Group group = new Group(new ArrayList<>(), new ArrayList<>());
+        int clauses = 0;
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            boolean exclude = false;
+            if (c == '-' && i + 1 < query.length() && !Character.isWhitespace(query.charAt(i + 1))) {
+                exclude = true;
+                c = query.charAt(++i);
+            }
+
+            int end;
+            String clauseText;
+            if (c == '"') {
+                end = query.indexOf('"', i + 1);
+                end = end < 0 ? query.length() : end;
+                clauseText = query.substring(i + 1, end);
+                end++;
+            } else {
+                end = i;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end))) {
+                    end++;
+                }
+                clauseText = query.substring(i, end);
+                if (!exclude && "OR".equals(clauseText)) {
+                    addGroup(groups, group);
+                    group = new Group(new ArrayList<>(), new ArrayList<>());
+                    i = end;
+                    continue;
+                }
+            }
+            i = end;
+
+            List<String> terms = VerseTokenizer.tokenize(clauseText);
+            if (terms.isEmpty()) {
+                continue;
+            }
+            if (++clauses > MAX_CLAUSES) {
+                throw new IllegalArgumentException("Query has more than " + MAX_CLAUSES + " clauses");
+            }
+            (exclude ? group.excluded() : group.required()).add(terms.toArray(String[]::new));
+        }
+        addGroup(groups, group);
+
+        if (groups.isEmpty()) {
+            throw new IllegalArgumentException("Query needs at least one search term");
+        }
+        return new SearchQuery(groups);
+    }
+
+    private static void addGroup(List<Group> groups, Group group) {
+        if (!group.required().isEmpty()) {
+            groups.add(group);
+        } else if (!group.excluded().isEmpty()) {
+            throw new IllegalArgumentException("Excluded terms need at least one required term");
+        }
+    }
+
+    /**
+     * Distinct terms of all required clauses, used for ranking.
+     */
+    List<String> scoringTerms() {
+        List<String> terms = new ArrayList<>();
+        for (Group group : groups) {
+            for (String[] clause : group.required()) {
+                for (String term : clause) {
+                    if (!terms.contains(term)) {
+                        terms.add(term);
+                    }
+                }
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,223 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * MinHash/LSH index over the verses of one corpus for finding textually similar verses.
+ *
+ * Each verse becomes the set of its word bigrams (its single word when it has only one) and is summarized by
+ * {@link #HASHES} MinHash values, stored verse-major in one {@code int[]}; the fraction of equal values between two
+ * signatures estimates the Jaccard similarity of their bigram sets. The signatures are cut into {@link #BANDS}
+ * bands of {@link #ROWS} rows; per band, verse ordinals are sorted by the band's hash so the verses sharing it are
+ * one binary search away. Signatures and bands are computed in parallel when the index is built.
+ *
+ * A lookup probes each band's bucket for the query verse and rescores the candidates on the full signature.
+ * Buckets larger than {@link #MAX_BUCKET} (minima on common bigrams like "of the", shared by thousands of verses)
+ * are skipped, so the work per lookup is bounded by {@code BANDS * MAX_BUCKET} regardless of corpus size.
+ */
+final class SimilarVerseIndex {
+
+    static final int HASHES = 64;
+    static final int BANDS = 32;
+    static final int ROWS = HASHES / BANDS;
+    static final int MAX_BUCKET = 64;
+
+    private static final long[] SEEDS = new long[HASHES];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < HASHES; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private final BibleCorpus corpus;
+    private final int verseCount;
+    private final int[] signatures;
+    private final boolean[] empty;
+    // Per band: verse ordinals sorted by band hash, and the hashes in the same order
+    private final int[][] bandVerses;
+    private final int[][] bandHashes;
+
+    SimilarVerseIndex(BibleCorpus corpus) {
+        this.corpus = corpus;
+        this.verseCount = corpus.verseCount();
+        this.signatures = new int[verseCount * HASHES];
+        this.empty = new boolean[verseCount];
+        IntStream.range(0, verseCount).parallel().forEach(ordinal -> sign(ordinal, corpus.verseText(ordinal)));
+
+        this.bandVerses = new int[BANDS][];
+        this.bandHashes = new int[BANDS][];
+        IntStream.range(0, BANDS).parallel().forEach(this::buildBand);
+    }
+
+    private void sign(int ordinal, String text) {
+        int offset = ordinal * HASHES;
+        Arrays.fill(signatures, offset, offset + HASHES, Integer.MAX_VALUE);
+        List<String> tokens = VerseTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            empty[ordinal] = true;
+            return;
+        }
+        long previous = tokenHash(tokens.get(0));
+        if (tokens.size() == 1) {
+            addShingle(offset, previous);
+        }
+        for (int i = 1; i < tokens.size(); i++) {
+            long current = tokenHash(tokens.get(i));
+            addShingle(offset, previous * 0x9E3779B97F4A7C15L + current);
+            previous = current;
+        }
+    }
+
+    private void addShingle(int offset, long shingle) {
+        for (int i = 0; i < HASHES; i++) {
+            int value = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+            if (value < signatures[offset + i]) {
+                signatures[offset + i] = value;
+            }
+        }
+    }
+
+    private void buildBand(int band) {
+        long[] keyed = new long[verseCount];
+        int size = 0;
+        for (int ordinal = 0; ordinal < verseCount; ordinal++) {
+            if (!empty[ordinal]) {
+                keyed[size++] = (long) bandHash(ordinal, band) << 32 | ordinal;
+            }
+        }
+        Arrays.sort(keyed, 0, size);
+        int[] verses = new int[size];
+        int[] hashes = new int[size];
+        for (int i = 0; i < size; i++) {
+            verses[i] = (int) keyed[i];
+            hashes[i] = (int) (keyed[i] >> 32);
+        }
+        bandVerses[band] = verses;
+        bandHashes[band] = hashes;
+    }
+
+    private int bandHash(int ordinal, int band) {
+        long hash = band;
+        int offset = ordinal * HASHES + band * ROWS;
+        for (int row = 0; row < ROWS; row++) {
+            hash = hash * 0xBF58476D1CE4E5B9L + signatures[offset + row];
+        }
+        return (int) (mix(hash) >>> 32);
+    }
+
+    BibleCorpus corpus() {
+        return corpus;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the bigram sets of two verses
+     */
+    double similarity(int first, int second) {
+        if (empty[first] || empty[second]) {
+            return 0;
+        }
+        int a = first * HASHES;
+        int b = second * HASHES;
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (signatures[a + i] == signatures[b + i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    /**
+     * Up to {@code limit} verses most similar to {@code ordinal} with at least {@code minSimilarity}, best first,
+     * skipping verses in {@code [excludeFrom, excludeTo)}.
+     */
+    List<Match> similar(int ordinal, int limit, double minSimilarity, int excludeFrom, int excludeTo) {
+        if (empty[ordinal] || limit < 1) {
+            return List.of();
+        }
+        // Candidate set: open addressing over at most BANDS * MAX_BUCKET ordinals
+        int[] seen = new int[Integer.highestOneBit(BANDS * MAX_BUCKET) * 4];
+        Arrays.fill(seen, -1);
+        int[] candidates = new int[BANDS * MAX_BUCKET];
+        int candidateCount = 0;
+        for (int band = 0; band < BANDS; band++) {
+            int[] hashes = bandHashes[band];
+            int hash = bandHash(ordinal, band);
+            int from = lowerBound(hashes, hash);
+            int to = lowerBound(hashes, hash + 1L);
+            if (to - from > MAX_BUCKET || to - from < 2) {
+                continue;
+            }
+            for (int i = from; i < to; i++) {
+                int candidate = bandVerses[band][i];
+                if (candidate == ordinal || (candidate >= excludeFrom && candidate < excludeTo)) {
+                    continue;
+                }
+                int slot = (candidate * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(seen.length));
+                while (seen[slot] >= 0 && seen[slot] != candidate) {
+                    slot = (slot + 1) & (seen.length - 1);
+                }
+                if (seen[slot] < 0) {
+                    seen[slot] = candidate;
+                    candidates[candidateCount++] = candidate;
+                }
+            }
+        }
+
+        int minEqual = (int) Math.ceil(minSimilarity * HASHES);
+        long[] scored = new long[candidateCount];
+        int scoredCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int equal = (int) Math.round(similarity(ordinal, candidates[i]) * HASHES);
+            if (equal >= minEqual) {
+                // Best score first, then canonical order
+                scored[scoredCount++] = (long) (HASHES - equal) << 32 | candidates[i];
+            }
+        }
+        Arrays.sort(scored, 0, scoredCount);
+        List<Match> matches = new ArrayList<>(Math.min(limit, scoredCount));
+        for (int i = 0; i < scoredCount && matches.size() < limit; i++) {
+            matches.add(new Match((int) scored[i], (double) (HASHES - (int) (scored[i] >>> 32)) / HASHES));
+        }
+        return matches;
+    }
+
+    record Match(int ordinal, double similarity) {
+    }
+
+    private static int lowerBound(int[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long tokenHash(String token) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash = (hash ^ token.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
@@ -0,0 +1,118 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.SimilarVerse;
+import com.nghood.christianity.model.SimilarVerseResult;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parallel passages by text similarity: Kings and Chronicles, the synoptic Gospels, Old Testament quotations.
+ *
+ * Backed by a {@link SimilarVerseIndex} built at startup, with its signatures computed in parallel, so requests
+ * only read it. Lookups touch a bounded number of candidates, so their cost does not grow with the corpus.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimilarVerseService {
+
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_QUERY_VERSES = 30;
+    public static final double DEFAULT_MIN_SIMILARITY = 0.3;
+
+    private final BibleDataService bibleDataService;
+    private final ScriptureReferenceService scriptureReferenceService;
+    private volatile SimilarVerseIndex index;
+
+    @PostConstruct
+    public void buildIndex() {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        long startTime = System.currentTimeMillis();
+        index = new SimilarVerseIndex(corpus);
+        log.info("Built similar-verse index over {} verses in {}ms", corpus.verseCount(),
+                System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Up to {@code limit} verses outside the passage most similar to any of its verses, best first.
+     * Verses in the same chapter as the passage are left out unless {@code sameChapter} is set.
+     */
+    public SimilarVerseResult getSimilarVerses(String reference, int limit, double minSimilarity, boolean sameChapter) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (minSimilarity <= 0 || minSimilarity > 1) {
+            throw new IllegalArgumentException("Minimum similarity must be in (0, 1]");
+        }
+        List<ScriptureReferenceService.VerseSpan> spans = scriptureReferenceService.resolveSpans(reference);
+        if (spans.size() != 1) {
+            throw new IllegalArgumentException("Give a single passage");
+        }
+        ScriptureReferenceService.VerseSpan span = spans.get(0);
+        if (span.toOrdinal() - span.fromOrdinal() > MAX_QUERY_VERSES) {
+            throw new IllegalArgumentException("Passage covers more than " + MAX_QUERY_VERSES + " verses");
+        }
+
+        SimilarVerseIndex current = getIndex();
+        if (current == null) {
+            throw new IllegalStateException("The similar-verse index does not match the loaded Bible data");
+        }
+        BibleCorpus corpus = current.corpus();
+        int excludeFrom = sameChapter ? span.fromOrdinal()
+                : corpus.firstVerseOrdinal(corpus.verseChapterIndex(span.fromOrdinal()));
+        int excludeTo = sameChapter ? span.toOrdinal()
+                : corpus.endVerseOrdinal(corpus.verseChapterIndex(span.toOrdinal() - 1));
+
+        // Best similarity per target verse across the passage's verses
+        Map<Integer, Double> best = new HashMap<>();
+        for (int ordinal = span.fromOrdinal(); ordinal < span.toOrdinal(); ordinal++) {
+            for (SimilarVerseIndex.Match match : current.similar(ordinal, limit, minSimilarity, excludeFrom, excludeTo)) {
+                best.merge(match.ordinal(), match.similarity(), Math::max);
+            }
+        }
+        List<SimilarVerse> matches = best.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> toSimilarVerse(corpus, entry.getKey(), entry.getValue()))
+                .toList();
+        return new SimilarVerseResult(span.reference(), matches);
+    }
+
+    /**
+     * The verse most similar to {@code ordinal} outside its chapter, or null if none reaches {@code minSimilarity}
+     */
+    SimilarVerseIndex.Match bestParallel(BibleCorpus corpus, int ordinal, double minSimilarity) {
+        SimilarVerseIndex current = index;
+        if (current == null || current.corpus() != corpus) {
+            return null;
+        }
+        int chapterIndex = corpus.verseChapterIndex(ordinal);
+        List<SimilarVerseIndex.Match> matches = current.similar(ordinal, 1, minSimilarity,
+                corpus.firstVerseOrdinal(chapterIndex), corpus.endVerseOrdinal(chapterIndex));
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    private static SimilarVerse toSimilarVerse(BibleCorpus corpus, int ordinal, double similarity) {
+        String book = CanonicalBook.ofOrdinal(corpus.verseBook(ordinal)).getDisplayName();
+        int chapter = corpus.chapterNumber(corpus.verseChapterIndex(ordinal));
+        int verse = corpus.verseNumber(ordinal);
+        return new SimilarVerse(book + " " + chapter + ":" + verse, book, chapter, verse, corpus.verseText(ordinal),
+                similarity);
+    }
+
+    // Read-only on the request path: null until built, or when the corpus has changed since
+    private SimilarVerseIndex getIndex() {
+        SimilarVerseIndex current = index;
+        return current != null && current.corpus() == bibleDataService.getCorpus() ? current : null;
+    }
+}
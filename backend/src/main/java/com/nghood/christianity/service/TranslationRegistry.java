@@ -0,0 +1,291 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.corpus.CorpusSnapshot;
+import com.nghood.christianity.corpus.JsonCorpusLoader;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.ParallelVerse;
+import com.nghood.christianity.model.TranslationInfo;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Bible translations available to the API, keyed by a short lower-case id.
+ *
+ * The default translation is the corpus of {@link BibleDataService} and is always resident. Others are discovered
+ * under {@code app.data.path} at startup, which only lists the directory: {@code <id>.snapshot} files in the
+ * {@link CorpusSnapshot} format (memory-mapped, so their text stays off the heap) and {@code <id>/} directories of
+ * per-book JSON files in the WEB format. A translation is loaded on first use and kept in an LRU set whose retained
+ * heap is held under {@code app.translations.max-bytes}; the least recently used ones are dropped to make room.
+ */
+@Service
+@Slf4j
+public class TranslationRegistry {
+
+    public static final int MAX_PARALLEL_TRANSLATIONS = 8;
+    public static final int MAX_PARALLEL_VERSES = 200;
+
+    private static final Pattern TRANSLATION_ID = Pattern.compile("[a-z0-9][a-z0-9-]{0,31}");
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private final BibleDataService bibleDataService;
+    private final ScriptureReferenceService scriptureReferenceService;
+    private final String dataPath;
+    private final String corpusSnapshot;
+    private final String defaultId;
+    private final long maxBytes;
+
+    private volatile Map<String, Source> sources = Map.of();
+    private final LinkedHashMap<String, BibleCorpus> resident = new LinkedHashMap<>(16, 0.75f, true);
+    private long residentBytes;
+    private long loads;
+    private long evictions;
+
+    public TranslationRegistry(BibleDataService bibleDataService,
+                               ScriptureReferenceService scriptureReferenceService,
+                               @Value("${app.data.path:./data/}") String dataPath,
+                               @Value("${app.corpus.snapshot:}") String corpusSnapshot,
+                               @Value("${app.translations.default-id:web}") String defaultId,
+                               @Value("${app.translations.max-bytes:268435456}") long maxBytes) {
+        this.bibleDataService = bibleDataService;
+        this.scriptureReferenceService = scriptureReferenceService;
+        this.dataPath = dataPath;
+        this.corpusSnapshot = corpusSnapshot;
+        this.defaultId = defaultId.toLowerCase(Locale.ROOT);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * List the translations under the data path without loading any of them. The snapshot of the default
+     * translation ({@code app.corpus.snapshot}) is skipped if it lives there.
+     */
+    @PostConstruct
+    public void discover() {
+        Map<String, Source> found = new TreeMap<>();
+        Path directory = dataPath == null || dataPath.isBlank() ? null : Path.of(dataPath);
+        Path defaultSnapshot = corpusSnapshot == null || corpusSnapshot.isBlank()
+                ? null : Path.of(corpusSnapshot).toAbsolutePath().normalize();
+        if (directory != null && Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    if (entry.toAbsolutePath().normalize().equals(defaultSnapshot)) {
+                        continue;
+                    }
+                    Source source = toSource(entry);
+                    if (source != null && !source.id().equals(defaultId)) {
+                        found.put(source.id(), source);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Could not list translations in {}: {}", directory, e.getMessage());
+            }
+        }
+        sources = Collections.unmodifiableMap(found);
+        synchronized (resident) {
+            resident.keySet().retainAll(found.keySet());
+            residentBytes = resident.values().stream().mapToLong(BibleCorpus::estimatedRetainedBytes).sum();
+        }
+        log.info("Found {} additional translations in {}: {}", found.size(), directory, found.keySet());
+    }
+
+    private static Source toSource(Path entry) {
+        String name = entry.getFileName().toString();
+        if (Files.isRegularFile(entry) && name.endsWith(SNAPSHOT_SUFFIX)) {
+            String id = name.substring(0, name.length() - SNAPSHOT_SUFFIX.length()).toLowerCase(Locale.ROOT);
+            return TRANSLATION_ID.matcher(id).matches() ? new Source(id, entry, true) : null;
+        }
+        if (Files.isDirectory(entry) && TRANSLATION_ID.matcher(name.toLowerCase(Locale.ROOT)).matches()) {
+            for (CanonicalBook book : CanonicalBook.values()) {
+                if (Files.isRegularFile(entry.resolve(book.getFileName() + ".json"))) {
+                    return new Source(name.toLowerCase(Locale.ROOT), entry, false);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The default translation followed by the discovered ones, with whether each is resident.
+     */
+    public List<TranslationInfo> getTranslations() {
+        List<TranslationInfo> translations = new ArrayList<>();
+        BibleCorpus defaultCorpus = bibleDataService.getCorpus();
+        translations.add(new TranslationInfo(defaultId, "bundled", true, loadedBooks(defaultCorpus),
+                defaultCorpus.estimatedRetainedBytes()));
+        synchronized (resident) {
+            for (Source source : sources.values()) {
+                BibleCorpus corpus = resident.get(source.id());
+                translations.add(new TranslationInfo(source.id(), source.snapshot() ? "snapshot" : "json",
+                        corpus != null, corpus == null ? 0 : loadedBooks(corpus),
+                        corpus == null ? 0 : corpus.estimatedRetainedBytes()));
+            }
+        }
+        return translations;
+    }
+
+    /**
+     * The corpus of a translation, loading it on first use. Throws IllegalArgumentException for unknown ids.
+     */
+    public BibleCorpus getCorpus(String id) {
+        String key = normalizeId(id);
+        if (defaultId.equals(key)) {
+            return bibleDataService.getCorpus();
+        }
+        Source source = sources.get(key);
+        if (source == null) {
+            throw new IllegalArgumentException("Unknown translation: " + id);
+        }
+        synchronized (resident) {
+            BibleCorpus corpus = resident.get(key);
+            if (corpus != null) {
+                return corpus;
+            }
+        }
+
+        // Load outside the registry lock so other translations stay available; one loader per source
+        synchronized (source) {
+            synchronized (resident) {
+                BibleCorpus corpus = resident.get(key);
+                if (corpus != null) {
+                    return corpus;
+                }
+            }
+            BibleCorpus corpus = load(source);
+            synchronized (resident) {
+                resident.put(key, corpus);
+                residentBytes += corpus.estimatedRetainedBytes();
+                loads++;
+                evictToBudget(key);
+            }
+            return corpus;
+        }
+    }
+
+    private BibleCorpus load(Source source) {
+        long startTime = System.currentTimeMillis();
+        BibleCorpus corpus;
+        try {
+            corpus = source.snapshot()
+                    ? CorpusSnapshot.map(source.path())
+                    : new JsonCorpusLoader(Math.min(Runtime.getRuntime().availableProcessors(), 4), source.path()).load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load translation " + source.id(), e);
+        }
+        log.info("Loaded translation {} from {} in {}ms, {} books, estimated retained bytes: {}", source.id(),
+                source.path(), System.currentTimeMillis() - startTime, loadedBooks(corpus),
+                corpus.estimatedRetainedBytes());
+        return corpus;
+    }
+
+    // Caller holds the resident lock; the translation just loaded stays even if it alone exceeds the budget
+    private void evictToBudget(String keep) {
+        for (Iterator<Map.Entry<String, BibleCorpus>> it = resident.entrySet().iterator();
+             it.hasNext() && residentBytes > maxBytes; ) {
+            Map.Entry<String, BibleCorpus> eldest = it.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            it.remove();
+            residentBytes -= eldest.getValue().estimatedRetainedBytes();
+            evictions++;
+            log.info("Evicted translation {} to stay within {} bytes", eldest.getKey(), maxBytes);
+        }
+    }
+
+    public long getResidentBytes() {
+        synchronized (resident) {
+            return residentBytes;
+        }
+    }
+
+    public long getLoadCount() {
+        synchronized (resident) {
+            return loads;
+        }
+    }
+
+    public long getEvictionCount() {
+        synchronized (resident) {
+            return evictions;
+        }
+    }
+
+    /**
+     * The verses of {@code reference} side by side in each of {@code translations}, aligned by book, chapter and
+     * verse number. A verse a translation does not have is reported as null for it.
+     */
+    public List<ParallelVerse> getParallelVerses(String reference, List<String> translations) {
+        if (translations == null || translations.isEmpty()) {
+            throw new IllegalArgumentException("No translations given");
+        }
+        if (translations.size() > MAX_PARALLEL_TRANSLATIONS) {
+            throw new IllegalArgumentException("At most " + MAX_PARALLEL_TRANSLATIONS + " translations");
+        }
+        List<String> ids = new ArrayList<>(translations.size());
+        List<BibleCorpus> corpora = new ArrayList<>(translations.size());
+        for (String translation : translations) {
+            String id = normalizeId(translation);
+            if (!ids.contains(id)) {
+                corpora.add(getCorpus(id));
+                ids.add(id);
+            }
+        }
+
+        // Verse numbering follows the default translation; the others are looked up by number
+        BibleCorpus base = bibleDataService.getCorpus();
+        List<ParallelVerse> verses = new ArrayList<>();
+        for (ScriptureReferenceService.VerseSpan span : scriptureReferenceService.resolveSpans(reference)) {
+            if (verses.size() + span.toOrdinal() - span.fromOrdinal() > MAX_PARALLEL_VERSES) {
+                throw new IllegalArgumentException("Reference covers more than " + MAX_PARALLEL_VERSES + " verses");
+            }
+            for (int ordinal = span.fromOrdinal(); ordinal < span.toOrdinal(); ordinal++) {
+                int book = base.verseBook(ordinal);
+                int chapter = base.chapterNumber(base.verseChapterIndex(ordinal));
+                int verse = base.verseNumber(ordinal);
+                Map<String, String> texts = new LinkedHashMap<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    BibleCorpus corpus = corpora.get(i);
+                    int aligned = corpus == base ? ordinal : corpus.verseOrdinal(book, chapter, verse);
+                    texts.put(ids.get(i), aligned >= 0 ? corpus.verseText(aligned) : null);
+                }
+                String bookName = CanonicalBook.ofOrdinal(book).getDisplayName();
+                verses.add(new ParallelVerse(bookName + " " + chapter + ":" + verse, bookName, chapter, verse, texts));
+            }
+        }
+        return verses;
+    }
+
+    private static int loadedBooks(BibleCorpus corpus) {
+        int books = 0;
+        for (int book = 0; book < corpus.bookCount(); book++) {
+            if (corpus.hasBook(book)) {
+                books++;
+            }
+        }
+        return books;
+    }
+
+    private static String normalizeId(String id) {
+        return id == null ? "" : id.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Source(String id, Path path, boolean snapshot) {
+    }
+}
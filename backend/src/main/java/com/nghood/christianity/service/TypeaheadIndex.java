@@ -0,0 +1,175 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.TypeaheadSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable typeahead answers for every prefix of every book key and of every chapter number.
+ *
+ * Book keys are the normalized names and abbreviations of {@link BookNameIndex}. For each prefix the ranked
+ * suggestion list is built once: books with a key equal to the prefix first, then by popularity, then in canonical
+ * order. Chapter suggestions ("John 3", "Psalms 3", "Psalms 30", ...) are precomputed per book and chapter-number
+ * prefix. A query is a normalization plus one or two map lookups and returns a shared list, so serving a keystroke
+ * allocates next to nothing.
+ */
+final class TypeaheadIndex {
+
+    private static final int MAX_QUERY_LENGTH = 64;
+
+    private final BibleCorpus corpus;
+    private final long[] popularity;
+    private final Map<String, BookPrefix> bookPrefixes;
+    private final Map<String, List<TypeaheadSuggestion>>[] chapterPrefixes;
+    private final int limit;
+
+    @SuppressWarnings("unchecked")
+    TypeaheadIndex(BibleCorpus corpus, long[] popularity, int limit) {
+        this.corpus = corpus;
+        this.popularity = popularity.clone();
+        this.limit = limit;
+
+        Map<String, Map<Integer, Boolean>> matches = new HashMap<>();
+        chapterPrefixes = new Map[CanonicalBook.count()];
+        for (CanonicalBook book : CanonicalBook.values()) {
+            int ordinal = book.ordinal();
+            if (!corpus.hasBook(ordinal)) {
+                continue;
+            }
+            for (String key : BookNameIndex.keys(book)) {
+                for (int length = 0; length <= key.length(); length++) {
+                    // true when some key of the book is exactly this prefix
+                    matches.computeIfAbsent(key.substring(0, length), prefix -> new HashMap<>())
+                            .merge(ordinal, length == key.length(), Boolean::logicalOr);
+                }
+            }
+            chapterPrefixes[ordinal] = buildChapterPrefixes(book);
+        }
+
+        Map<String, BookPrefix> prefixes = new HashMap<>();
+        matches.forEach((prefix, byBook) -> {
+            int[] ranked = byBook.keySet().stream()
+                    .sorted(Comparator.<Integer>comparingInt(book -> byBook.get(book) ? 0 : 1)
+                            .thenComparing(book -> -this.popularity[book])
+                            .thenComparingInt(book -> book))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            List<TypeaheadSuggestion> suggestions = Arrays.stream(ranked)
+                    .limit(limit)
+                    .mapToObj(book -> {
+                        String name = CanonicalBook.ofOrdinal(book).getDisplayName();
+                        return new TypeaheadSuggestion(name, name, null);
+                    })
+                    .toList();
+            prefixes.put(prefix, new BookPrefix(ranked, suggestions));
+        });
+        this.bookPrefixes = Map.copyOf(prefixes);
+    }
+
+    private Map<String, List<TypeaheadSuggestion>> buildChapterPrefixes(CanonicalBook book) {
+        Map<String, List<TypeaheadSuggestion>> byPrefix = new HashMap<>();
+        int firstChapter = corpus.firstChapterIndex(book.ordinal());
+        int endChapter = firstChapter + corpus.chapterCount(book.ordinal());
+        for (int chapterIndex = firstChapter; chapterIndex < endChapter; chapterIndex++) {
+            int chapter = corpus.chapterNumber(chapterIndex);
+            TypeaheadSuggestion suggestion = new TypeaheadSuggestion(book.getDisplayName() + " " + chapter,
+                    book.getDisplayName(), chapter);
+            String digits = Integer.toString(chapter);
+            for (int length = 1; length <= digits.length(); length++) {
+                List<TypeaheadSuggestion> list = byPrefix.computeIfAbsent(digits.substring(0, length),
+                        prefix -> new ArrayList<>());
+                if (list.size() < limit) {
+                    list.add(suggestion);
+                }
+            }
+        }
+        Map<String, List<TypeaheadSuggestion>> frozen = new HashMap<>();
+        byPrefix.forEach((prefix, list) -> frozen.put(prefix, List.copyOf(list)));
+        return Map.copyOf(frozen);
+    }
+
+    BibleCorpus corpus() {
+        return corpus;
+    }
+
+    long[] popularity() {
+        return popularity;
+    }
+
+    /**
+     * Suggestions for a raw query such as "1 jo", "ps 2" or "John 3:16" (the verse part is ignored).
+     */
+    List<TypeaheadSuggestion> suggest(String query) {
+        if (query == null || query.length() > MAX_QUERY_LENGTH) {
+            return List.of();
+        }
+        int end = query.indexOf(':');
+        if (end < 0) {
+            end = query.length();
+        }
+        while (end > 0 && Character.isWhitespace(query.charAt(end - 1))) {
+            end--;
+        }
+
+        // Trailing digits after a book name are a chapter prefix; a bare number starts a book like "1 John"
+        int digitsStart = end;
+        while (digitsStart > 0 && Character.isDigit(query.charAt(digitsStart - 1))) {
+            digitsStart--;
+        }
+        boolean hasChapter = digitsStart < end && containsLetter(query, digitsStart);
+        String bookPart = hasChapter ? query.substring(0, digitsStart) : query.substring(0, end);
+
+        BookPrefix books = bookPrefixes.get(BookNameIndex.normalize(bookPart));
+        if (books == null) {
+            return List.of();
+        }
+        if (!hasChapter) {
+            return books.suggestions();
+        }
+
+        String chapter = stripLeadingZeros(query.substring(digitsStart, end));
+        if (books.ranked().length == 1) {
+            return chapterPrefixes[books.ranked()[0]].getOrDefault(chapter, List.of());
+        }
+        List<TypeaheadSuggestion> merged = new ArrayList<>(limit);
+        for (int book : books.ranked()) {
+            for (TypeaheadSuggestion suggestion : chapterPrefixes[book].getOrDefault(chapter, List.of())) {
+                if (merged.size() == limit) {
+                    return merged;
+                }
+                merged.add(suggestion);
+            }
+        }
+        return merged;
+    }
+
+    private static boolean containsLetter(String query, int end) {
+        for (int i = 0; i < end; i++) {
+            if (Character.isLetter(query.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripLeadingZeros(String digits) {
+        int start = 0;
+        while (start < digits.length() - 1 && digits.charAt(start) == '0') {
+            start++;
+        }
+        return digits.substring(start);
+    }
+
+    /**
+     * Books matching one key prefix in rank order, and the suggestions for the first {@code limit} of them
+     */
+    private record BookPrefix(int[] ranked, List<TypeaheadSuggestion> suggestions) {
+    }
+}
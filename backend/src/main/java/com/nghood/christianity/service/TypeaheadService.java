@@ -0,0 +1,90 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.TypeaheadSuggestion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * As-you-type suggestions for book names and "Book chapter" references.
+ *
+ * Answers come from an immutable {@link TypeaheadIndex} built per corpus. Books are ranked by popularity, counted
+ * from chapter reads and verse game draws; the index is rebuilt on a schedule when those counts have changed, so
+ * requests never wait for a rebuild or contend on a lock.
+ */
+@Service
+@Slf4j
+public class TypeaheadService {
+
+    public static final int MAX_SUGGESTIONS = 8;
+
+    private final BibleDataService bibleDataService;
+    private final BibleGameService bibleGameService;
+    private final LongAdder[] chapterReads = new LongAdder[CanonicalBook.count()];
+    private volatile TypeaheadIndex index;
+
+    public TypeaheadService(BibleDataService bibleDataService, BibleGameService bibleGameService) {
+        this.bibleDataService = bibleDataService;
+        this.bibleGameService = bibleGameService;
+        for (int i = 0; i < chapterReads.length; i++) {
+            chapterReads[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Up to {@link #MAX_SUGGESTIONS} completions for a partial book name or reference. The returned list is
+     * shared and must not be modified.
+     */
+    public List<TypeaheadSuggestion> suggest(String query) {
+        return getIndex().suggest(query);
+    }
+
+    /**
+     * Count a chapter read towards the book's popularity
+     */
+    public void recordChapterRead(String book) {
+        int ordinal = bibleDataService.getBookOrdinal(book);
+        if (ordinal >= 0) {
+            chapterReads[ordinal].increment();
+        }
+    }
+
+    /**
+     * Rebuild the index when the corpus was reloaded or popularity has changed since the last build
+     */
+    @Scheduled(fixedDelayString = "${app.typeahead.rebuild-interval-ms:300000}")
+    public void refresh() {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        long[] popularity = popularity();
+        TypeaheadIndex current = index;
+        if (current == null || current.corpus() != corpus || !Arrays.equals(current.popularity(), popularity)) {
+            index = new TypeaheadIndex(corpus, popularity, MAX_SUGGESTIONS);
+            log.debug("Rebuilt typeahead index");
+        }
+    }
+
+    private TypeaheadIndex getIndex() {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        TypeaheadIndex current = index;
+        if (current == null || current.corpus() != corpus) {
+            current = new TypeaheadIndex(corpus, popularity(), MAX_SUGGESTIONS);
+            index = current;
+        }
+        return current;
+    }
+
+    private long[] popularity() {
+        long[] popularity = new long[CanonicalBook.count()];
+        for (CanonicalBook book : CanonicalBook.values()) {
+            popularity[book.ordinal()] = chapterReads[book.ordinal()].sum() + bibleGameService.getDrawCount(book);
+        }
+        return popularity;
+    }
+}
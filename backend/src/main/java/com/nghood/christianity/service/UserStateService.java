@@ -0,0 +1,277 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.entity.User;
+import com.nghood.christianity.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-user state kept in {@code users.data}, with a bounded read cache and write-behind updates.
+ *
+ * Writes change the cached document (if any) and are recorded as a pending patch per user; repeated
+ * writes to the same key collapse into one. A scheduled flush sends all pending patches in one batch as
+ * jsonb {@code ||} merges (and key removals), so a progress update never rewrites the whole row.
+ * Pending patches live apart from the cache, so evicting a document never drops a write. The batch being
+ * flushed stays visible to cache misses until it is committed, and a document loaded while a flush ended is
+ * reloaded rather than cached, since the row it read may not contain that batch yet. When too many users have
+ * pending writes, a flush is handed to the scheduler rather than run by the writer, so callers never wait on
+ * the database.
+ */
+@Service
+@Slf4j
+public class UserStateService {
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final int maxCachedUsers;
+    private final int maxPendingUsers;
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final Object lock = new Object();
+    private final Object flushLock = new Object();
+    private final LinkedHashMap<String, Map<String, Object>> documents;
+    private Map<String, PendingPatch> pending = new HashMap<>();
+    // The batch a running flush is writing, and how many flushes have ended; both guarded by lock
+    private Map<String, PendingPatch> inFlight = Map.of();
+    private long completedFlushes;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public UserStateService(UserRepository userRepository,
+                            ObjectMapper objectMapper,
+                            TaskScheduler taskScheduler,
+                            @Value("${app.user-state.max-cached-users:10000}") int maxCachedUsers,
+                            @Value("${app.user-state.max-pending-users:500}") int maxPendingUsers) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.maxCachedUsers = maxCachedUsers;
+        this.maxPendingUsers = maxPendingUsers;
+        this.documents = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                return size() > UserStateService.this.maxCachedUsers;
+            }
+        };
+    }
+
+    /**
+     * The user's document including writes not yet flushed; empty for unknown users. Treat as read-only.
+     */
+    public Map<String, Object> getData(String userId) {
+        requireUserId(userId);
+        long flushesBefore;
+        synchronized (lock) {
+            Map<String, Object> cached = documents.get(userId);
+            if (cached != null) {
+                return Collections.unmodifiableMap(new LinkedHashMap<>(cached));
+            }
+            flushesBefore = completedFlushes;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            Map<String, Object> loaded = userRepository.findById(userId)
+                    .map(User::getData)
+                    .map(LinkedHashMap::new)
+                    .orElseGet(LinkedHashMap::new);
+            synchronized (lock) {
+                Map<String, Object> cached = documents.get(userId);
+                if (cached != null) {
+                    return Collections.unmodifiableMap(new LinkedHashMap<>(cached));
+                }
+                // Writes being flushed and writes that arrived while loading (or before) go on top, in that order
+                applyPatch(inFlight.get(userId), loaded);
+                applyPatch(pending.get(userId), loaded);
+                // A flush that ended during the load took its batch out of view, and the row read may predate it
+                boolean consistent = completedFlushes == flushesBefore;
+                if (consistent) {
+                    documents.put(userId, loaded);
+                }
+                if (consistent || attempt == MAX_LOAD_ATTEMPTS) {
+                    return Collections.unmodifiableMap(new LinkedHashMap<>(loaded));
+                }
+                flushesBefore = completedFlushes;
+            }
+        }
+    }
+
+    public Object get(String userId, String key) {
+        return getData(userId).get(key);
+    }
+
+    public void put(String userId, String key, Object value) {
+        putAll(userId, Map.of(key, value));
+    }
+
+    /**
+     * Set top-level keys; the database sees them on the next flush, reads through this service immediately.
+     */
+    public void putAll(String userId, Map<String, ?> values) {
+        requireUserId(userId);
+        boolean flushNow;
+        synchronized (lock) {
+            PendingPatch patch = pending.computeIfAbsent(userId, id -> new PendingPatch());
+            Map<String, Object> cached = documents.get(userId);
+            values.forEach((key, value) -> {
+                patch.set(key, value);
+                if (cached != null) {
+                    cached.put(key, value);
+                }
+            });
+            flushNow = pending.size() >= maxPendingUsers;
+        }
+        if (flushNow) {
+            requestFlush();
+        }
+    }
+
+    public void remove(String userId, String key) {
+        requireUserId(userId);
+        synchronized (lock) {
+            pending.computeIfAbsent(userId, id -> new PendingPatch()).remove(key);
+            Map<String, Object> cached = documents.get(userId);
+            if (cached != null) {
+                cached.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Write every pending patch to the database. Returns the number of users written.
+     */
+    @Scheduled(fixedDelayString = "${app.user-state.flush-interval-ms:2000}")
+    public int flush() {
+        synchronized (flushLock) {
+            Map<String, PendingPatch> batch;
+            synchronized (lock) {
+                if (pending.isEmpty()) {
+                    return 0;
+                }
+                batch = pending;
+                pending = new HashMap<>();
+                inFlight = batch;
+            }
+
+            try {
+                Map<String, String> merges = new HashMap<>();
+                for (Map.Entry<String, PendingPatch> entry : batch.entrySet()) {
+                    if (!entry.getValue().set.isEmpty()) {
+                        merges.put(entry.getKey(), objectMapper.writeValueAsString(entry.getValue().set));
+                    }
+                }
+                userRepository.mergeData(merges);
+                for (Map.Entry<String, PendingPatch> entry : batch.entrySet()) {
+                    userRepository.removeDataKeys(entry.getKey(), entry.getValue().removed);
+                }
+                endFlush(null);
+                log.debug("Flushed user state for {} users", batch.size());
+                return batch.size();
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.error("Could not flush user state for {} users, will retry", batch.size(), e);
+                endFlush(batch);
+                return 0;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Run a flush on the scheduler soon, at most one request at a time; a rejected request is left to the next
+     * scheduled flush.
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskScheduler.schedule(() -> {
+                flushRequested.set(false);
+                flush();
+            }, Instant.now());
+        } catch (RejectedExecutionException e) {
+            flushRequested.set(false);
+            log.debug("Could not schedule an early user state flush", e);
+        }
+    }
+
+    /**
+     * Take the written batch out of view; a failed batch goes back underneath any writes that arrived since, so
+     * newer values still win.
+     */
+    private void endFlush(Map<String, PendingPatch> failed) {
+        synchronized (lock) {
+            if (failed != null) {
+                failed.forEach((userId, older) -> {
+                    PendingPatch newer = pending.get(userId);
+                    if (newer != null) {
+                        older.overlay(newer);
+                    }
+                    pending.put(userId, older);
+                });
+            }
+            inFlight = Map.of();
+            completedFlushes++;
+        }
+    }
+
+    private static void applyPatch(PendingPatch patch, Map<String, Object> document) {
+        if (patch != null) {
+            patch.applyTo(document);
+        }
+    }
+
+    private static void requireUserId(String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User id must not be empty");
+        }
+    }
+
+    /**
+     * Coalesced changes for one user: the latest value per set key and the keys to delete.
+     */
+    private static final class PendingPatch {
+        private final Map<String, Object> set = new LinkedHashMap<>();
+        private final Set<String> removed = new LinkedHashSet<>();
+
+        void set(String key, Object value) {
+            set.put(key, value);
+            removed.remove(key);
+        }
+
+        void remove(String key) {
+            set.remove(key);
+            removed.add(key);
+        }
+
+        void applyTo(Map<String, Object> document) {
+            document.putAll(set);
+            removed.forEach(document::remove);
+        }
+
+        void overlay(PendingPatch newer) {
+            newer.set.forEach(this::set);
+            newer.removed.forEach(this::remove);
+        }
+    }
+}
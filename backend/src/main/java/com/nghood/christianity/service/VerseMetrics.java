@@ -0,0 +1,203 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.NumerologyMetric;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Numerology metrics of every verse of one corpus, kept only as prefix sums over verse ordinals so the total of
+ * any verse range is one subtraction.
+ *
+ * Per-verse values are computed in parallel over the verses and the prefix sums with
+ * {@link Arrays#parallelPrefix(long[], java.util.function.LongBinaryOperator)}. English gematria and verse counts
+ * are derived from the stored sums. Sliding-window searches split the window start positions into fork/join
+ * tasks; each task counts its matches and keeps the first few, and results are merged in canonical order.
+ */
+final class VerseMetrics {
+
+    private static final int ENGLISH_GEMATRIA_FACTOR = 6;
+    private static final int SEARCH_LEAF_SIZE = 16_384;
+
+    private final BibleCorpus corpus;
+    private final long[] simpleGematria; // prefix sums, length verseCount + 1
+    private final long[] ascii;
+    private final long[] letters;
+    private final long[] words;
+
+    VerseMetrics(BibleCorpus corpus) {
+        this.corpus = corpus;
+        int verses = corpus.verseCount();
+        simpleGematria = new long[verses + 1];
+        ascii = new long[verses + 1];
+        letters = new long[verses + 1];
+        words = new long[verses + 1];
+        IntStream.range(0, verses).parallel().forEach(ordinal -> {
+            String text = corpus.verseText(ordinal);
+            simpleGematria[ordinal + 1] = measure(NumerologyMetric.SIMPLE_GEMATRIA, text);
+            ascii[ordinal + 1] = measure(NumerologyMetric.ASCII, text);
+            letters[ordinal + 1] = measure(NumerologyMetric.LETTERS, text);
+            words[ordinal + 1] = corpus.verseWordCount(ordinal);
+        });
+        Arrays.parallelPrefix(simpleGematria, Long::sum);
+        Arrays.parallelPrefix(ascii, Long::sum);
+        Arrays.parallelPrefix(letters, Long::sum);
+        Arrays.parallelPrefix(words, Long::sum);
+    }
+
+    BibleCorpus corpus() {
+        return corpus;
+    }
+
+    /**
+     * Total of a metric over the verse ordinals {@code [from, to)}.
+     */
+    long sum(NumerologyMetric metric, int from, int to) {
+        return switch (metric) {
+            case SIMPLE_GEMATRIA -> simpleGematria[to] - simpleGematria[from];
+            case ENGLISH_GEMATRIA -> ENGLISH_GEMATRIA_FACTOR * (simpleGematria[to] - simpleGematria[from]);
+            case ASCII -> ascii[to] - ascii[from];
+            case LETTERS -> letters[to] - letters[from];
+            case WORDS -> words[to] - words[from];
+            case VERSES -> to - from;
+        };
+    }
+
+    /**
+     * Value of a metric for free text, counted the same way as for verses (words as split by
+     * {@link VerseTokenizer}).
+     */
+    static long measure(NumerologyMetric metric, String text) {
+        if (metric == NumerologyMetric.WORDS) {
+            return VerseTokenizer.tokenize(text).size();
+        }
+        if (metric == NumerologyMetric.VERSES) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            total += switch (metric) {
+                case ASCII -> c;
+                case LETTERS -> letterValue(c) > 0 ? 1 : 0;
+                default -> letterValue(c);
+            };
+        }
+        return metric == NumerologyMetric.ENGLISH_GEMATRIA ? ENGLISH_GEMATRIA_FACTOR * total : total;
+    }
+
+    /**
+     * Test every window of {@code window} consecutive verses lying inside one of the segments
+     * {@code [segmentFrom[k], segmentTo[k])} against {@code matches}.
+     */
+    SearchResult search(NumerologyMetric metric, int window, int[] segmentFrom, int[] segmentTo,
+                        LongPredicate matches, int limit) {
+        // Window starts of all segments, numbered consecutively: segment k owns [offsets[k], offsets[k + 1])
+        long[] offsets = new long[segmentFrom.length + 1];
+        for (int k = 0; k < segmentFrom.length; k++) {
+            offsets[k + 1] = offsets[k] + Math.max(0, segmentTo[k] - segmentFrom[k] - window + 1);
+        }
+        long windows = offsets[segmentFrom.length];
+        if (windows == 0) {
+            return new SearchResult(0, 0, new int[0]);
+        }
+        WindowTask task = new WindowTask(metric, window, segmentFrom, offsets, matches, limit, 0, windows);
+        return ForkJoinPool.commonPool().invoke(task);
+    }
+
+    private static int letterValue(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 1;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Match count over {@code windows} tested windows and the start ordinals of the first matches.
+     */
+    record SearchResult(long windows, long count, int[] firstStarts) {
+    }
+
+    private final class WindowTask extends RecursiveTask<SearchResult> {
+        private final NumerologyMetric metric;
+        private final int window;
+        private final int[] segmentFrom;
+        private final long[] offsets;
+        private final LongPredicate matches;
+        private final int limit;
+        private final long from;
+        private final long to;
+
+        private WindowTask(NumerologyMetric metric, int window, int[] segmentFrom, long[] offsets,
+                           LongPredicate matches, int limit, long from, long to) {
+            this.metric = metric;
+            this.window = window;
+            this.segmentFrom = segmentFrom;
+            this.offsets = offsets;
+            this.matches = matches;
+            this.limit = limit;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SearchResult compute() {
+            if (to - from > SEARCH_LEAF_SIZE) {
+                long middle = (from + to) >>> 1;
+                WindowTask left = new WindowTask(metric, window, segmentFrom, offsets, matches, limit, from, middle);
+                WindowTask right = new WindowTask(metric, window, segmentFrom, offsets, matches, limit, middle, to);
+                left.fork();
+                SearchResult rightResult = right.compute();
+                SearchResult leftResult = left.join();
+                return merge(leftResult, rightResult);
+            }
+
+            int segment = segmentOf(from);
+            int[] firstStarts = new int[Math.min(limit, (int) (to - from))];
+            int kept = 0;
+            long count = 0;
+            for (long position = from; position < to; position++) {
+                while (position >= offsets[segment + 1]) {
+                    segment++;
+                }
+                int start = segmentFrom[segment] + (int) (position - offsets[segment]);
+                if (matches.test(sum(metric, start, start + window))) {
+                    if (kept < firstStarts.length) {
+                        firstStarts[kept++] = start;
+                    }
+                    count++;
+                }
+            }
+            return new SearchResult(to - from, count, Arrays.copyOf(firstStarts, kept));
+        }
+
+        private int segmentOf(long position) {
+            int low = 0;
+            int high = offsets.length - 2;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (offsets[mid] <= position) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        private SearchResult merge(SearchResult left, SearchResult right) {
+            int kept = Math.min(limit, left.firstStarts().length + right.firstStarts().length);
+            int[] firstStarts = Arrays.copyOf(left.firstStarts(), kept);
+            System.arraycopy(right.firstStarts(), 0, firstStarts, left.firstStarts().length,
+                    kept - left.firstStarts().length);
+            return new SearchResult(left.windows() + right.windows(), left.count() + right.count(), firstStarts);
+        }
+    }
+}
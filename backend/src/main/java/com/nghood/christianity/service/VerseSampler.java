@@ -0,0 +1,144 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.SamplingMode;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Precomputed random-verse sampler over a {@link BibleCorpus}.
+ *
+ * Per-book word alias tables are built once; per-selection book tables are built on first use and cached.
+ * Every draw is O(1) regardless of how many books are selected and allocates nothing. Callers supply the
+ * random generator, so request threads can use {@link java.util.concurrent.ThreadLocalRandom} without
+ * contending on a shared instance.
+ */
+public final class VerseSampler {
+
+    private static final int MAX_CACHED_SELECTIONS = 1024;
+
+    private final BibleCorpus corpus;
+    // Per book: alias table over the book's verses weighted by word count, indexed from the book's first verse
+    private final AliasTable[] versesByWords;
+    private final long[] bookWordCount;
+    private final Map<BitSet, Selection> selections = new ConcurrentHashMap<>();
+
+    public VerseSampler(BibleCorpus corpus) {
+        this.corpus = corpus;
+        this.versesByWords = new AliasTable[corpus.bookCount()];
+        this.bookWordCount = new long[corpus.bookCount()];
+        for (int book = 0; book < corpus.bookCount(); book++) {
+            if (!corpus.hasBook(book)) {
+                continue;
+            }
+            int first = corpus.firstBookVerseOrdinal(book);
+            double[] weights = new double[corpus.bookVerseCount(book)];
+            for (int i = 0; i < weights.length; i++) {
+                int words = corpus.verseWordCount(first + i);
+                weights[i] = words;
+                bookWordCount[book] += words;
+            }
+            versesByWords[book] = new AliasTable(weights);
+        }
+    }
+
+    public BibleCorpus getCorpus() {
+        return corpus;
+    }
+
+    /**
+     * Resolve a set of book ordinals to a cached selection. Books that are not loaded are ignored.
+     *
+     * @throws IllegalArgumentException if none of the books are loaded
+     */
+    public Selection select(BitSet books) {
+        Selection cached = selections.get(books);
+        if (cached != null) {
+            return cached;
+        }
+        BitSet key = (BitSet) books.clone();
+        key.clear(corpus.bookCount(), Math.max(corpus.bookCount(), key.length()));
+        for (int book = key.nextSetBit(0); book >= 0; book = key.nextSetBit(book + 1)) {
+            if (!corpus.hasBook(book)) {
+                key.clear(book);
+            }
+        }
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("None of the selected books are available");
+        }
+        if (selections.size() >= MAX_CACHED_SELECTIONS) {
+            selections.clear();
+        }
+        return selections.computeIfAbsent(key, this::createSelection);
+    }
+
+    private Selection createSelection(BitSet key) {
+        int[] books = key.stream().toArray();
+        double[] verseWeights = new double[books.length];
+        double[] wordWeights = new double[books.length];
+        int verseCount = 0;
+        for (int i = 0; i < books.length; i++) {
+            verseWeights[i] = corpus.bookVerseCount(books[i]);
+            wordWeights[i] = bookWordCount[books[i]];
+            verseCount += corpus.bookVerseCount(books[i]);
+        }
+        return new Selection(books, verseCount, new AliasTable(verseWeights), new AliasTable(wordWeights));
+    }
+
+    /**
+     * Draw a verse ordinal from the selection.
+     */
+    public int draw(Selection selection, SamplingMode mode, RandomGenerator random) {
+        switch (mode) {
+            case VERSE -> {
+                int book = selection.books[selection.byVerses.sample(random)];
+                return corpus.firstBookVerseOrdinal(book) + random.nextInt(corpus.bookVerseCount(book));
+            }
+            case WORD -> {
+                int book = selection.books[selection.byWords.sample(random)];
+                return corpus.firstBookVerseOrdinal(book) + versesByWords[book].sample(random);
+            }
+            default -> {
+                // Book -> Chapter -> Verse, each uniform
+                int book = selection.books[random.nextInt(selection.books.length)];
+                int chapterIndex = corpus.firstChapterIndex(book) + random.nextInt(corpus.chapterCount(book));
+                return corpus.firstVerseOrdinal(chapterIndex) + random.nextInt(corpus.chapterVerseCount(chapterIndex));
+            }
+        }
+    }
+
+    /**
+     * A resolved set of loaded books with its precomputed weighting tables.
+     */
+    public static final class Selection {
+        private final int[] books;
+        private final int verseCount;
+        private final AliasTable byVerses;
+        private final AliasTable byWords;
+
+        private Selection(int[] books, int verseCount, AliasTable byVerses, AliasTable byWords) {
+            this.books = books;
+            this.verseCount = verseCount;
+            this.byVerses = byVerses;
+            this.byWords = byWords;
+        }
+
+        public int bookCount() {
+            return books.length;
+        }
+
+        /**
+         * Book ordinal of the {@code index}-th selected book, in canonical order.
+         */
+        public int book(int index) {
+            return books[index];
+        }
+
+        public int verseCount() {
+            return verseCount;
+        }
+    }
+}
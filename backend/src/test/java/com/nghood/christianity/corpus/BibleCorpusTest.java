@@ -0,0 +1,89 @@
+package com.nghood.christianity.corpus;
+
+import com.nghood.christianity.model.CanonicalBook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibleCorpusTest {
+
+    private BibleCorpus corpus;
+
+    @BeforeEach
+    void setUp() {
+        corpus = BibleCorpus.builder()
+                .addVerse(CanonicalBook.GENESIS, 1, 1, "In the beginning, God created the heavens and the earth.")
+                .addVerse(CanonicalBook.GENESIS, 1, 3, "God said, “Let there be light,” and there was light.")
+                .addVerse(CanonicalBook.GENESIS, 3, 1, "Now the serpent was more subtle than any animal of the field.")
+                .addVerse(CanonicalBook.JOHN, 11, 35, "Jesus wept.")
+                .build();
+    }
+
+    @Test
+    void verseOrdinal_shouldResolveExistingVersesAndRejectGaps() {
+        int genesis = CanonicalBook.GENESIS.ordinal();
+
+        assertEquals(0, corpus.verseOrdinal(genesis, 1, 1));
+        assertEquals(1, corpus.verseOrdinal(genesis, 1, 3));
+        assertEquals(-1, corpus.verseOrdinal(genesis, 1, 2), "Gap inside a chapter");
+        assertEquals(-1, corpus.verseOrdinal(genesis, 2, 1), "Gap between chapters");
+        assertEquals(-1, corpus.verseOrdinal(genesis, 4, 1), "Past the last chapter");
+        assertEquals(-1, corpus.verseOrdinal(CanonicalBook.EXODUS.ordinal(), 1, 1), "Book not loaded");
+        assertEquals(-1, corpus.verseOrdinal(-1, 1, 1), "Unknown book");
+    }
+
+    @Test
+    void verseText_shouldRoundTripUtf8() {
+        int ordinal = corpus.verseOrdinal(CanonicalBook.GENESIS.ordinal(), 1, 3);
+
+        assertEquals("God said, “Let there be light,” and there was light.", corpus.verseText(ordinal));
+        assertEquals("Jesus wept.", corpus.verseText(corpus.verseOrdinal(CanonicalBook.JOHN.ordinal(), 11, 35)));
+    }
+
+    @Test
+    void chapters_shouldBeContiguousPerBook() {
+        int genesis = CanonicalBook.GENESIS.ordinal();
+
+        assertTrue(corpus.hasBook(genesis));
+        assertFalse(corpus.hasBook(CanonicalBook.EXODUS.ordinal()));
+        assertEquals(2, corpus.chapterCount(genesis));
+        int firstChapter = corpus.firstChapterIndex(genesis);
+        assertEquals(1, corpus.chapterNumber(firstChapter));
+        assertEquals(3, corpus.chapterNumber(firstChapter + 1));
+        assertEquals(2, corpus.chapterVerseCount(firstChapter));
+        assertEquals(4, corpus.verseCount());
+    }
+
+    @Test
+    void paragraphs_shouldGroupVersesAndKeepVerseParts() {
+        BibleCorpus structured = BibleCorpus.builder()
+                .addVerse(CanonicalBook.PSALMS, 23, 1, "Yahweh is my shepherd:")
+                .addVerse(CanonicalBook.PSALMS, 23, 1, "I shall lack nothing.")
+                .addVerse(CanonicalBook.PSALMS, 23, 2, "He makes me lie down in green pastures.")
+                .startParagraph(CanonicalBook.PSALMS, 23, 2, true)
+                .addVerse(CanonicalBook.JOHN, 11, 35, "Jesus wept.")
+                .addVerse(CanonicalBook.JOHN, 11, 36, "The Jews therefore said,")
+                .startParagraph(CanonicalBook.JOHN, 11, 36, false)
+                .build();
+
+        // Every book starts a paragraph even when no marker was given
+        assertEquals(4, structured.paragraphCount());
+        assertEquals(0, structured.paragraphIndex(0));
+        assertEquals(1, structured.paragraphIndex(1));
+        assertTrue(structured.isPoetry(1));
+        assertEquals(2, structured.paragraphIndex(2));
+        assertFalse(structured.isPoetry(2));
+        assertEquals(3, structured.paragraphFirstVerseOrdinal(3));
+        assertEquals(4, structured.paragraphEndVerseOrdinal(3));
+
+        assertEquals("Yahweh is my shepherd: I shall lack nothing.", structured.verseText(0));
+        assertEquals(2, structured.versePartCount(0));
+        assertEquals("Yahweh is my shepherd:", structured.versePart(0, 0));
+        assertEquals("I shall lack nothing.", structured.versePart(0, 1));
+        assertEquals(1, structured.versePartCount(1));
+        assertEquals("He makes me lie down in green pastures.", structured.versePart(1, 0));
+    }
+}
@@ -0,0 +1,51 @@
+package com.nghood.christianity.corpus;
+
+import com.nghood.christianity.model.CanonicalBook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CorpusSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final BibleCorpus corpus = BibleCorpus.builder()
+            .addVerse(CanonicalBook.GENESIS, 1, 1, "In the beginning, God created the heavens and the earth.")
+            .addVerse(CanonicalBook.PSALMS, 23, 1, "Yahweh is my shepherd; I shall lack nothing.")
+            .addVerse(CanonicalBook.JOHN, 11, 35, "Jesus wept.")
+            .build();
+
+    @Test
+    void map_shouldRoundTripWrittenSnapshot() throws IOException {
+        Path file = tempDir.resolve("bible.snapshot");
+        CorpusSnapshot.write(corpus, file);
+
+        BibleCorpus mapped = CorpusSnapshot.map(file);
+
+        assertTrue(mapped.isTextMapped());
+        assertEquals(corpus.verseCount(), mapped.verseCount());
+        int ordinal = mapped.verseOrdinal(CanonicalBook.PSALMS.ordinal(), 23, 1);
+        assertEquals("Yahweh is my shepherd; I shall lack nothing.", mapped.verseText(ordinal));
+        assertEquals(-1, mapped.verseOrdinal(CanonicalBook.PSALMS.ordinal(), 23, 2));
+    }
+
+    @Test
+    void map_shouldRejectCorruptedSnapshot() throws IOException {
+        Path file = tempDir.resolve("bible.snapshot");
+        CorpusSnapshot.write(corpus, file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(file, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> CorpusSnapshot.map(file));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.nghood.christianity.corpus;
+
+import com.nghood.christianity.model.CanonicalBook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonCorpusLoaderTest {
+
+    @TempDir
+    Path dataPath;
+
+    @Test
+    void load_shouldAssembleBooksInCanonicalOrder() throws Exception {
+        // Written in reverse so the order cannot come from the file system or the first finished parse
+        writeBook(CanonicalBook.REVELATION, verse("paragraph text", 1, 1, 1, "The Revelation of Jesus Christ"));
+        writeBook(CanonicalBook.JOHN, verse("paragraph text", 11, 35, 1, "Jesus wept."));
+        writeBook(CanonicalBook.GENESIS, verse("paragraph text", 1, 1, 1, "In the beginning"));
+
+        BibleCorpus corpus = new JsonCorpusLoader(3, dataPath).load();
+
+        assertEquals(3, corpus.verseCount());
+        assertEquals(CanonicalBook.GENESIS.ordinal(), corpus.verseBook(0));
+        assertEquals(CanonicalBook.JOHN.ordinal(), corpus.verseBook(1));
+        assertEquals(CanonicalBook.REVELATION.ordinal(), corpus.verseBook(2));
+        assertFalse(corpus.hasBook(CanonicalBook.EXODUS.ordinal()));
+    }
+
+    @Test
+    void load_shouldMergeVerseSectionsIntoParts() throws Exception {
+        writeBook(CanonicalBook.PSALMS,
+                "{\"type\": \"stanza start\"}",
+                verse("line text", 23, 1, 1, "Yahweh is my shepherd:"),
+                verse("line text", 23, 1, 2, "I shall lack nothing."),
+                "{\"type\": \"paragraph start\"}",
+                verse("line text", 23, 2, 1, "He makes me lie down in green pastures."),
+                verse("line text", 23, 3, 1, " "));
+
+        BibleCorpus corpus = new JsonCorpusLoader(1, dataPath).load();
+
+        assertEquals(2, corpus.verseCount(), "Blank records carry no verse");
+        assertEquals("Yahweh is my shepherd: I shall lack nothing.", corpus.verseText(0));
+        assertEquals(2, corpus.versePartCount(0));
+        assertEquals("I shall lack nothing.", corpus.versePart(0, 1));
+        assertEquals(2, corpus.paragraphCount());
+        assertTrue(corpus.isPoetry(corpus.paragraphIndex(0)));
+        assertFalse(corpus.isPoetry(corpus.paragraphIndex(1)));
+    }
+
+    @Test
+    void load_shouldNotDependOnParallelism() {
+        BibleCorpus sequential = new JsonCorpusLoader(1).load();
+        BibleCorpus parallel = new JsonCorpusLoader(8).load();
+
+        assertEquals(sequential.verseCount(), parallel.verseCount());
+        assertEquals(sequential.paragraphCount(), parallel.paragraphCount());
+        for (int ordinal = 0; ordinal < sequential.verseCount(); ordinal++) {
+            assertEquals(sequential.verseChapterIndex(ordinal), parallel.verseChapterIndex(ordinal));
+            assertEquals(sequential.verseNumber(ordinal), parallel.verseNumber(ordinal));
+            assertEquals(sequential.versePartCount(ordinal), parallel.versePartCount(ordinal));
+            assertEquals(sequential.verseText(ordinal), parallel.verseText(ordinal));
+            assertEquals(sequential.paragraphIndex(ordinal), parallel.paragraphIndex(ordinal));
+        }
+    }
+
+    private void writeBook(CanonicalBook book, String... items) throws Exception {
+        Files.writeString(dataPath.resolve(book.getFileName() + ".json"), "[" + String.join(",", items) + "]");
+    }
+
+    private static String verse(String type, int chapter, int verse, int section, String value) {
+        return String.format("{\"type\": \"%s\", \"chapterNumber\": %d, \"verseNumber\": %d, "
+                + "\"sectionNumber\": %d, \"value\": \"%s\"}", type, chapter, verse, section, value);
+    }
+}
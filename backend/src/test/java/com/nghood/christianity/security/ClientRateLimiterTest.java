@@ -0,0 +1,88 @@
+package com.nghood.christianity.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void acquire_shouldAllowBurstThenRefillAtRate() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1024, 60_000, clock::get);
+        ClientRateLimiter.Limit limit = new ClientRateLimiter.Limit(2, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.acquire("10.0.0.1", limit));
+        }
+        assertEquals(500, limiter.acquire("10.0.0.1", limit));
+        assertEquals(0, limiter.acquire("10.0.0.2", limit));
+
+        clock.addAndGet(499);
+        assertTrue(limiter.acquire("10.0.0.1", limit) > 0);
+        clock.addAndGet(1);
+        assertEquals(0, limiter.acquire("10.0.0.1", limit));
+    }
+
+    @Test
+    void acquire_shouldAccumulateSlowRatesAcrossFrequentCalls() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1024, 600_000, clock::get);
+        ClientRateLimiter.Limit limit = new ClientRateLimiter.Limit(1.0 / 60, 1);
+
+        assertEquals(0, limiter.acquire("client", limit));
+        for (int second = 1; second < 60; second++) {
+            clock.addAndGet(1_000);
+            assertTrue(limiter.acquire("client", limit) > 0, "second " + second);
+        }
+        clock.addAndGet(1_000);
+        assertEquals(0, limiter.acquire("client", limit));
+    }
+
+    @Test
+    void acquire_shouldStayBoundedWhenManyClientsCall() {
+        ClientRateLimiter limiter = new ClientRateLimiter(64, 60_000, clock::get);
+        ClientRateLimiter.Limit limit = new ClientRateLimiter.Limit(1, 1);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(0, limiter.acquire("10.1." + (i / 256) + "." + (i % 256), limit));
+        }
+        assertEquals(64, limiter.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter.Limit(1, 0));
+    }
+
+    @Test
+    void acquire_shouldNeverAdmitMoreThanTheBurstConcurrently() throws Exception {
+        ClientRateLimiter limiter = new ClientRateLimiter(1024, 60_000, clock::get);
+        ClientRateLimiter.Limit limit = new ClientRateLimiter.Limit(1, 100);
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] tasks = new Future<?>[8];
+            for (int t = 0; t < tasks.length; t++) {
+                tasks[t] = pool.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        if (limiter.acquire("shared", limit) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            for (Future<?> task : tasks) {
+                task.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(100, admitted.get());
+    }
+}
@@ -0,0 +1,60 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.model.BibleParagraph;
+import com.nghood.christianity.model.BiblePassage;
+import com.nghood.christianity.model.BiblePassageVerse;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibleDataServiceTest {
+
+    private static BibleDataService bibleDataService;
+
+    @BeforeAll
+    static void setUp() {
+        bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+    }
+
+    @Test
+    void loadBibleData_shouldKeepPoetryAndMultiPartVerses() {
+        assertTrue(bibleDataService.getVerse("Psalms", 23, 1).startsWith("Yahweh is my shepherd"));
+
+        // 1 Chronicles 4:10 continues into a new paragraph
+        BiblePassage passage = bibleDataService.getPassage("1 Chronicles", 4, 10, 0);
+        BiblePassageVerse jabez = passage.getParagraphs().get(0).getVerses().stream()
+                .filter(verse -> verse.getVerse() == 10)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, jabez.getParts().size());
+        assertEquals("God granted him that which he requested.", jabez.getParts().get(1));
+    }
+
+    @Test
+    void getPassage_shouldReturnWholeParagraphsAroundTheVerse() {
+        BiblePassage psalm = bibleDataService.getPassage("Psalms", 23, 4, 0);
+        BiblePassage prologue = bibleDataService.getPassage("John", 1, 3, 1);
+
+        BibleParagraph stanza = psalm.getParagraphs().get(0);
+        assertTrue(stanza.isPoetry());
+        List<String> lines = stanza.getVerses().stream()
+                .filter(verse -> verse.getVerse() == 4)
+                .findFirst()
+                .orElseThrow()
+                .getParts();
+        assertTrue(lines.size() > 1);
+        assertEquals("Even though I walk through the valley of the shadow of death,", lines.get(0));
+        // The first paragraph of a book has nothing before it
+        assertEquals(2, prologue.getParagraphs().size());
+        assertEquals("John 1:1-18", prologue.getReference());
+        assertNull(bibleDataService.getPassage("John", 1, 99, 0));
+        assertThrows(IllegalArgumentException.class, () -> bibleDataService.getPassage("John", 1, 1, 6));
+    }
+}
@@ -0,0 +1,136 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.model.BibleVerse;
+import com.nghood.christianity.model.BibleVerseRange;
+import com.nghood.christianity.model.GameGuessResult;
+import com.nghood.christianity.model.SamplingMode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibleGameServiceTest {
+
+    private static BibleGameService bibleGameService;
+
+    @BeforeAll
+    static void setUp() {
+        BibleDataService bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        bibleGameService = new BibleGameService(bibleDataService, new GameSessionStore(1000, 30),
+                new SimilarVerseService(bibleDataService, new ScriptureReferenceService(bibleDataService)));
+    }
+
+    @Test
+    void getRandomVerses_shouldReturnDistinctVerses() {
+        List<BibleVerse> verses = bibleGameService.getRandomVerses(Set.of("John", "Jude"), 25, SamplingMode.BOOK, null);
+
+        assertEquals(25, verses.size());
+        assertEquals(25, verses.stream().map(BibleVerse::getReference).collect(Collectors.toSet()).size());
+    }
+
+    @Test
+    void getRandomVerses_shouldReplaySameSeed() {
+        List<BibleVerse> first = bibleGameService.getRandomVerses(Set.of("Jude", "John"), 10, SamplingMode.WORD, 1234L);
+        List<BibleVerse> second = bibleGameService.getRandomVerses(Set.of("John", "Jude"), 10, SamplingMode.WORD, 1234L);
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void getRandomVerses_shouldCapAtVersesAvailable() {
+        int judeVerses = bibleGameService.getRandomVerses(Set.of("Jude"), 100, SamplingMode.VERSE, 1L).size();
+
+        assertEquals(25, judeVerses);
+    }
+
+    @Test
+    void getRandomVerses_shouldReturnWholeSelectionInEveryMode() {
+        for (SamplingMode mode : SamplingMode.values()) {
+            for (long seed = 0; seed < 20; seed++) {
+                List<BibleVerse> verses = bibleGameService.getRandomVerses(Set.of("Jude", "Obadiah"), 46, mode, seed);
+
+                assertEquals(46, verses.stream().map(BibleVerse::getReference).distinct().count(), mode + " " + seed);
+            }
+        }
+    }
+
+    @Test
+    void getVerseRange_shouldReturnSliceWithBoundaries() {
+        BibleVerseRange range = bibleGameService.getVerseRange("John", 3, 16, 18);
+
+        assertEquals("John 3:16-18", range.getReference());
+        assertArrayEquals(new int[]{16, 17, 18}, range.getVerseNumbers());
+        assertEquals(bibleGameService.expandVerse("John", 3, 16, 16).getText(), range.getVerses()[1]);
+        assertTrue(range.isCanExpandBefore());
+        assertTrue(range.isCanExpandAfter());
+    }
+
+    @Test
+    void getVerseRange_shouldClampToChapterEnd() {
+        BibleVerseRange range = bibleGameService.getVerseRange("Jude", 1, 20, 99);
+
+        assertEquals(25, range.getToVerse());
+        assertFalse(range.isCanExpandAfter());
+    }
+
+    @Test
+    void getRandomVerses_shouldRejectInvalidCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> bibleGameService.getRandomVerses(Set.of("John"), 0, SamplingMode.BOOK, null));
+    }
+
+    @Test
+    void expandToParagraph_shouldGrowToWholeParagraphsWithinTheChapter() {
+        BibleVerseRange paragraph = bibleGameService.expandToParagraph("John", 1, 3, 3);
+        BibleVerseRange next = bibleGameService.expandToParagraph("John", 1, paragraph.getFromVerse(), paragraph.getToVerse());
+
+        assertEquals("John 1:1-9", paragraph.getReference());
+        assertEquals("John 1:1-18", next.getReference());
+        assertThrows(IllegalStateException.class, () -> bibleGameService.expandToParagraph("Jude", 1, 1, 25));
+    }
+
+    @Test
+    void expandSession_shouldRevealTheWholeChapterOnce() {
+        BibleVerse verse = bibleGameService.startSession(Set.of("Jude"), SamplingMode.VERSE);
+        Set<Integer> shown = new HashSet<>(Set.of(verse.getVerseNumber()));
+
+        for (int i = 1; i < 25; i++) {
+            BibleVerse expanded = bibleGameService.expandSession(verse.getSessionId());
+            assertTrue(shown.add(expanded.getVerseNumber()));
+            assertEquals(i < 24, expanded.isCanExpandMore());
+        }
+
+        assertThrows(IllegalStateException.class, () -> bibleGameService.expandSession(verse.getSessionId()));
+        assertNull(bibleGameService.expandSession("0123456789abcdef"));
+    }
+
+    @Test
+    void guessSession_shouldScoreOnceAndLessAfterReveals() {
+        BibleVerse verse = bibleGameService.startSession(Set.of("John"), SamplingMode.BOOK);
+        bibleGameService.expandSession(verse.getSessionId());
+        bibleGameService.expandSession(verse.getSessionId());
+
+        GameGuessResult result = bibleGameService.guessSession(verse.getSessionId(), "Jn", verse.getChapter());
+
+        assertTrue(result.isBookCorrect());
+        assertTrue(result.isChapterCorrect());
+        assertEquals(18, result.getScore());
+        assertEquals(verse.getReference(), result.getReference());
+        assertThrows(IllegalStateException.class,
+                () -> bibleGameService.guessSession(verse.getSessionId(), "John", null));
+
+        BibleVerse other = bibleGameService.startSession(Set.of("John"), SamplingMode.BOOK);
+        assertEquals(0, bibleGameService.guessSession(other.getSessionId(), "Mark", null).getScore());
+    }
+}
@@ -0,0 +1,122 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.model.QuizAnswer;
+import com.nghood.christianity.model.QuizAnswerResult;
+import com.nghood.christianity.model.QuizQuestion;
+import com.nghood.christianity.model.QuizSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibleQuizServiceTest {
+
+    private BibleQuizService bibleQuizService;
+
+    @BeforeEach
+    void setUp() {
+        bibleQuizService = new BibleQuizService(new ObjectMapper(), 3, 60);
+        bibleQuizService.loadQuestions();
+    }
+
+    @Test
+    void nextQuestion_shouldDrawEveryQuestionOnceWithoutAnswers() {
+        QuizSession session = bibleQuizService.startSession(null, null, 0);
+        Set<Integer> seen = new HashSet<>();
+
+        for (int i = 0; i < session.getTotalQuestions(); i++) {
+            QuizQuestion question = bibleQuizService.nextQuestion(session.getSessionId());
+            assertTrue(seen.add(question.getId()), "repeated question " + question.getId());
+        }
+
+        assertEquals(bibleQuizService.getQuestionCount(), seen.size());
+        assertThrows(IllegalStateException.class, () -> bibleQuizService.nextQuestion(session.getSessionId()));
+    }
+
+    @Test
+    void startSession_shouldFilterByTypeAndBook() throws Exception {
+        QuizSession single = bibleQuizService.startSession(List.of(), "single", 0);
+        for (int i = 0; i < single.getTotalQuestions(); i++) {
+            assertEquals("single", bibleQuizService.nextQuestion(single.getSessionId()).getType());
+        }
+
+        bibleQuizService.load(stream("""
+                {"questions": [
+                  {"id": 1, "type": "single", "question": "Who built the ark?", "options": ["Noah", "Moses"],
+                   "answer": ["Noah"], "books": ["Gen"]},
+                  {"id": 2, "type": "single", "question": "Who led the exodus?", "options": ["Noah", "Moses"],
+                   "answer": ["Moses"], "books": ["Exodus", "Deut"]}
+                ]}"""));
+        QuizSession exodus = bibleQuizService.startSession(List.of("Deuteronomy"), null, 0);
+        QuizQuestion question = bibleQuizService.nextQuestion(exodus.getSessionId());
+
+        assertEquals(1, exodus.getTotalQuestions());
+        assertEquals(List.of("Exodus", "Deuteronomy"), question.getBooks());
+        assertThrows(IllegalArgumentException.class, () -> bibleQuizService.startSession(List.of("Rev"), null, 0));
+    }
+
+    @Test
+    void answer_shouldGradeOnceAndOnlyDrawnQuestions() throws Exception {
+        bibleQuizService.load(stream("""
+                {"questions": [
+                  {"id": 7, "type": "multiple", "question": "Which are Gospels?", "options": ["Mark", "Acts", "John"],
+                   "answer": ["Mark", "John"], "books": []},
+                  {"id": 8, "type": "single", "question": "True?", "options": ["True", "False"],
+                   "answer": ["True"], "books": []}
+                ]}"""));
+        QuizSession session = bibleQuizService.startSession(null, "multiple", 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> bibleQuizService.answer(session.getSessionId(), new QuizAnswer(7, List.of("Mark"))));
+
+        bibleQuizService.nextQuestion(session.getSessionId());
+        QuizAnswerResult result = bibleQuizService.answer(session.getSessionId(), new QuizAnswer(7, List.of("John", "Mark")));
+
+        assertTrue(result.isCorrect());
+        assertEquals(1, result.getSession().getCorrectAnswers());
+        assertThrows(IllegalArgumentException.class,
+                () -> bibleQuizService.answer(session.getSessionId(), new QuizAnswer(7, List.of("Mark"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> bibleQuizService.answer(session.getSessionId(), new QuizAnswer(8, List.of("True"))));
+    }
+
+    @Test
+    void sessions_shouldBeBoundedAndExpire() {
+        QuizSession first = bibleQuizService.startSession(null, null, 2);
+        for (int i = 0; i < 3; i++) {
+            bibleQuizService.startSession(null, null, 2);
+        }
+
+        assertEquals(3, bibleQuizService.getSessionCount());
+        assertNull(bibleQuizService.getSession(first.getSessionId()));
+
+        bibleQuizService.expireSessions(System.currentTimeMillis() + 61 * 60_000L);
+        assertEquals(0, bibleQuizService.getSessionCount());
+    }
+
+    @Test
+    void permute_shouldBeABijection() {
+        for (int n : new int[]{1, 2, 13, 64, 1000}) {
+            boolean[] hit = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                int value = BibleQuizService.permute(i, n, 42L + n);
+                assertFalse(hit[value]);
+                hit[value] = true;
+            }
+        }
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,20 +1,44 @@
 package com.nghood.christianity.service;
 
 import com.nghood.christianity.model.BibleBook;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.ReadingDay;
+import com.nghood.christianity.model.ReadingPlan;
+import com.nghood.christianity.model.ReadingPlanPair;
+import com.nghood.christianity.model.ScriptureReference;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BibleReadingPlanServiceTest {
 
+    private static BibleDataService bibleDataService;
+
     private BibleReadingPlanService bibleReadingPlanService;
 
+    @BeforeAll
+    static void loadData() {
+        bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+    }
+
     @BeforeEach
     void setUp() {
-        bibleReadingPlanService = new BibleReadingPlanService();
+        bibleReadingPlanService = new BibleReadingPlanService(bibleDataService);
     }
 
     @Test
@@ -28,4 +52,147 @@ class BibleReadingPlanServiceTest {
         // Print all books with their type and word count
 //        orderedBooks.forEach(book -> System.out.println(book.getName() + " (" + (book.isOldTestament() ? "OT" : "NT") + ") - " + book.getWordCount() + " words"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getOrderedBibleBooks_shouldBeReproducibleFromSeed() {
+        List<BibleBook> plan = bibleReadingPlanService.getOrderedBibleBooks(42);
+        List<BibleBook> replayed = new BibleReadingPlanService(bibleDataService).getOrderedBibleBooks(42);
+
+        assertEquals(plan, replayed);
+        assertNotEquals(plan, bibleReadingPlanService.getOrderedBibleBooks(43));
+    }
+
+    @Test
+    void newReadingPlan_shouldBeReproducibleFromItsSeed() {
+        ReadingPlan plan = bibleReadingPlanService.newReadingPlan();
+
+        assertEquals(plan.getBooks(), bibleReadingPlanService.getReadingPlan(plan.getSeed()).getBooks());
+    }
+
+    @Test
+    void getOrderedBibleBooks_shouldBuildOnceForConcurrentRequests() throws Exception {
+        bibleReadingPlanService.computeWordCounts();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<BibleBook>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> bibleReadingPlanService.getOrderedBibleBooks(7)));
+            }
+            for (Future<List<BibleBook>> result : results) {
+                assertSame(results.get(0).get(), result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void getBibleBooks_shouldCountWordsFromLoadedText() {
+        var corpus = bibleDataService.getCorpus();
+        int john = CanonicalBook.JOHN.ordinal();
+        int words = 0;
+        for (int ordinal = corpus.firstBookVerseOrdinal(john); ordinal < corpus.endBookVerseOrdinal(john); ordinal++) {
+            words += corpus.verseWordCount(ordinal);
+        }
+
+        BibleBook book = bibleReadingPlanService.getBibleBooks().stream()
+                .filter(b -> b.getName().equals("John"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(words, book.getWordCount());
+    }
+
+    @Test
+    void getReadingPlan_shouldPairEveryOldTestamentBookOnce() {
+        ReadingPlan plan = bibleReadingPlanService.getReadingPlan(42);
+
+        List<String> pairedBooks = new ArrayList<>();
+        long imbalance = 0;
+        for (ReadingPlanPair pair : plan.getPairs()) {
+            assertTrue(pair.getOldTestamentBooks().size() <= 2, pair.getNewTestamentBook());
+            assertEquals(Math.abs(pair.getNewTestamentWords() - pair.getOldTestamentWords()), pair.getImbalance());
+            pairedBooks.add(pair.getNewTestamentBook());
+            pairedBooks.addAll(pair.getOldTestamentBooks());
+            imbalance += pair.getImbalance();
+        }
+
+        assertEquals(27, plan.getPairs().size());
+        assertEquals(plan.getBooks(), pairedBooks);
+        assertEquals(imbalance, plan.getTotalImbalance());
+        assertEquals(plan, new BibleReadingPlanService(bibleDataService).getReadingPlan(42));
+    }
+
+    @Test
+    void pairingOptimizer_shouldNotIncreaseImbalanceOrChangeGroupSizes() {
+        int[] ntWords = {1000, 700, 400};
+        int[] otWords = {100, 300, 400, 600, 700};
+        int[] initial = {0, 0, 1, 1, 2};
+        PairingOptimizer optimizer = new PairingOptimizer(ntWords, otWords, PairingOptimizer.DEFAULT_STEPS_PER_WALK);
+
+        int[] optimized = optimizer.optimize(initial, 1);
+
+        assertTrue(optimizer.imbalance(optimized) <= optimizer.imbalance(initial));
+        assertEquals(0, optimizer.imbalance(optimized)); // {300, 700}, {100, 600}, {400}
+        int[] groupSizes = new int[ntWords.length];
+        for (int nt : optimized) {
+            groupSizes[nt]++;
+        }
+        assertArrayEquals(new int[]{2, 2, 1}, groupSizes);
+        assertArrayEquals(optimized, optimizer.optimize(initial, 1));
+    }
+
+    @Test
+    void pairingOptimizer_shouldBeReproducibleWithTinyStepBudget() {
+        int[] ntWords = {900, 800, 700, 300};
+        int[] otWords = {50, 120, 200, 250, 310, 400, 480, 560, 650, 720};
+        int[] initial = {0, 0, 0, 1, 1, 1, 2, 2, 3, 3};
+
+        for (int steps : new int[]{0, 1, 7, 64}) {
+            PairingOptimizer optimizer = new PairingOptimizer(ntWords, otWords, steps);
+            int[] first = optimizer.optimize(initial, 99);
+
+            assertArrayEquals(first, new PairingOptimizer(ntWords, otWords, steps).optimize(initial, 99));
+            assertTrue(optimizer.imbalance(first) <= optimizer.imbalance(initial));
+        }
+    }
+
+    @Test
+    void getSchedule_shouldCoverEveryVerseOnceInBalancedDays() {
+        Iterator<ReadingDay> schedule = bibleReadingPlanService.getSchedule(7, 365);
+        List<BibleBook> plan = bibleReadingPlanService.getOrderedBibleBooks(7);
+
+        int days = 0;
+        int verses = 0;
+        long total = 0;
+        long longest = 0;
+        String previousBook = null;
+        int bookIndex = -1;
+        while (schedule.hasNext()) {
+            ReadingDay day = schedule.next();
+            assertEquals(++days, day.getDay());
+            assertTrue(!day.getPassages().isEmpty());
+            for (ScriptureReference passage : day.getPassages()) {
+                verses += passage.getVerseCount();
+                if (!passage.getBook().equals(previousBook)) {
+                    // Books appear in plan order, each starting where the previous left off
+                    bookIndex++;
+                    assertEquals(plan.get(bookIndex).getName(), passage.getBook());
+                    previousBook = passage.getBook();
+                }
+            }
+            total += day.getCharacters();
+            longest = Math.max(longest, day.getCharacters());
+        }
+
+        assertEquals(365, days);
+        assertEquals(bibleDataService.getCorpus().verseCount(), verses);
+        assertTrue(longest < 2 * total / 365, "Longest day " + longest + " vs average " + total / 365);
+    }
+
+    @Test
+    void getSchedule_shouldRejectInvalidDayCounts() {
+        assertThrows(IllegalArgumentException.class, () -> bibleReadingPlanService.getSchedule(1, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> bibleReadingPlanService.getSchedule(1, BibleReadingPlanService.MAX_SCHEDULE_DAYS + 1));
+    }
+}
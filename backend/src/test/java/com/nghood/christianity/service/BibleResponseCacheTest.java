@@ -0,0 +1,84 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibleResponseCacheTest {
+
+    private static final Object CORPUS = new Object();
+
+    @Test
+    void get_shouldServeRepeatedRequestsFromCache() {
+        BibleResponseCache cache = new BibleResponseCache(new ObjectMapper(), 1 << 20, 60);
+
+        BibleResponseCache.CachedResponse first = cache.get(CORPUS, "chapter:John:3", () -> Map.of("verse", 16));
+        BibleResponseCache.CachedResponse second = cache.get(CORPUS, "chapter:John:3", () -> Map.of("verse", 17));
+
+        assertSame(first, second);
+        assertEquals(1, cache.getStats().getHits());
+        assertEquals(1, cache.getStats().getMisses());
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedEntriesOverBudget() {
+        BibleResponseCache cache = new BibleResponseCache(new ObjectMapper(), 1000, 60);
+        String body = "x".repeat(300);
+
+        cache.get(CORPUS, "a", () -> body);
+        cache.get(CORPUS, "b", () -> body);
+        cache.get(CORPUS, "a", () -> body);
+        cache.get(CORPUS, "c", () -> body);
+
+        assertTrue(cache.getStats().getBytes() <= 1000);
+        assertEquals(1, cache.getStats().getEvictions());
+        cache.get(CORPUS, "a", () -> body);
+        assertEquals(2, cache.getStats().getHits());
+    }
+
+    @Test
+    void get_shouldDropEntriesWhenCorpusChanges() {
+        BibleResponseCache cache = new BibleResponseCache(new ObjectMapper(), 1 << 20, 60);
+
+        cache.get(CORPUS, "books", () -> "old");
+        BibleResponseCache.CachedResponse reloaded = cache.get(new Object(), "books", () -> "new");
+
+        assertEquals("\"new\"", new String(reloaded.json()));
+        assertEquals(1, cache.getStats().getEntries());
+    }
+
+    @Test
+    void toResponse_shouldNegotiateGzipAndHonourIfNoneMatch() throws IOException {
+        BibleResponseCache cache = new BibleResponseCache(new ObjectMapper(), 1 << 20, 60);
+        BibleResponseCache.CachedResponse cached = cache.get(CORPUS, "big", () -> "In the beginning ".repeat(100));
+
+        ResponseEntity<byte[]> plain = cache.toResponse(cached, null, null);
+        ResponseEntity<byte[]> gzip = cache.toResponse(cached, null, "br, gzip;q=0.8");
+        ResponseEntity<byte[]> notModified = cache.toResponse(cached, "\"other\", " + cached.etag(), "gzip");
+
+        assertEquals(HttpStatus.OK, plain.getStatusCode());
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(plain.getHeaders().getCacheControl().contains("immutable"));
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNotEquals(plain.getHeaders().getETag(), gzip.getHeaders().getETag());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+    }
+}
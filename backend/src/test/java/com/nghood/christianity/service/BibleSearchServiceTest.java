@@ -0,0 +1,73 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.model.BibleSearchHit;
+import com.nghood.christianity.model.BibleSearchResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibleSearchServiceTest {
+
+    private static BibleSearchService bibleSearchService;
+
+    @BeforeAll
+    static void setUp() {
+        BibleDataService bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        bibleSearchService = new BibleSearchService(bibleDataService);
+        bibleSearchService.buildIndex();
+    }
+
+    @Test
+    void search_phraseShouldRequireConsecutiveTerms() {
+        BibleSearchResult result = bibleSearchService.search("\"Jesus wept\"", Set.of(), null, 0, 10);
+
+        assertEquals(1, result.getTotalHits());
+        assertEquals("John 11:35", result.getHits().get(0).getReference());
+    }
+
+    @Test
+    void search_shouldAndTermsAndHonourExclusion() {
+        BibleSearchResult both = bibleSearchService.search("shepherd sheep", Set.of(), null, 0, 100);
+        BibleSearchResult excluded = bibleSearchService.search("shepherd sheep -lost", Set.of(), null, 0, 100);
+
+        assertTrue(both.getTotalHits() > 0);
+        for (BibleSearchHit hit : both.getHits()) {
+            String text = hit.getText().toLowerCase();
+            assertTrue(text.contains("shepherd") && text.contains("sheep"), hit.getReference());
+        }
+        assertTrue(excluded.getTotalHits() <= both.getTotalHits());
+        excluded.getHits().forEach(hit -> assertTrue(!hit.getText().toLowerCase().contains(" lost"), hit.getReference()));
+    }
+
+    @Test
+    void search_shouldFilterByTestamentAndBooks() {
+        int all = bibleSearchService.search("love", Set.of(), null, 0, 1).getTotalHits();
+        int oldTestament = bibleSearchService.search("love", Set.of(), "ot", 0, 1).getTotalHits();
+        int newTestament = bibleSearchService.search("love", Set.of(), "nt", 0, 1).getTotalHits();
+        BibleSearchResult john = bibleSearchService.search("love", Set.of("1 John"), null, 0, 100);
+
+        assertEquals(all, oldTestament + newTestament);
+        john.getHits().forEach(hit -> assertEquals("1 John", hit.getBook()));
+    }
+
+    @Test
+    void search_shouldPaginateRankedHits() {
+        BibleSearchResult firstPage = bibleSearchService.search("light OR darkness", Set.of(), null, 0, 5);
+        BibleSearchResult secondPage = bibleSearchService.search("light OR darkness", Set.of(), null, 1, 5);
+
+        assertEquals(5, firstPage.getHits().size());
+        assertTrue(firstPage.getHits().get(4).getScore() >= secondPage.getHits().get(0).getScore());
+    }
+
+    @Test
+    void search_shouldRejectQueryWithoutRequiredTerms() {
+        assertThrows(IllegalArgumentException.class, () -> bibleSearchService.search("-sin", Set.of(), null, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> bibleSearchService.search("   ", Set.of(), null, 0, 10));
+    }
+}
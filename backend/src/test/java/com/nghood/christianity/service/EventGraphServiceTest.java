@@ -0,0 +1,117 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.model.EventGraphCoverage;
+import com.nghood.christianity.model.EventGraphNode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventGraphServiceTest {
+
+    private static ScriptureReferenceService scriptureReferenceService;
+    private static EventGraphService eventGraphService;
+
+    @BeforeAll
+    static void setUp() {
+        BibleDataService bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        scriptureReferenceService = new ScriptureReferenceService(bibleDataService);
+        eventGraphService = new EventGraphService(new ObjectMapper(), scriptureReferenceService);
+        eventGraphService.loadGraph();
+    }
+
+    @Test
+    void getSubtree_shouldOrderChildrenAndStopAtDepth() {
+        EventGraphNode root = eventGraphService.getSubtree("root:storyline", 1, EventGraphService.MAX_SUBTREE_NODES);
+
+        assertEquals(463, root.getDescendantCount());
+        assertFalse(root.isTruncated());
+        assertEquals("era:creation-primeval", root.getChildren().get(0).getId());
+        for (EventGraphNode era : root.getChildren()) {
+            assertTrue(era.getChildren().isEmpty());
+            assertTrue(era.isTruncated());
+            assertEquals(1, era.getDepth());
+        }
+    }
+
+    @Test
+    void getSubtree_shouldKeepWithinNodeLimit() {
+        EventGraphNode root = eventGraphService.getSubtree("root:storyline", EventGraphService.MAX_SUBTREE_DEPTH, 40);
+
+        assertTrue(count(root) <= 40);
+        assertEquals(root.getChildCount(), root.getChildren().size());
+        assertThrows(IllegalArgumentException.class, () -> eventGraphService.getSubtree("root:storyline", 1, 0));
+        assertNull(eventGraphService.getSubtree("era:unknown", 1, 10));
+    }
+
+    @Test
+    void getBreadcrumbs_shouldRunFromRootToEvent() {
+        List<EventGraphNode> breadcrumbs = eventGraphService.getBreadcrumbs("era:patriarchs:jacob-transformed:02");
+
+        assertEquals(List.of("root:storyline", "era:patriarchs", "era:patriarchs:jacob-transformed",
+                "era:patriarchs:jacob-transformed:02"), breadcrumbs.stream().map(EventGraphNode::getId).toList());
+    }
+
+    @Test
+    void getCoveringEvents_shouldFindOverlappingEventsInStorylineOrder() {
+        EventGraphCoverage coverage = eventGraphService.getCoveringEvents("Gen 22:2", null);
+
+        assertEquals(List.of("era:patriarchs", "era:patriarchs:promise-tested-secured:03"),
+                coverage.getEvents().stream().map(EventGraphNode::getId).toList());
+        assertEquals("Genesis 22:2", coverage.getReferences().get(0).getReference());
+
+        EventGraphCoverage flood = eventGraphService.getCoveringEvents("Gen 9:17-18", "era:creation-primeval");
+        assertEquals(List.of("era:creation-primeval", "era:creation-primeval:from-cities-to-flood",
+                        "era:creation-primeval:from-cities-to-flood:04", "era:creation-primeval:nations-disperse",
+                        "era:creation-primeval:nations-disperse:01"),
+                flood.getEvents().stream().map(EventGraphNode::getId).toList());
+
+        assertTrue(eventGraphService.getCoveringEvents("Rev 22", null).getEvents().isEmpty());
+    }
+
+    @Test
+    void load_shouldRejectCyclesAndDuplicateOrders() {
+        EventGraphService service = new EventGraphService(new ObjectMapper(), scriptureReferenceService);
+        String cycle = """
+                {"events": {
+                  "root": {"id": "root", "title": "Root", "parent_id": null, "attributes": {}},
+                  "a": {"id": "a", "title": "A", "parent_id": "b", "attributes": {}},
+                  "b": {"id": "b", "title": "B", "parent_id": "a", "attributes": {}}
+                }}""";
+        String duplicateOrder = """
+                {"events": {
+                  "root": {"id": "root", "title": "Root", "parent_id": null, "attributes": {}},
+                  "a": {"id": "a", "title": "A", "parent_id": "root", "attributes": {"order": ["010"]}},
+                  "b": {"id": "b", "title": "B", "parent_id": "root", "attributes": {"order": ["10"]}}
+                }}""";
+        String badReference = """
+                {"events": {
+                  "root": {"id": "root", "title": "Root", "parent_id": null, "attributes": {"references": ["Gen 99"]}}
+                }}""";
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> service.load(stream(cycle)));
+        assertTrue(error.getMessage().contains("Cycle"));
+        assertThrows(IllegalArgumentException.class, () -> service.load(stream(duplicateOrder)));
+        assertThrows(IllegalArgumentException.class, () -> service.load(stream(badReference)));
+        assertFalse(service.isLoaded());
+    }
+
+    private static int count(EventGraphNode node) {
+        return 1 + node.getChildren().stream().mapToInt(EventGraphServiceTest::count).sum();
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,56 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.GameSessionStats;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSessionStoreTest {
+
+    private static BibleCorpus corpus;
+
+    @BeforeAll
+    static void setUp() {
+        BibleDataService bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        corpus = bibleDataService.getCorpus();
+    }
+
+    @Test
+    void create_shouldStayWithinCapacityAndCountEvictions() {
+        GameSessionStore store = new GameSessionStore(64, 30);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(store.create(corpus, i));
+        }
+
+        GameSessionStats stats = store.getStats();
+        assertTrue(stats.getSessions() <= 64);
+        assertEquals(1_000, stats.getCreated());
+        assertEquals(1_000 - stats.getSessions(), stats.getEvictions());
+        assertNotNull(store.find(ids.get(999), corpus));
+    }
+
+    @Test
+    void find_shouldDropExpiredAndForeignSessions() {
+        GameSessionStore store = new GameSessionStore(100, 30);
+        String id = store.create(corpus, 0);
+        String other = store.create(corpus, 1);
+
+        assertEquals(0, store.find(id, corpus).getVerse());
+        assertNull(store.find(other, null));
+        assertNull(store.find("not-a-session", corpus));
+
+        store.expireSessions(System.currentTimeMillis() + 31 * 60_000L);
+        assertNull(store.find(id, corpus));
+        assertEquals(2, store.getStats().getExpirations());
+    }
+}
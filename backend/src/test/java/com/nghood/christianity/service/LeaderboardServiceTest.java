@@ -0,0 +1,95 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.model.GameResult;
+import com.nghood.christianity.model.Leaderboard;
+import com.nghood.christianity.model.LeaderboardEntry;
+import com.nghood.christianity.model.LeaderboardScope;
+import com.nghood.christianity.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LeaderboardServiceTest {
+
+    private UserRepository userRepository;
+    private UserStateService userStateService;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userStateService = mock(UserStateService.class);
+        leaderboardService = new LeaderboardService(userStateService, userRepository, new ObjectMapper());
+    }
+
+    @Test
+    void rebuild_shouldRestoreBoardsFromStoredStats() {
+        String week = LeaderboardService.weekKey(Instant.now());
+        doAnswer(invocation -> {
+            BiConsumer<String, String> consumer = invocation.getArgument(1);
+            consumer.accept("alice", "{\"totalScore\":50,\"games\":3,\"bookScores\":{\"John\":20},"
+                    + "\"week\":{\"period\":\"" + week + "\",\"score\":10},\"month\":{\"period\":\"1999-01\",\"score\":50}}");
+            consumer.accept("bob", "{\"totalScore\":80,\"games\":4,\"bookScores\":{}}");
+            consumer.accept("broken", "not json");
+            return null;
+        }).when(userRepository).forEachDataValue(eq("gameStats"), any());
+
+        leaderboardService.rebuild();
+
+        Leaderboard global = leaderboardService.getLeaderboard(LeaderboardScope.GLOBAL, null, 0, 10);
+        assertEquals(2, global.getTotalPlayers());
+        assertEquals("bob", global.getEntries().get(0).getUserId());
+        assertEquals(2, leaderboardService.getRanking("alice", LeaderboardScope.GLOBAL, null).getRank());
+        assertEquals(20, leaderboardService.getRanking("alice", LeaderboardScope.BOOK, "John").getScore());
+        assertEquals(1, leaderboardService.getLeaderboard(LeaderboardScope.WEEK, null, 0, 10).getTotalPlayers());
+        assertEquals(0, leaderboardService.getLeaderboard(LeaderboardScope.MONTH, null, 0, 10).getTotalPlayers());
+    }
+
+    @Test
+    void recordResult_shouldUpdateBoardsAndPersistWriteBehind() {
+        leaderboardService.recordResult(new GameResult("alice", 30, "Ruth"));
+        leaderboardService.recordResult(new GameResult("bob", 40, null));
+        LeaderboardEntry standing = leaderboardService.recordResult(new GameResult("alice", 15, "Ruth"));
+
+        assertEquals(1, standing.getRank());
+        assertEquals(45, standing.getScore());
+        assertEquals(2, leaderboardService.getRanking("bob", LeaderboardScope.WEEK, null).getRank());
+        Leaderboard ruth = leaderboardService.getLeaderboard(LeaderboardScope.BOOK, "Ruth", 0, 10);
+        assertEquals(1, ruth.getTotalPlayers());
+        assertEquals(45, ruth.getEntries().get(0).getScore());
+        verify(userStateService).put(eq("bob"), eq("gameStats"), any(Map.class));
+    }
+
+    @Test
+    void tiedScores_shouldShareRank() {
+        leaderboardService.recordResult(new GameResult("alice", 10, null));
+        leaderboardService.recordResult(new GameResult("bob", 10, null));
+        leaderboardService.recordResult(new GameResult("carol", 5, null));
+
+        Leaderboard global = leaderboardService.getLeaderboard(LeaderboardScope.GLOBAL, null, 0, 10);
+        assertEquals(1, global.getEntries().get(1).getRank());
+        assertEquals(3, global.getEntries().get(2).getRank());
+    }
+
+    @Test
+    void recordResult_shouldRejectInvalidResults() {
+        assertThrows(IllegalArgumentException.class,
+                () -> leaderboardService.recordResult(new GameResult("alice", -1, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> leaderboardService.recordResult(new GameResult("alice", 1, "Hezekiah")));
+        assertThrows(IllegalArgumentException.class,
+                () -> leaderboardService.getLeaderboard(LeaderboardScope.BOOK, null, 0, 10));
+    }
+}
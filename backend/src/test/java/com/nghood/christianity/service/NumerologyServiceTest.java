@@ -0,0 +1,94 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.NumerologyAggregate;
+import com.nghood.christianity.model.NumerologyMetric;
+import com.nghood.christianity.model.NumerologySearchResult;
+import com.nghood.christianity.model.NumerologyWindow;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumerologyServiceTest {
+
+    private static BibleDataService bibleDataService;
+    private static NumerologyService numerologyService;
+
+    @BeforeAll
+    static void setUp() {
+        bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        numerologyService = new NumerologyService(bibleDataService, new ScriptureReferenceService(bibleDataService));
+        numerologyService.computeMetrics();
+    }
+
+    @Test
+    void getTextAggregate_shouldUseSimpleAndEnglishGematria() {
+        NumerologyAggregate christ = numerologyService.getTextAggregate("Christ");
+
+        assertEquals(77, christ.getTotals().get(NumerologyMetric.SIMPLE_GEMATRIA));
+        assertEquals(462, christ.getTotals().get(NumerologyMetric.ENGLISH_GEMATRIA));
+        assertEquals(6, christ.getTotals().get(NumerologyMetric.LETTERS));
+        assertTrue(christ.getFindings().stream().anyMatch(finding -> finding.getNumber() == 7 && !finding.isExact()));
+    }
+
+    @Test
+    void getAggregate_shouldMatchVerseByVerseTotals() {
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        int first = corpus.verseOrdinal(42, 1, 1); // John 1:1
+        long gematria = 0;
+        long words = 0;
+        int verses = 0;
+        for (int ordinal = first; corpus.verseChapterIndex(ordinal) == corpus.verseChapterIndex(first); ordinal++) {
+            gematria += numerologyService.getTextAggregate(corpus.verseText(ordinal)).getTotals()
+                    .get(NumerologyMetric.SIMPLE_GEMATRIA);
+            words += corpus.verseWordCount(ordinal);
+            verses++;
+        }
+
+        NumerologyAggregate john = numerologyService.getAggregate("John 1");
+
+        assertEquals("John 1", john.getReferences().get(0).getReference());
+        assertEquals(gematria, john.getTotals().get(NumerologyMetric.SIMPLE_GEMATRIA));
+        assertEquals(words, john.getTotals().get(NumerologyMetric.WORDS));
+        assertEquals(verses, john.getTotals().get(NumerologyMetric.VERSES));
+    }
+
+    @Test
+    void searchWindows_shouldCountEveryMatchAndListTheFirst() {
+        NumerologySearchResult result = numerologyService.searchWindows(NumerologyMetric.WORDS, 3, 7L, null, null, 10);
+
+        assertEquals(10, result.getMatches().size());
+        assertTrue(result.getTotalMatches() > 10);
+        for (NumerologyWindow window : result.getMatches()) {
+            assertEquals(0, window.getValue() % 7);
+            assertEquals(3, window.getReference().getVerseCount());
+        }
+        assertEquals("Genesis", result.getMatches().get(0).getReference().getBook());
+
+        // One window per verse position inside each book, so windows never span two books
+        BibleCorpus corpus = bibleDataService.getCorpus();
+        long expectedWindows = 0;
+        for (int book = 0; book < 66; book++) {
+            expectedWindows += Math.max(0, corpus.bookVerseCount(book) - 2);
+        }
+        assertEquals(expectedWindows, result.getWindowsSearched());
+    }
+
+    @Test
+    void searchWindows_shouldFindExactTargetsWithinScope() {
+        long value = numerologyService.getAggregate("Ps 23:1-2").getTotals().get(NumerologyMetric.SIMPLE_GEMATRIA);
+
+        NumerologySearchResult result = numerologyService.searchWindows(NumerologyMetric.SIMPLE_GEMATRIA, 2, null,
+                value, "Ps 23", NumerologyService.MAX_MATCHES);
+
+        assertTrue(result.getMatches().stream().anyMatch(window -> window.getReference().getReference().equals("Psalms 23:1-2")));
+        assertThrows(IllegalArgumentException.class, () -> numerologyService.searchWindows(NumerologyMetric.WORDS, 3,
+                7L, 40L, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> numerologyService.searchWindows(NumerologyMetric.WORDS, 0,
+                7L, null, null, 10));
+    }
+}
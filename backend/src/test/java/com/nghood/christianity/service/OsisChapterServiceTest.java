@@ -0,0 +1,91 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.model.OsisBookInfo;
+import com.nghood.christianity.model.OsisChapterFragment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OsisChapterServiceTest {
+
+    private static final String OSIS = """
+            <?xml version="1.0" encoding="utf-8"?>
+            <osis xmlns="http://www.bibletechnologies.net/2003/OSIS/namespace">
+              <osisText osisIDWork="WEB">
+                <header><work osisWork="WEB"><title>World English Bible</title></work></header>
+                <div type="book" osisID="John">
+                  <chapter osisID="John.3">
+                    <verse osisID="John.3.16">For God so loved the world,
+                      <note type="study">Or, <hi type="italic">only born</hi></note> that he gave
+                      <reference osisRef="Gen.22.2">his one and only Son</reference> &amp; more.</verse>
+                    <verse osisID="John.3.17">For God didn't send his Son</verse>
+                  </chapter>
+                </div>
+                <div type="book" osisID="Phlm">
+                  <chapter sID="Phlm.1" osisID="Phlm.1"/>
+                  <title type="chapter">Greeting</title>
+                  <p><verse sID="Phlm.1.1" osisID="Phlm.1.1"/>Paul, a prisoner of
+                    <divineName>Christ</divineName>, <q who="Paul">to the beloved Apphia,<verse eID="Phlm.1.1"/>
+                    <verse sID="Phlm.1.2" osisID="Phlm.1.2"/>and Archippus</q></p>
+                  <p>to the assembly<verse eID="Phlm.1.2"/></p>
+                  <chapter eID="Phlm.1"/>
+                </div>
+              </osisText>
+            </osis>
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OsisChapterService osisChapterService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        osisChapterService = new OsisChapterService(new BibleResponseCache(objectMapper, 1 << 20, 60));
+        osisChapterService.load(new ByteArrayInputStream(OSIS.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void load_shouldRenderContainerVersesWithTheirNotesAndReferences() throws Exception {
+        OsisChapterFragment chapter = objectMapper.readValue(
+                osisChapterService.getChapter("John", 3).json(), OsisChapterFragment.class);
+
+        assertEquals("John", chapter.getBook());
+        assertEquals(2, chapter.getVerseCount());
+        assertEquals("<div class=\"bible-verse\" data-osis-id=\"John.3.16\"><span class=\"bible-verse-number\">16</span>"
+                + "<span class=\"bible-verse-text\">For God so loved the world, <note type=\"study\">Or, "
+                + "<hi type=\"italic\">only born</hi></note> that he gave <reference osisRef=\"Gen.22.2\">his one and "
+                + "only Son</reference> &amp; more.</span></div>"
+                + "<div class=\"bible-verse\" data-osis-id=\"John.3.17\"><span class=\"bible-verse-number\">17</span>"
+                + "<span class=\"bible-verse-text\">For God didn't send his Son</span></div>", chapter.getHtml());
+    }
+
+    @Test
+    void load_shouldRenderMilestoneVersesAsWellFormedFragments() throws Exception {
+        OsisChapterFragment chapter = objectMapper.readValue(
+                osisChapterService.getChapter("Phlm", 1).json(), OsisChapterFragment.class);
+
+        assertEquals("Philemon", chapter.getBook());
+        assertEquals(2, chapter.getVerseCount());
+        // The quotation straddles the verse boundary, so it is closed with the first verse
+        assertTrue(chapter.getHtml().contains("<span class=\"bible-verse-text\">Paul, a prisoner of "
+                + "<divineName>Christ</divineName>, <q who=\"Paul\">to the beloved Apphia,</q></span>"), chapter.getHtml());
+        assertTrue(chapter.getHtml().endsWith(
+                "<span class=\"bible-verse-text\">and Archippus to the assembly</span></div>"), chapter.getHtml());
+        assertTrue(!chapter.getHtml().contains("Greeting"));
+    }
+
+    @Test
+    void getBooks_shouldListBooksInDocumentOrder() throws Exception {
+        List<OsisBookInfo> books = List.of(objectMapper.readValue(osisChapterService.getBooks().json(), OsisBookInfo[].class));
+
+        assertEquals(List.of(new OsisBookInfo("John", "John", 3), new OsisBookInfo("Phlm", "Philemon", 1)), books);
+        assertNull(osisChapterService.getChapter("John", 4));
+    }
+}
@@ -0,0 +1,43 @@
+package com.nghood.christianity.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RankedScoresTest {
+
+    @Test
+    void rankAndRange_shouldMatchSortedScores() {
+        RankedScores board = new RankedScores();
+        Map<String, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            String user = "user" + random.nextInt(500);
+            long score = random.nextInt(200);
+            board.put(user, score);
+            expected.put(user, score);
+        }
+
+        List<Map.Entry<String, Long>> sorted = expected.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .toList();
+
+        assertEquals(sorted.size(), board.size());
+        List<RankedScores.Entry> page = board.range(100, 25);
+        for (int i = 0; i < page.size(); i++) {
+            assertEquals(sorted.get(100 + i).getKey(), page.get(i).userId());
+        }
+        for (Map.Entry<String, Long> entry : sorted) {
+            long higher = sorted.stream().filter(other -> other.getValue() > entry.getValue()).count();
+            assertEquals(higher + 1, board.rank(entry.getKey()));
+        }
+        assertEquals(0, board.rank("nobody"));
+    }
+}
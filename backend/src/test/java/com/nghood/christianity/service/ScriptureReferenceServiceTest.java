@@ -0,0 +1,101 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.model.ReferenceResolution;
+import com.nghood.christianity.model.ScriptureReference;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScriptureReferenceServiceTest {
+
+    private static ScriptureReferenceService scriptureReferenceService;
+
+    @BeforeAll
+    static void setUp() {
+        BibleDataService bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        scriptureReferenceService = new ScriptureReferenceService(bibleDataService);
+    }
+
+    @Test
+    void resolve_shouldAcceptAbbreviationsAndNumberedBooks() {
+        assertEquals("John 3:16", single("John 3:16").getReference());
+        assertEquals("Hosea 12", single("Hos 12").getReference());
+        assertEquals("1 John 4:8", single("1 Jn 4:8").getReference());
+        assertEquals("2 Samuel 7", single("II Sam. 7").getReference());
+        assertEquals("Acts 2:1-4", single("acts 2.1-4").getReference());
+        assertEquals("Revelation", single("Rev").getReference());
+    }
+
+    @Test
+    void resolve_shouldSplitListsAndCarryBookAcrossSemicolons() {
+        List<ScriptureReference> references = scriptureReferenceService.resolve("John 3:16-18, 20; 4:1; Rom 8, 10");
+
+        assertEquals(List.of("John 3:16-18", "John 3:20", "John 4:1", "Romans 8", "Romans 10"),
+                references.stream().map(ScriptureReference::getReference).toList());
+        assertEquals(3, references.get(0).getVerseCount());
+    }
+
+    @Test
+    void resolve_shouldHandleCrossChapterRanges() {
+        ScriptureReference creation = single("Gen 1:1-2:3");
+
+        assertEquals("Genesis 1:1-2:3", creation.getReference());
+        assertEquals(1, creation.getStartChapter());
+        assertEquals(2, creation.getEndChapter());
+        assertEquals(3, creation.getEndVerse());
+        assertTrue(creation.getVerseCount() > 3);
+    }
+
+    @Test
+    void resolve_shouldReadBareNumbersInSingleChapterBooksAsVerses() {
+        assertEquals("Jude 1:5", single("Jude 5").getReference());
+        assertEquals("Obadiah 1:3-4", single("Obad 3-4").getReference());
+        assertEquals("Philemon 1:10", single("Phlm 1:10").getReference());
+        assertEquals("3 John", single("3 John").getReference());
+
+        List<ScriptureReference> references = scriptureReferenceService.resolve("2 John 4, 6; Jude 1:3, 20-21");
+        assertEquals(List.of("2 John 1:4", "2 John 1:6", "Jude 1:3", "Jude 1:20-21"),
+                references.stream().map(ScriptureReference::getReference).toList());
+    }
+
+    @Test
+    void resolve_shouldRejectUnknownBooksAndMissingVerses() {
+        assertThrows(IllegalArgumentException.class, () -> scriptureReferenceService.resolve("Hezekiah 1:1"));
+        assertThrows(IllegalArgumentException.class, () -> scriptureReferenceService.resolve("Jude 2:1"));
+        assertThrows(IllegalArgumentException.class, () -> scriptureReferenceService.resolve("John 3:99"));
+        assertThrows(IllegalArgumentException.class, () -> scriptureReferenceService.resolve("John 3:18-16"));
+        assertThrows(IllegalArgumentException.class, () -> scriptureReferenceService.resolve("John 3:16:1"));
+    }
+
+    @Test
+    void resolveAll_shouldReportErrorsPerEntry() {
+        List<ReferenceResolution> resolutions = scriptureReferenceService.resolveAll(List.of("Mk 1", "Nowhere 1"));
+
+        assertNull(resolutions.get(0).getError());
+        assertEquals("Mark 1", resolutions.get(0).getReferences().get(0).getReference());
+        assertNotNull(resolutions.get(1).getError());
+    }
+
+    @Test
+    void resolve_shouldStayLinearOnHostileInput() {
+        String hostile = "1".repeat(ReferenceParser.MAX_INPUT_LENGTH - 1) + "x";
+
+        assertThrows(IllegalArgumentException.class, () -> scriptureReferenceService.resolve(hostile));
+        assertThrows(IllegalArgumentException.class,
+                () -> scriptureReferenceService.resolve("a".repeat(ReferenceParser.MAX_INPUT_LENGTH + 1)));
+    }
+
+    private ScriptureReference single(String input) {
+        List<ScriptureReference> references = scriptureReferenceService.resolve(input);
+        assertEquals(1, references.size(), input);
+        return references.get(0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.ParallelRound;
+import com.nghood.christianity.model.SamplingMode;
+import com.nghood.christianity.model.SimilarVerse;
+import com.nghood.christianity.model.SimilarVerseResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimilarVerseServiceTest {
+
+    private static SimilarVerseService similarVerseService;
+    private static BibleGameService bibleGameService;
+
+    @BeforeAll
+    static void setUp() {
+        BibleDataService bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        similarVerseService = new SimilarVerseService(bibleDataService, new ScriptureReferenceService(bibleDataService));
+        similarVerseService.buildIndex();
+        bibleGameService = new BibleGameService(bibleDataService, new GameSessionStore(100, 30), similarVerseService);
+    }
+
+    @Test
+    void getSimilarVerses_shouldFindParallelPassages() {
+        SimilarVerseResult kings = similarVerseService.getSimilarVerses("2 Kings 18:13", 5, 0.3, false);
+        assertEquals("Isaiah 36:1", kings.getMatches().get(0).getReference());
+
+        SimilarVerseResult psalm = similarVerseService.getSimilarVerses("Ps 14:2", 5, 0.3, false);
+        assertEquals("Psalms 53:2", psalm.getMatches().get(0).getReference());
+    }
+
+    @Test
+    void getSimilarVerses_shouldMergePassageVersesAndSkipItsChapter() {
+        SimilarVerseResult result = similarVerseService.getSimilarVerses("Mark 1:2-3", 10, 0.3, false);
+        List<String> references = result.getMatches().stream().map(SimilarVerse::getReference).toList();
+
+        assertEquals("Mark 1:2-3", result.getReference().getReference());
+        assertTrue(references.containsAll(List.of("Luke 3:4", "Matthew 3:3", "Matthew 11:10")));
+        assertTrue(references.stream().noneMatch(reference -> reference.startsWith("Mark 1:")));
+        for (int i = 1; i < result.getMatches().size(); i++) {
+            assertTrue(result.getMatches().get(i - 1).getSimilarity() >= result.getMatches().get(i).getSimilarity());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> similarVerseService.getSimilarVerses("Mark 1", 10, 0.3, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> similarVerseService.getSimilarVerses("Mark 1:2", 0, 0.3, false));
+    }
+
+    @Test
+    void getParallelRound_shouldOfferTheParallelAmongDistinctOptions() {
+        ParallelRound round = bibleGameService.getParallelRound(Set.of("Matthew", "Mark", "Luke"), SamplingMode.VERSE);
+
+        assertEquals(4, new HashSet<>(round.getOptions()).size());
+        assertTrue(round.getOptions().contains(round.getAnswer()));
+        assertTrue(round.getSimilarity() >= 0.5);
+        assertFalse(round.getAnswer().startsWith(round.getVerse().getBook() + " " + round.getVerse().getChapter() + ":"));
+    }
+
+    @Test
+    void getParallelRound_shouldFailWhenTooFewDistractorsExist() {
+        String text = "In the beginning God created the heavens and the earth.";
+        BibleCorpus corpus = BibleCorpus.builder()
+                .addVerse(CanonicalBook.GENESIS, 1, 1, text)
+                .addVerse(CanonicalBook.JOHN, 1, 1, text)
+                .addVerse(CanonicalBook.JOHN, 2, 1, "On the third day, there was a wedding in Cana of Galilee.")
+                .build();
+        BibleDataService partial = mock(BibleDataService.class);
+        when(partial.getCorpus()).thenReturn(corpus);
+        when(partial.getBookOrdinal("Genesis")).thenReturn(CanonicalBook.GENESIS.ordinal());
+        SimilarVerseService similar = new SimilarVerseService(partial, new ScriptureReferenceService(partial));
+        similar.buildIndex();
+        BibleGameService game = new BibleGameService(partial, new GameSessionStore(100, 30), similar);
+
+        IllegalStateException e = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(
+                IllegalStateException.class, () -> game.getParallelRound(Set.of("Genesis"), SamplingMode.VERSE)));
+        assertTrue(e.getMessage().contains("distractors"));
+    }
+}
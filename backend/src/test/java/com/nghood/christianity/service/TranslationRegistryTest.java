@@ -0,0 +1,112 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.corpus.CorpusSnapshot;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.ParallelVerse;
+import com.nghood.christianity.model.TranslationInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranslationRegistryTest {
+
+    private static BibleDataService bibleDataService;
+
+    @TempDir
+    Path dataPath;
+
+    @BeforeAll
+    static void loadData() {
+        bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+    }
+
+    @Test
+    void discover_shouldListTranslationsWithoutLoadingThem() throws Exception {
+        TranslationRegistry registry = newRegistry(Long.MAX_VALUE);
+
+        List<TranslationInfo> translations = registry.getTranslations();
+
+        assertEquals(List.of("web", "jud", "tiny"), translations.stream().map(TranslationInfo::getId).toList());
+        assertTrue(translations.get(0).isResident());
+        assertFalse(translations.get(1).isResident());
+        assertFalse(translations.get(2).isResident());
+        assertEquals(0, registry.getLoadCount());
+    }
+
+    @Test
+    void getParallelVerses_shouldAlignVersesAcrossTranslations() throws Exception {
+        TranslationRegistry registry = newRegistry(Long.MAX_VALUE);
+
+        List<ParallelVerse> verses = registry.getParallelVerses("Jude 1:24-25", List.of("tiny", "WEB", "jud"));
+
+        assertEquals(List.of("Jude 1:24", "Jude 1:25"), verses.stream().map(ParallelVerse::getReference).toList());
+        assertEquals(List.of("tiny", "web", "jud"), List.copyOf(verses.get(0).getTexts().keySet()));
+        assertEquals("Now to him who is able", verses.get(0).getTexts().get("tiny"));
+        assertNull(verses.get(1).getTexts().get("tiny"));
+        assertEquals(bibleDataService.getVerse("Jude", 1, 25), verses.get(1).getTexts().get("jud"));
+        assertEquals(verses.get(1).getTexts().get("web"), verses.get(1).getTexts().get("jud"));
+        assertThrows(IllegalArgumentException.class, () -> registry.getParallelVerses("Jude 1:1", List.of("nope")));
+    }
+
+    @Test
+    void getCorpus_shouldLoadOnceAndEvictUnderBudget() throws Exception {
+        TranslationRegistry registry = newRegistry(1);
+
+        BibleCorpus jude = registry.getCorpus("jud");
+        assertSame(jude, registry.getCorpus("jud"));
+        registry.getCorpus("tiny");
+
+        assertEquals(2, registry.getLoadCount());
+        assertEquals(1, registry.getEvictionCount());
+        assertFalse(registry.getTranslations().get(1).isResident());
+        assertTrue(registry.getTranslations().get(2).isResident());
+    }
+
+    @Test
+    void discover_shouldSkipTheDefaultCorpusSnapshot() throws Exception {
+        Path bundled = dataPath.resolve("bible.snapshot");
+        CorpusSnapshot.write(bibleDataService.getCorpus(), bundled);
+
+        TranslationRegistry registry = newRegistry(Long.MAX_VALUE, bundled.toString());
+
+        assertEquals(List.of("web", "jud", "tiny"),
+                registry.getTranslations().stream().map(TranslationInfo::getId).toList());
+        assertThrows(IllegalArgumentException.class, () -> registry.getCorpus("bible"));
+    }
+
+    private TranslationRegistry newRegistry(long maxBytes) throws Exception {
+        return newRegistry(maxBytes, "");
+    }
+
+    private TranslationRegistry newRegistry(long maxBytes, String corpusSnapshot) throws Exception {
+        Path jude = Files.createDirectory(dataPath.resolve("jud"));
+        try (InputStream input = getClass().getResourceAsStream("/data/bible/jude.json")) {
+            Files.copy(input, jude.resolve("jude.json"));
+        }
+        BibleCorpus tiny = BibleCorpus.builder()
+                .addVerse(CanonicalBook.JUDE, 1, 24, "Now to him who is able")
+                .build();
+        CorpusSnapshot.write(tiny, dataPath.resolve("tiny.snapshot"));
+        Files.writeString(dataPath.resolve("web.xml"), "<osis/>");
+
+        TranslationRegistry registry = new TranslationRegistry(bibleDataService,
+                new ScriptureReferenceService(bibleDataService), dataPath.toString(), corpusSnapshot, "web",
+                maxBytes);
+        registry.discover();
+        return registry;
+    }
+}
@@ -0,0 +1,68 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.model.SamplingMode;
+import com.nghood.christianity.model.TypeaheadSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TypeaheadServiceTest {
+
+    private BibleGameService bibleGameService;
+    private TypeaheadService typeaheadService;
+
+    @BeforeEach
+    void setUp() {
+        BibleDataService bibleDataService = new BibleDataService();
+        bibleDataService.loadBibleData();
+        bibleGameService = new BibleGameService(bibleDataService, new GameSessionStore(100, 30),
+                new SimilarVerseService(bibleDataService, new ScriptureReferenceService(bibleDataService)));
+        typeaheadService = new TypeaheadService(bibleDataService, bibleGameService);
+    }
+
+    @Test
+    void suggest_shouldCompleteBooksInCanonicalOrder() {
+        List<TypeaheadSuggestion> suggestions = typeaheadService.suggest("1 jo");
+
+        assertEquals(List.of("1 John"), labels(suggestions));
+        assertNull(suggestions.get(0).getChapter());
+        assertEquals(List.of("Job", "Joel", "John", "Jonah", "Joshua"), labels(typeaheadService.suggest("Jo")).stream()
+                .sorted().toList());
+        assertEquals("Joshua", typeaheadService.suggest("jo").get(0).getLabel());
+        assertEquals("Psalms", typeaheadService.suggest("ps").get(0).getLabel());
+        assertTrue(typeaheadService.suggest("xyz").isEmpty());
+    }
+
+    @Test
+    void suggest_shouldCompleteChapters() {
+        assertEquals(List.of("Psalms 11", "Psalms 110", "Psalms 111", "Psalms 112", "Psalms 113", "Psalms 114",
+                "Psalms 115", "Psalms 116"), labels(typeaheadService.suggest("ps 11")));
+        assertEquals(List.of("John 3"), labels(typeaheadService.suggest("John 3:16")));
+        assertEquals(3, typeaheadService.suggest("1 John 3").get(0).getChapter());
+        assertTrue(typeaheadService.suggest("Jude 2").isEmpty());
+        assertSame(typeaheadService.suggest("gen 1"), typeaheadService.suggest("Genesis 1"));
+    }
+
+    @Test
+    void refresh_shouldRankPopularBooksFirst() {
+        for (int i = 0; i < 3; i++) {
+            typeaheadService.recordChapterRead("John");
+        }
+        bibleGameService.getRandomVerse(Set.of("Jonah"), SamplingMode.BOOK);
+        typeaheadService.refresh();
+
+        assertEquals(List.of("John", "Jonah"), labels(typeaheadService.suggest("jo")).subList(0, 2));
+        assertEquals("Job", typeaheadService.suggest("job").get(0).getLabel());
+    }
+
+    private static List<String> labels(List<TypeaheadSuggestion> suggestions) {
+        return suggestions.stream().map(TypeaheadSuggestion::getLabel).toList();
+    }
+}
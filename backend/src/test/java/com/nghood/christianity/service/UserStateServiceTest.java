@@ -0,0 +1,188 @@
+package com.nghood.christianity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nghood.christianity.entity.User;
+import com.nghood.christianity.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserStateServiceTest {
+
+    private UserRepository userRepository;
+    private TaskScheduler taskScheduler;
+    private UserStateService userStateService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findById(any())).thenReturn(Optional.empty());
+        taskScheduler = mock(TaskScheduler.class);
+        userStateService = new UserStateService(userRepository, new ObjectMapper(), taskScheduler, 2, 100);
+    }
+
+    @Test
+    void flush_shouldCoalesceWritesIntoOnePatchPerUser() {
+        userStateService.put("alice", "score", 1);
+        userStateService.put("alice", "score", 2);
+        userStateService.put("alice", "book", "John");
+        userStateService.put("bob", "score", 5);
+
+        assertEquals(2, userStateService.flush());
+
+        Map<String, String> patches = capturedMerge();
+        assertEquals("{\"score\":2,\"book\":\"John\"}", patches.get("alice"));
+        assertEquals("{\"score\":5}", patches.get("bob"));
+        assertEquals(0, userStateService.flush());
+        verify(userRepository, times(1)).mergeData(anyMap());
+    }
+
+    @Test
+    void getData_shouldApplyUnflushedWritesOverStoredDocument() {
+        when(userRepository.findById("alice"))
+                .thenReturn(Optional.of(new User("alice", new HashMap<>(Map.of("score", 1, "streak", 3)))));
+
+        userStateService.put("alice", "score", 7);
+        userStateService.remove("alice", "streak");
+
+        Map<String, Object> data = userStateService.getData("alice");
+        assertEquals(7, data.get("score"));
+        assertNull(data.get("streak"));
+
+        userStateService.flush();
+        verify(userRepository).removeDataKeys("alice", Set.of("streak"));
+    }
+
+    @Test
+    void eviction_shouldNotDropPendingWrites() {
+        userStateService.getData("alice");
+        userStateService.put("alice", "score", 9);
+        userStateService.getData("bob");
+        userStateService.getData("carol");
+
+        assertEquals(9, userStateService.get("alice", "score"));
+        verify(userRepository, times(2)).findById("alice");
+    }
+
+    @Test
+    void flush_shouldRequeueFailedBatchBelowNewerWrites() {
+        doThrow(new IllegalStateException("database down")).when(userRepository).mergeData(anyMap());
+        userStateService.put("alice", "score", 1);
+        userStateService.put("alice", "book", "Ruth");
+        assertEquals(0, userStateService.flush());
+
+        doNothingOnMerge();
+        userStateService.put("alice", "score", 2);
+        assertEquals(1, userStateService.flush());
+
+        List<Map<String, String>> merges = capturedMerges();
+        assertEquals("{\"score\":2,\"book\":\"Ruth\"}", merges.get(merges.size() - 1).get("alice"));
+    }
+
+    @Test
+    void getData_shouldSeeBatchWhileItIsBeingFlushed() throws Exception {
+        when(userRepository.findById("alice"))
+                .thenReturn(Optional.of(new User("alice", new HashMap<>(Map.of("score", 1)))));
+        CountDownLatch merging = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            merging.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(userRepository).mergeData(anyMap());
+
+        userStateService.put("alice", "score", 7);
+        Thread flusher = new Thread(userStateService::flush);
+        flusher.start();
+        assertTrue(merging.await(5, TimeUnit.SECONDS));
+
+        assertEquals(7, userStateService.get("alice", "score"));
+        release.countDown();
+        flusher.join(5_000);
+        assertEquals(7, userStateService.get("alice", "score"));
+        verify(userRepository, times(1)).findById("alice");
+    }
+
+    @Test
+    void getData_shouldReloadWhenFlushEndsDuringLoad() {
+        User stale = new User("alice", new HashMap<>(Map.of("score", 1)));
+        User fresh = new User("alice", new HashMap<>(Map.of("score", 7)));
+        when(userRepository.findById("alice"))
+                .thenAnswer(invocation -> {
+                    // The row was read before the flush committed
+                    userStateService.flush();
+                    return Optional.of(stale);
+                })
+                .thenReturn(Optional.of(fresh));
+
+        userStateService.put("alice", "score", 7);
+
+        assertEquals(7, userStateService.get("alice", "score"));
+        assertEquals(7, userStateService.get("alice", "score"));
+        verify(userRepository, times(2)).findById("alice");
+    }
+
+    @Test
+    void putAll_shouldHandFullBufferToSchedulerInsteadOfWritingInline() {
+        UserStateService small = new UserStateService(userRepository, new ObjectMapper(), taskScheduler, 2, 2);
+        small.put("alice", "score", 1);
+        small.put("bob", "score", 2);
+        small.put("carol", "score", 3);
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(task.capture(), any(Instant.class));
+        verify(userRepository, never()).mergeData(anyMap());
+
+        task.getValue().run();
+        assertEquals(Set.of("alice", "bob", "carol"), capturedMerge().keySet());
+    }
+
+    @Test
+    void put_shouldRejectBlankUserId() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userStateService.put(" ", "score", 1));
+        verify(userRepository, never()).mergeData(anyMap());
+    }
+
+    private void doNothingOnMerge() {
+        doNothing().when(userRepository).mergeData(anyMap());
+    }
+
+    private Map<String, String> capturedMerge() {
+        List<Map<String, String>> merges = capturedMerges();
+        return merges.get(merges.size() - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, String>> capturedMerges() {
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(userRepository, atLeastOnce()).mergeData(captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,88 @@
+package com.nghood.christianity.service;
+
+import com.nghood.christianity.corpus.BibleCorpus;
+import com.nghood.christianity.model.CanonicalBook;
+import com.nghood.christianity.model.SamplingMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerseSamplerTest {
+
+    private static final int DRAWS = 20_000;
+
+    // Genesis: one chapter of three verses; John: one single-verse chapter plus one long verse
+    private final BibleCorpus corpus = BibleCorpus.builder()
+            .addVerse(CanonicalBook.GENESIS, 1, 1, "one")
+            .addVerse(CanonicalBook.GENESIS, 1, 2, "two")
+            .addVerse(CanonicalBook.GENESIS, 1, 3, "three")
+            .addVerse(CanonicalBook.JOHN, 1, 1, "w w w w w w w w w w w w w w w w w w w w w w w w w w w")
+            .addVerse(CanonicalBook.JOHN, 11, 35, "Jesus wept.")
+            .build();
+    private final VerseSampler sampler = new VerseSampler(corpus);
+
+    @Test
+    void draw_bookMode_shouldGiveEachBookEqualShare() {
+        double genesisShare = genesisShare(SamplingMode.BOOK);
+
+        assertEquals(0.5, genesisShare, 0.02);
+    }
+
+    @Test
+    void draw_verseMode_shouldWeightBooksByVerseCount() {
+        double genesisShare = genesisShare(SamplingMode.VERSE);
+
+        assertEquals(3.0 / 5.0, genesisShare, 0.02);
+    }
+
+    @Test
+    void draw_wordMode_shouldWeightBooksByWordCount() {
+        double genesisShare = genesisShare(SamplingMode.WORD);
+
+        assertEquals(3.0 / 32.0, genesisShare, 0.02);
+    }
+
+    @Test
+    void draw_shouldStayInsideSelection() {
+        BitSet books = new BitSet();
+        books.set(CanonicalBook.JOHN.ordinal());
+        VerseSampler.Selection selection = sampler.select(books);
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 1_000; i++) {
+            int ordinal = sampler.draw(selection, SamplingMode.BOOK, random);
+            assertEquals(CanonicalBook.JOHN.ordinal(), corpus.verseBook(ordinal));
+        }
+    }
+
+    @Test
+    void select_shouldRejectSelectionWithoutLoadedBooks() {
+        BitSet books = new BitSet();
+        books.set(CanonicalBook.EXODUS.ordinal());
+
+        assertThrows(IllegalArgumentException.class, () -> sampler.select(books));
+    }
+
+    private double genesisShare(SamplingMode mode) {
+        BitSet books = new BitSet();
+        books.set(CanonicalBook.GENESIS.ordinal());
+        books.set(CanonicalBook.JOHN.ordinal());
+        VerseSampler.Selection selection = sampler.select(books);
+        SplittableRandom random = new SplittableRandom(42);
+
+        int genesis = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            int ordinal = sampler.draw(selection, mode, random);
+            assertTrue(ordinal >= 0 && ordinal < corpus.verseCount());
+            if (corpus.verseBook(ordinal) == CanonicalBook.GENESIS.ordinal()) {
+                genesis++;
+            }
+        }
+        return (double) genesis / DRAWS;
+    }
+}
@@ -1,4 +1,7 @@
-const MANIFEST_PATH = './bible-data/bible-event-graph.demo.json';
+// The backend validates and indexes the manifest; subtrees come in bounded pieces and deeper levels load on expand
+const EVENT_GRAPH_API = '/api/event-graph';
+const SUBTREE_DEPTH = 16;
+const SUBTREE_LIMIT = 500;
 
 class BibleEventGraphPage extends HTMLElement {
     constructor() {
@@ -11,6 +14,7 @@ class BibleEventGraphPage extends HTMLElement {
         this.events = {};
         this.childrenByParent = new Map();
         this.parentById = new Map();
+        this.rootIds = [];
         this.manifestLoaded = false;
     }
 
@@ -197,19 +201,17 @@ class BibleEventGraphPage extends HTMLElement {
 
             if (this.state.expanded.has(eventId)) {
                 this.state.expanded.delete(eventId);
+                this.renderTable();
             } else {
                 this.state.expanded.add(eventId);
+                this.ensureChildren(eventId).then(() => this.renderTable());
             }
-
-            this.renderTable();
         });
 
-        this.expandAllButton?.addEventListener('click', () => {
-            Object.keys(this.events).forEach((id) => {
-                if ((this.childrenByParent.get(id) || []).length) {
-                    this.state.expanded.add(id);
-                }
-            });
+        this.expandAllButton?.addEventListener('click', async () => {
+            const ids = Object.keys(this.events).filter((id) => this.hasChildren(id));
+            ids.forEach((id) => this.state.expanded.add(id));
+            await Promise.all(ids.map((id) => this.ensureChildren(id)));
             this.renderTable();
         });
 
@@ -226,16 +228,27 @@ class BibleEventGraphPage extends HTMLElement {
         this.statusCallout.textContent = message;
     }
 
+    async fetchJson(path) {
+        const response = await fetch(`${window.CONFIG.API_BASE_URL}${EVENT_GRAPH_API}${path}`, {
+            headers: {
+                'X-API-Key': window.CONFIG.API_SECRET
+            }
+        });
+        if (!response.ok) {
+            throw new Error(`HTTP ${response.status}`);
+        }
+        return response.json();
+    }
+
     async loadManifest() {
         this.setStatus('callout-warning', 'Loading manifest…');
         try {
-            const response = await fetch(MANIFEST_PATH, { cache: 'no-cache' });
-            if (!response.ok) {
-                throw new Error(`HTTP ${response.status}`);
-            }
-
-            const manifest = await response.json();
-            this.applyManifest(manifest);
+            const roots = await this.fetchJson('/roots');
+            const subtrees = await Promise.all(roots.map((root) =>
+                this.fetchJson(`/events/${encodeURIComponent(root.id)}?depth=${SUBTREE_DEPTH}&limit=${SUBTREE_LIMIT}`)));
+            this.rootIds = subtrees.map((subtree) => subtree.id);
+            subtrees.forEach((subtree) => this.addNode(subtree));
+            this.manifestLoaded = true;
             this.statusCallout?.remove();
             this.renderTable();
         } catch (error) {
@@ -247,35 +260,34 @@ class BibleEventGraphPage extends HTMLElement {
         }
     }
 
-    applyManifest(manifest) {
-        this.events = manifest?.events || {};
-        this.childrenByParent.clear();
-        this.parentById.clear();
-
-        Object.values(this.events).forEach((event) => {
-            const parentId = event.parent_id ?? null;
-            if (!this.childrenByParent.has(parentId)) {
-                this.childrenByParent.set(parentId, []);
-            }
-            this.childrenByParent.get(parentId).push(event.id);
-            this.parentById.set(event.id, parentId);
-        });
+    // Nodes arrive with their children already in display order; a truncated node's children are fetched on expand
+    addNode(node) {
+        this.events[node.id] = node;
+        this.parentById.set(node.id, node.parentId ?? null);
+        if (!node.truncated) {
+            this.childrenByParent.set(node.id, node.children.map((child) => child.id));
+            node.children.forEach((child) => this.addNode(child));
+        }
+    }
 
-        this.manifestLoaded = true;
+    async ensureChildren(eventId) {
+        if (this.childrenByParent.has(eventId) || !this.hasChildren(eventId)) return;
+        try {
+            const subtree = await this.fetchJson(`/events/${encodeURIComponent(eventId)}?depth=${SUBTREE_DEPTH}&limit=${SUBTREE_LIMIT}`);
+            this.addNode(subtree);
+        } catch (error) {
+            console.error(`Failed to load events under ${eventId}:`, error);
+            this.state.expanded.delete(eventId);
+        }
     }
 
-    getChildren(parentId) {
-        const children = this.childrenByParent.get(parentId ?? null) || [];
-        return [...children].sort((a, b) => {
-            const diff = this.getOrderNumber(a) - this.getOrderNumber(b);
-            if (diff !== 0) return diff;
-            return (this.events[a]?.title || '').localeCompare(this.events[b]?.title || '');
-        });
+    hasChildren(eventId) {
+        return (this.events[eventId]?.childCount || 0) > 0;
     }
 
-    getOrderNumber(eventId) {
-        const raw = this.events[eventId]?.attributes?.order?.[0];
-        return raw ? parseInt(raw, 10) : Number.MAX_SAFE_INTEGER;
+    getChildren(parentId) {
+        if (parentId === null) return this.rootIds;
+        return this.childrenByParent.get(parentId) || [];
     }
 
     buildVisibleRows(parentId = null, depth = 0, rows = []) {
@@ -307,7 +319,7 @@ class BibleEventGraphPage extends HTMLElement {
 
         rows.forEach(({ id, depth }) => {
             const event = this.events[id];
-            const hasChildren = (this.childrenByParent.get(id) || []).length > 0;
+            const hasChildren = this.hasChildren(id);
             const tr = document.createElement('tr');
 
             const nameCell = document.createElement('td');
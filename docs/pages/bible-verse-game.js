@@ -249,7 +249,7 @@ class BibleVerseGamePage extends HTMLElement {
         
         try {
             const booksParam = Array.from(this.gameState.selectedBooks).join(',');
-            const response = await fetch(`/api/bible-game/random-verse?books=${encodeURIComponent(booksParam)}`, {
+            const response = await fetch(`/api/bible-game/random-verse?books=${encodeURIComponent(booksParam)}&session=true`, {
                 headers: {
                     'X-API-Key': window.CONFIG.API_SECRET
                 }
@@ -288,14 +288,20 @@ class BibleVerseGamePage extends HTMLElement {
             const fromVerse = Math.min(...this.gameState.displayedVerses.map(v => v.verse));
             const toVerse = Math.max(...this.gameState.displayedVerses.map(v => v.verse));
             
-            const response = await fetch(
-                `/api/bible-game/expand-verse?book=${encodeURIComponent(this.gameState.currentVerse.book)}&chapter=${this.gameState.currentVerse.chapter}&fromVerse=${fromVerse}&toVerse=${toVerse}`,
-                {
-                    headers: {
-                        'X-API-Key': window.CONFIG.API_SECRET
-                    }
-                }
-            );
+            const headers = { 'X-API-Key': window.CONFIG.API_SECRET };
+            const sessionId = this.gameState.currentVerse.sessionId;
+
+            // The session remembers the shown range; fall back to the stateless call once it has expired
+            let response = sessionId
+                ? await fetch(`/api/bible-game/sessions/${encodeURIComponent(sessionId)}/expand`, { method: 'POST', headers })
+                : null;
+            if (!response || response.status === 404) {
+                this.gameState.currentVerse.sessionId = null;
+                response = await fetch(
+                    `/api/bible-game/expand-verse?book=${encodeURIComponent(this.gameState.currentVerse.book)}&chapter=${this.gameState.currentVerse.chapter}&fromVerse=${fromVerse}&toVerse=${toVerse}`,
+                    { headers }
+                );
+            }
             
             if (!response.ok) {
                 throw new Error(`HTTP ${response.status}: ${response.statusText}`);
@@ -18,6 +18,11 @@ class WebNumerologyPage extends HTMLElement {
             sidebar.setAttribute('slot', 'right');
             sidebar.appendChild(toc);
             layout?.appendChild(sidebar);
+
+            this.querySelector('#numerology-search')?.addEventListener('submit', (event) => {
+                event.preventDefault();
+                this.searchWindows(new FormData(event.target));
+            });
         } catch (error) {
             console.error('Error loading article:', error);
             this.innerHTML = `
@@ -28,6 +33,44 @@ class WebNumerologyPage extends HTMLElement {
             `;
         }
     }
+
+    async searchWindows(form) {
+        const summary = this.querySelector('#numerology-summary');
+        const list = this.querySelector('#numerology-matches');
+        const params = new URLSearchParams({
+            metric: form.get('metric'),
+            window: form.get('window'),
+            divisor: form.get('divisor'),
+            limit: '20'
+        });
+        if (form.get('scope').trim()) {
+            params.set('scope', form.get('scope').trim());
+        }
+
+        summary.hidden = false;
+        summary.textContent = 'Grinding...';
+        list.innerHTML = '';
+        try {
+            const response = await fetch(`${window.CONFIG.API_BASE_URL}/api/numerology/windows?${params}`, {
+                headers: {
+                    'X-API-Key': window.CONFIG.API_SECRET
+                }
+            });
+            if (!response.ok) {
+                throw new Error(response.status === 400 ? 'Check the scope and numbers.' : response.statusText);
+            }
+            const result = await response.json();
+            summary.textContent = `${result.totalMatches.toLocaleString()} of ${result.windowsSearched.toLocaleString()} runs are divisible by ${result.divisor}. First ${result.matches.length}:`;
+            result.matches.forEach((match) => {
+                const item = document.createElement('li');
+                item.textContent = `${match.reference.reference}: ${match.value.toLocaleString()}`;
+                list.appendChild(item);
+            });
+        } catch (error) {
+            console.error('Error searching numerology windows:', error);
+            summary.textContent = `Could not run the search. ${error.message}`;
+        }
+    }
 }
 
 customElements.define('web-numerology-page', WebNumerologyPage);
\ No newline at end of file
@@ -78,12 +78,16 @@ services:
 
   nginx:
     image: nginx:alpine
+    environment:
+      # Rendered into the config's API key check; only this variable is substituted
+      - API_SECRET=${API_SECRET:-prod-secret-456}
+      - NGINX_ENVSUBST_FILTER=^API_SECRET$$
     ports:
       - "${NGINX_PORT:-80}:80"
       - "${NGINX_SSL_PORT:-443}:443"
     volumes:
       - ${FRONTEND_PATH:-./frontend}:/usr/share/nginx/html:ro
-      - ./nginx/nginx.conf:/etc/nginx/conf.d/default.conf:ro
+      - ./nginx/nginx.conf:/etc/nginx/templates/default.conf.template:ro
       - ${SSL_CERTS:-./nginx/ssl}:/etc/nginx/ssl:ro
     depends_on:
       - spring-backend
@@ -16,8 +16,11 @@ const path = require('path');
 const ROOT_DIR = path.resolve(__dirname, '..');
 const DEFAULT_MANIFEST = path.join(
     ROOT_DIR,
-    'docs',
-    'bible-data',
+    'backend',
+    'src',
+    'main',
+    'resources',
+    'data',
     'bible-event-graph.demo.json'
 );
 